@@ -22,6 +22,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
@@ -177,8 +178,12 @@ public class AuthorizedAppsService {
         } else {
             description = error.getMessage();
         }
-        return new APIError(status, new ErrorResponse.Builder().withCode(error.getCode())
-                                                               .withMessage(error.getMessage())
-                                                               .withDescription(description).build());
+        ErrorResponse errorResponse = new ErrorResponse.Builder().withCode(error.getCode())
+                                                                 .withMessage(error.getMessage())
+                                                                 .withDescription(description).build();
+        if (status.getFamily() == Status.Family.CLIENT_ERROR) {
+            return new ClientAPIError(status, errorResponse);
+        }
+        return new APIError(status, errorResponse);
     }
 }
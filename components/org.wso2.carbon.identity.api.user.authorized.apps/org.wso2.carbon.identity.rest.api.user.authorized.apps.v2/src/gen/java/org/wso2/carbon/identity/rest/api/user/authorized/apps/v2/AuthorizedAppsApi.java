@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.util.List;
 
 import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto.ErrorDTO;
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto.TokenRevocationJobDTO;
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
@@ -68,4 +69,51 @@ public class AuthorizedAppsApi  {
         return delegate.deleteIssuedTokensByAppId(applicationId );
     }
 
+    @Valid
+    @POST
+    @Path("/{application-id}/tokens/revocations")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Starts a job to remove all the tokens granted for an application", notes = "Starts an asynchronous job to remove all the tokens granted for a given app ID. The progress of the job can be read from the location returned in the response. If the application already has a queued or running job, that job is returned. ", response = TokenRevocationJobDTO.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "admin" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 202, message = "Accepted", response = TokenRevocationJobDTO.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "The specified resource was not found", response = ErrorDTO.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = ErrorDTO.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = ErrorDTO.class)
+    })
+    public Response createTokenRevocationJob(@ApiParam(value = "Application ID",required=true) @PathParam("application-id") String applicationId) {
+
+        return delegate.createTokenRevocationJob(applicationId );
+    }
+
+    @Valid
+    @GET
+    @Path("/{application-id}/tokens/revocations/{job-id}")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Gets the status of a token revocation job", notes = "Gets the status of a job which removes all the tokens granted for a given app ID. The job removes the tokens with a single call to the token store, hence the status does not report the number of removed tokens, and a job stays IN_PROGRESS until that call returns. The status of a job can only be read from the node which accepted the job, for up to a day after the job ends. ", response = TokenRevocationJobDTO.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "admin" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK", response = TokenRevocationJobDTO.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "The specified resource was not found", response = ErrorDTO.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = ErrorDTO.class)
+    })
+    public Response getTokenRevocationJob(@ApiParam(value = "Application ID",required=true) @PathParam("application-id") String applicationId, @ApiParam(value = "Job ID",required=true) @PathParam("job-id") String jobId) {
+
+        return delegate.getTokenRevocationJob(applicationId,  jobId );
+    }
+
 }
@@ -31,4 +31,8 @@ import javax.ws.rs.core.Response;
 public interface AuthorizedAppsApiService {
 
       public Response deleteIssuedTokensByAppId(String applicationId);
+
+      public Response createTokenRevocationJob(String applicationId);
+
+      public Response getTokenRevocationJob(String applicationId, String jobId);
 }
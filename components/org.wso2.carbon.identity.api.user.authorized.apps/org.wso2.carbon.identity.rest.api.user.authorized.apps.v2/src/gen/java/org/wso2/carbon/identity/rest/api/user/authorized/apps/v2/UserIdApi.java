@@ -99,7 +99,8 @@ public class UserIdApi {
         @ApiResponse(code = 200, message = "search results matching criteria", response = AuthorizedAppDTO.class, responseContainer = "List"),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
-        @ApiResponse(code = 500, message = "Internal Server Error", response = ErrorDTO.class)
+        @ApiResponse(code = 500, message = "Internal Server Error", response = ErrorDTO.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = ErrorDTO.class)
     })
     public Response listUserAuthorizedApps(@ApiParam(value = "username of the user",required=true) @PathParam("user-id") String userId) {
 
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenRevocationJobDTO  {
+
+    public enum StatusEnum {
+
+        QUEUED(String.valueOf("QUEUED")), IN_PROGRESS(String.valueOf("IN_PROGRESS")),
+        COMPLETED(String.valueOf("COMPLETED")), FAILED(String.valueOf("FAILED"));
+
+        private String value;
+
+        StatusEnum(String v) {
+            value = v;
+        }
+
+        @JsonValue
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+
+        @JsonCreator
+        public static StatusEnum fromValue(String value) {
+            for (StatusEnum b : StatusEnum.values()) {
+                if (b.value.equals(value)) {
+                    return b;
+                }
+            }
+            throw new IllegalArgumentException("Unexpected value '" + value + "'");
+        }
+    }
+
+    private String id;
+    private String applicationId;
+    private StatusEnum status;
+    private Long createdTime;
+    private Long startedTime;
+    private Long completedTime;
+
+
+    /**
+    * Unique Id of the job.
+    **/
+    public TokenRevocationJobDTO id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "6b1e3f1c-3b8a-4a5e-9a2f-8d2a4c5e7f10", required = true, value = "Unique Id of the job.")
+    @JsonProperty("id")
+    @Valid
+    @NotNull(message = "Property id cannot be null.")
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * Unique Id of the application whose tokens are revoked.
+    **/
+    public TokenRevocationJobDTO applicationId(String applicationId) {
+
+        this.applicationId = applicationId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "298c5fd8-01ac-4ada-bc10-1ce37f32140", required = true, value = "Unique Id of the application whose tokens are revoked.")
+    @JsonProperty("applicationId")
+    @Valid
+    @NotNull(message = "Property applicationId cannot be null.")
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    /**
+    * Status of the job.
+    **/
+    public TokenRevocationJobDTO status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "IN_PROGRESS", required = true, value = "Status of the job.")
+    @JsonProperty("status")
+    @Valid
+    @NotNull(message = "Property status cannot be null.")
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    * Time the job was created at, in epoch milliseconds.
+    **/
+    public TokenRevocationJobDTO createdTime(Long createdTime) {
+
+        this.createdTime = createdTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1767225600000", value = "Time the job was created at, in epoch milliseconds.")
+    @JsonProperty("createdTime")
+    @Valid
+    public Long getCreatedTime() {
+        return createdTime;
+    }
+    public void setCreatedTime(Long createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+    * Time the revocation started at, in epoch milliseconds. Absent while the job is queued.
+    **/
+    public TokenRevocationJobDTO startedTime(Long startedTime) {
+
+        this.startedTime = startedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1767225600250", value = "Time the revocation started at, in epoch milliseconds. Absent while the job is queued.")
+    @JsonProperty("startedTime")
+    @Valid
+    public Long getStartedTime() {
+        return startedTime;
+    }
+    public void setStartedTime(Long startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    /**
+    * Time the job completed or failed at, in epoch milliseconds. Absent while the job is queued or in progress.
+    **/
+    public TokenRevocationJobDTO completedTime(Long completedTime) {
+
+        this.completedTime = completedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1767225720250", value = "Time the job completed or failed at, in epoch milliseconds. Absent while the job is queued or in progress.")
+    @JsonProperty("completedTime")
+    @Valid
+    public Long getCompletedTime() {
+        return completedTime;
+    }
+    public void setCompletedTime(Long completedTime) {
+        this.completedTime = completedTime;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TokenRevocationJobDTO tokenRevocationJobDTO = (TokenRevocationJobDTO) o;
+        return Objects.equals(this.id, tokenRevocationJobDTO.id) &&
+            Objects.equals(this.applicationId, tokenRevocationJobDTO.applicationId) &&
+            Objects.equals(this.status, tokenRevocationJobDTO.status) &&
+            Objects.equals(this.createdTime, tokenRevocationJobDTO.createdTime) &&
+            Objects.equals(this.startedTime, tokenRevocationJobDTO.startedTime) &&
+            Objects.equals(this.completedTime, tokenRevocationJobDTO.completedTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, applicationId, status, createdTime, startedTime, completedTime);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class TokenRevocationJobDTO {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    applicationId: ").append(toIndentedString(applicationId)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    createdTime: ").append(toIndentedString(createdTime)).append("\n");
+        sb.append("    startedTime: ").append(toIndentedString(startedTime)).append("\n");
+        sb.append("    completedTime: ").append(toIndentedString(completedTime)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
@@ -19,13 +19,19 @@
 package org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core;
 
 import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.cache.ApplicationResolutionCache;
+import org.wso2.carbon.identity.api.user.common.cache.ApplicationResolutionCache.ResolvedApplication;
+import org.wso2.carbon.identity.api.user.common.context.UserRequestContext;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.user.common.function.UserToUniqueId;
+import org.wso2.carbon.identity.api.user.common.job.UserApiJobExecutor;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.InboundAuthenticationConfig;
 import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
@@ -42,17 +48,22 @@ import org.wso2.carbon.identity.oauth.dto.OAuthRevocationRequestDTO;
 import org.wso2.carbon.identity.oauth.dto.OAuthRevocationResponseDTO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeException;
 import org.wso2.carbon.identity.oauth2.OAuth2ScopeService;
-import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.OAuth2ScopeConsentResponse;
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core.functions.TokenRevocationJobToExternal;
 import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto.AuthorizedAppDTO;
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto.TokenRevocationJobDTO;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -71,6 +82,8 @@ public class AuthorizedAppsService {
     private final OAuthAdminServiceImpl oAuthAdminService;
     private final OAuth2ScopeService oAuth2ScopeService;
     private final RealmService realmService;
+    private final ParallelLookupExecutor parallelLookupExecutor = ParallelLookupExecutor.getInstance();
+    private final ApplicationResolutionCache applicationResolutionCache = ApplicationResolutionCache.getInstance();
 
     public AuthorizedAppsService(ApplicationManagementService applicationManagementService,
                                  OAuthAdminServiceImpl oAuthAdminService,
@@ -91,22 +104,19 @@ public class AuthorizedAppsService {
      */
     public void deleteUserAuthorizedApps(User user, String applicationId) {
 
-        String applicationName = getApplicationName(user, applicationId);
+        ResolvedApplication application = getApplication(user, applicationId);
         OAuthRevocationRequestDTO oAuthRevocationRequestDTO = new OAuthRevocationRequestDTO();
-        oAuthRevocationRequestDTO.setApps(new String[]{applicationName});
         try {
             startTenantFlowWithUser(getUsernameWithUserStoreDomain(user), user.getTenantDomain());
-            OAuthConsumerAppDTO[] appsAuthorizedByUser = oAuthAdminService.getAppsAuthorizedByUser();
-            Optional<OAuthConsumerAppDTO> first = Arrays.stream(appsAuthorizedByUser)
-                    .filter(oAuthConsumerAppDTO -> oAuthConsumerAppDTO.getApplicationName().equals(applicationName))
-                    .findFirst();
+            OAuthConsumerAppDTO authorizedApp = getAuthorizedApp(user, application);
             String userId = getUserIdFromUser(user);
             oAuth2ScopeService.revokeUserConsentForApplication(userId, applicationId,
-                    IdentityTenantUtil.getTenantId(user.getTenantDomain()));
-            if (!first.isPresent()) {
+                    UserRequestContext.getTenantId(user.getTenantDomain()));
+            if (authorizedApp == null) {
                 throw handleError(NOT_FOUND, Constants.ErrorMessages.ERROR_CODE_INVALID_APPLICATION_ID, applicationId,
                         user.toFullQualifiedUsername());
             }
+            oAuthRevocationRequestDTO.setApps(new String[]{authorizedApp.getApplicationName()});
             OAuthRevocationResponseDTO oAuthRevocationResponseDTO = oAuthAdminService
                     .revokeAuthzForAppsByResourceOwner(oAuthRevocationRequestDTO);
             if (!oAuthRevocationResponseDTO.isError()) {
@@ -138,7 +148,7 @@ public class AuthorizedAppsService {
             OAuthRevocationResponseDTO oAuthRevocationResponseDTO = oAuthAdminService
                     .revokeAuthzForAppsByResourceOwner(oAuthRevocationRequestDTO);
             String userId = getUserIdFromUser(user);
-            oAuth2ScopeService.revokeUserConsents(userId, IdentityTenantUtil.getTenantId(user.getTenantDomain()));
+            oAuth2ScopeService.revokeUserConsents(userId, UserRequestContext.getTenantId(user.getTenantDomain()));
             if (!oAuthRevocationResponseDTO.isError()) {
                 //TODO: Handle
                 log.warn("No applications can be found for the user: " + user.getUserName());
@@ -161,23 +171,19 @@ public class AuthorizedAppsService {
      */
     public AuthorizedAppDTO listUserAuthorizedAppsByAppId(User user, String applicationId) {
 
-        String applicationName = getApplicationName(user, applicationId);
+        ResolvedApplication application = getApplication(user, applicationId);
         AuthorizedAppDTO authorizedAppDTO;
         try {
             startTenantFlowWithUser(getUsernameWithUserStoreDomain(user), user.getTenantDomain());
-            OAuthConsumerAppDTO[] appsAuthorizedByUser = oAuthAdminService.getAppsAuthorizedByUser();
-            Optional<OAuthConsumerAppDTO> authConsumerAppDTO = Arrays.stream(appsAuthorizedByUser)
-                    .filter(oAuthConsumerAppDTO -> oAuthConsumerAppDTO.getApplicationName().equals(applicationName))
-                    .findFirst();
-            if (authConsumerAppDTO.isPresent()) {
-                String clientKey = authConsumerAppDTO.get().getOauthConsumerKey();
-                String resourceId = getApplicationResourceIdByClientId(clientKey, user.getTenantDomain());
+            OAuthConsumerAppDTO authorizedApp = getAuthorizedApp(user, application);
+            if (authorizedApp != null) {
+                String resourceId = application.getResourceId();
                 String userId = getUserIdFromUser(user);
                 OAuth2ScopeConsentResponse oAuth2ScopeConsentResponse =
                         oAuth2ScopeService.getUserConsentForApp(userId, resourceId,
-                                IdentityTenantUtil.getTenantId(user.getTenantDomain()));
-                authorizedAppDTO = buildAuthorizedAppDTO(resourceId, authConsumerAppDTO.get(),
-                        oAuth2ScopeConsentResponse);
+                                UserRequestContext.getTenantId(user.getTenantDomain()));
+                authorizedAppDTO = buildAuthorizedAppDTO(resourceId, authorizedApp,
+                        oAuth2ScopeConsentResponse.getApprovedScopes());
             } else {
                 throw handleError(NOT_FOUND, Constants.ErrorMessages.ERROR_CODE_INVALID_APPLICATION_ID, applicationId,
                         user.toFullQualifiedUsername());
@@ -192,7 +198,10 @@ public class AuthorizedAppsService {
     }
 
     /**
-     * Get the authorized applications list for the user.
+     * Get the authorized applications list for the user. The user id is resolved once, the consents of the user for
+     * all the applications are read with a single query, and the resource id of an application is resolved once for
+     * each distinct client id. When the parallel lookups are enabled, the resource id and the consent of each
+     * application are looked up in parallel instead.
      *
      * @param user User.
      * @return List of authorized applications list for the user.
@@ -206,15 +215,24 @@ public class AuthorizedAppsService {
             if (ArrayUtils.isEmpty(appsAuthorizedByUser)) {
                 return Collections.emptyList();
             }
+            String userId = getUserIdFromUser(user);
+            int tenantId = UserRequestContext.getTenantId(user.getTenantDomain());
+            if (parallelLookupExecutor.isEnabled()) {
+                return listUserAuthorizedAppsInParallel(appsAuthorizedByUser, userId, tenantId,
+                        user.getTenantDomain());
+            }
+            Map<String, List<String>> approvedScopes = getApprovedScopesByApp(userId, tenantId);
+            Map<String, String> resourceIds = new HashMap<>();
             for (OAuthConsumerAppDTO authConsumerAppDTO : appsAuthorizedByUser) {
                 String clientKey = authConsumerAppDTO.getOauthConsumerKey();
-                String resourceId = getApplicationResourceIdByClientId(clientKey, user.getTenantDomain());
-                String userId = getUserIdFromUser(user);
-                OAuth2ScopeConsentResponse oAuth2ScopeConsentResponse =
-                        oAuth2ScopeService.getUserConsentForApp(userId, resourceId,
-                        IdentityTenantUtil.getTenantId(user.getTenantDomain()));
+                String resourceId = resourceIds.get(clientKey);
+                if (resourceId == null) {
+                    resourceId = getApplicationResourceIdByClientId(clientKey,
+                            authConsumerAppDTO.getApplicationName(), user.getTenantDomain());
+                    resourceIds.put(clientKey, resourceId);
+                }
                 authorizedAppDTOS.add(buildAuthorizedAppDTO(resourceId, authConsumerAppDTO,
-                        oAuth2ScopeConsentResponse));
+                        approvedScopes.getOrDefault(resourceId, Collections.emptyList())));
             }
         } catch (IdentityOAuthAdminException | IdentityOAuth2ScopeException e) {
             throw handleError(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessages.ERROR_CODE_GET_APP_BY_USER,
@@ -233,34 +251,88 @@ public class AuthorizedAppsService {
     public void deleteIssuedTokensByAppId(String applicationId) {
 
         String tenantDomain = IdentityTenantUtil.resolveTenantDomain();
-        ServiceProvider application = getServiceProvider(applicationId, tenantDomain);
+        OAuthAppRevocationRequestDTO oAuthAppRevocationRequestDTO = buildTokenRevocationRequest(applicationId,
+                tenantDomain);
+        try {
+            oAuthAdminService.revokeIssuedTokensByApplication(oAuthAppRevocationRequestDTO);
+        } catch (IdentityOAuthAdminException e) {
+            throw handleError(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessages.ERROR_CODE_REVOKE_TOKEN_BY_APP_ID, applicationId, tenantDomain);
+        }
+    }
 
-        // Extract the inbound authentication request config for the given inbound type.
-        InboundAuthenticationRequestConfig inboundAuthenticationRequestConfig =
-                getInboundAuthenticationRequestConfig(application);
-        if (inboundAuthenticationRequestConfig == null) {
+    /**
+     * Start a job to delete the issued tokens for a given application ID, outside of the request. If the
+     * application already has a queued or running job, that job is returned instead.
+     *
+     * @param applicationId Application ID
+     * @return TokenRevocationJobDTO of the job.
+     */
+    public TokenRevocationJobDTO startTokenRevocationJob(String applicationId) {
+
+        String tenantDomain = IdentityTenantUtil.resolveTenantDomain();
+        OAuthAppRevocationRequestDTO oAuthAppRevocationRequestDTO = buildTokenRevocationRequest(applicationId,
+                tenantDomain);
+        TokenRevocationJob job = UserApiJobExecutor.getInstance().submit(
+                new TokenRevocationJob(tenantDomain, applicationId), applicationId, tokenRevocationJob ->
+                        oAuthAdminService.revokeIssuedTokensByApplication(oAuthAppRevocationRequestDTO));
+        if (job == null) {
+            throw handleError(Response.Status.SERVICE_UNAVAILABLE,
+                    Constants.ErrorMessages.ERROR_CODE_TOKEN_REVOCATION_JOB_REJECTED);
+        }
+        return new TokenRevocationJobToExternal().apply(job);
+    }
+
+    /**
+     * Get the status of a token revocation job of a given application ID.
+     *
+     * @param applicationId Application ID
+     * @param jobId         Job ID
+     * @return TokenRevocationJobDTO of the job.
+     */
+    public TokenRevocationJobDTO getTokenRevocationJob(String applicationId, String jobId) {
+
+        String tenantDomain = IdentityTenantUtil.resolveTenantDomain();
+        TokenRevocationJob job = UserApiJobExecutor.getInstance().getJob(tenantDomain, jobId,
+                TokenRevocationJob.class);
+        if (job == null || !job.getApplicationId().equals(applicationId)) {
+            throw handleError(Response.Status.NOT_FOUND,
+                    Constants.ErrorMessages.ERROR_CODE_TOKEN_REVOCATION_JOB_NOT_FOUND, jobId, applicationId,
+                    tenantDomain);
+        }
+        return new TokenRevocationJobToExternal().apply(job);
+    }
+
+    /**
+     * Build the request to revoke the tokens issued to the given application. The client id is read from the service
+     * provider instead of the cache, as the tokens of a cached client id which is replaced by a re-created OAuth
+     * inbound would be revoked instead.
+     *
+     * @param applicationId Application ID.
+     * @param tenantDomain  Tenant domain of the application.
+     * @return Token revocation request.
+     */
+    private OAuthAppRevocationRequestDTO buildTokenRevocationRequest(String applicationId, String tenantDomain) {
+
+        ResolvedApplication application = getApplicationById(applicationId, tenantDomain);
+
+        String clientId = application.getClientId();
+        if (clientId == null) {
             // This means the inbound is not configured for the particular app.
             throw handleError(Response.Status.NOT_FOUND, Constants.ErrorMessages.ERROR_CODE_INVALID_INBOUND_PROTOCOL,
                     OAUTH2, applicationId, tenantDomain);
         }
-        String clientId = inboundAuthenticationRequestConfig.getInboundAuthKey();
 
         OAuthAppRevocationRequestDTO oAuthAppRevocationRequestDTO = new OAuthAppRevocationRequestDTO();
         oAuthAppRevocationRequestDTO.setApplicationResourceId(applicationId);
         oAuthAppRevocationRequestDTO.setConsumerKey(clientId);
-        try {
-            oAuthAdminService.revokeIssuedTokensByApplication(oAuthAppRevocationRequestDTO);
-        } catch (IdentityOAuthAdminException e) {
-            throw handleError(Response.Status.INTERNAL_SERVER_ERROR,
-                    Constants.ErrorMessages.ERROR_CODE_REVOKE_TOKEN_BY_APP_ID, applicationId, tenantDomain);
-        }
+        return oAuthAppRevocationRequestDTO;
     }
 
-    private ServiceProvider getServiceProvider(String applicationId, String tenantDomain) {
+    private ResolvedApplication getApplicationById(String applicationId, String tenantDomain) {
 
         try {
-            ServiceProvider application = applicationManagementService.
-                    getApplicationByResourceId(applicationId, tenantDomain);
+            ResolvedApplication application = loadApplicationByResourceId(applicationId, tenantDomain);
             if (application == null) {
                 throw handleError(Response.Status.NOT_FOUND, Constants.ErrorMessages.ERROR_CODE_APPLICATION_NOT_FOUND,
                         applicationId, tenantDomain);
@@ -295,9 +367,13 @@ public class AuthorizedAppsService {
         } else {
             description = error.getMessage();
         }
-        return new APIError(status, new ErrorResponse.Builder().withCode(error.getCode())
+        ErrorResponse errorResponse = new ErrorResponse.Builder().withCode(error.getCode())
                 .withMessage(error.getMessage())
-                .withDescription(description).build());
+                .withDescription(description).build();
+        if (status.getFamily() == Response.Status.Family.CLIENT_ERROR) {
+            return new ClientAPIError(status, errorResponse);
+        }
+        return new APIError(status, errorResponse);
     }
 
     private void startTenantFlowWithUser(String subject, String subjectTenantDomain) {
@@ -317,43 +393,233 @@ public class AuthorizedAppsService {
         return user.getUserStoreDomain() + UserCoreConstants.DOMAIN_SEPARATOR + user.getUserName();
     }
 
-    private String getApplicationName(User user, String resourceId) {
+    private ResolvedApplication getApplication(User user, String resourceId) {
 
         try {
-            ServiceProvider serviceProvider = applicationManagementService.getApplicationByResourceId(resourceId,
-                    user.getTenantDomain());
-            if (serviceProvider == null) {
+            ResolvedApplication application = resolveApplicationByResourceId(resourceId, user.getTenantDomain());
+            if (application == null) {
                 throw handleError(Response.Status.NOT_FOUND,
                         Constants.ErrorMessages.ERROR_CODE_INVALID_APPLICATION_ID,
                         resourceId, user.toFullQualifiedUsername());
             }
-            return serviceProvider.getApplicationName();
+            return application;
         } catch (IdentityApplicationManagementException e) {
             throw handleError(Response.Status.INTERNAL_SERVER_ERROR,
                     Constants.ErrorMessages.ERROR_CODE_GETTING_APPLICATION_INFORMATION, resourceId);
         }
     }
 
-    private String getApplicationResourceIdByClientId(String clientId, String spTenantDomain)
+    /**
+     * Resolve the application with the given resource id from the cache, loading the service provider only on a
+     * cache miss.
+     *
+     * @param resourceId   Resource id of the application.
+     * @param tenantDomain Tenant domain of the application.
+     * @return Resolved application or null if there is no application with the given resource id.
+     * @throws IdentityApplicationManagementException If an error occurs while loading the service provider.
+     */
+    private ResolvedApplication resolveApplicationByResourceId(String resourceId, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        ResolvedApplication application = applicationResolutionCache.getApplicationByResourceId(tenantDomain,
+                resourceId);
+        if (application == null) {
+            application = loadApplicationByResourceId(resourceId, tenantDomain);
+        }
+        return application;
+    }
+
+    /**
+     * Load the service provider with the given resource id and refresh the cached mappings of the application.
+     *
+     * @param resourceId   Resource id of the application.
+     * @param tenantDomain Tenant domain of the application.
+     * @return Resolved application or null if there is no application with the given resource id.
+     * @throws IdentityApplicationManagementException If an error occurs while loading the service provider.
+     */
+    private ResolvedApplication loadApplicationByResourceId(String resourceId, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        applicationResolutionCache.clearCacheEntryByResourceId(tenantDomain, resourceId);
+        ServiceProvider serviceProvider = applicationManagementService.getApplicationByResourceId(resourceId,
+                tenantDomain);
+        if (serviceProvider == null) {
+            return null;
+        }
+        InboundAuthenticationRequestConfig inboundAuthenticationRequestConfig =
+                getInboundAuthenticationRequestConfig(serviceProvider);
+        ResolvedApplication application = new ResolvedApplication(serviceProvider.getApplicationResourceId(),
+                inboundAuthenticationRequestConfig != null ?
+                        inboundAuthenticationRequestConfig.getInboundAuthKey() : null,
+                serviceProvider.getApplicationName());
+        applicationResolutionCache.addToCache(tenantDomain, application);
+        return application;
+    }
+
+    /**
+     * Get the OAuth application authorized by the user with the client id of the given application. When the user
+     * has not authorized the cached client id, the application is loaded again once before deciding that it is not
+     * authorized, as the cached client id may belong to an OAuth inbound which is re-created since.
+     *
+     * @param user        User.
+     * @param application Resolved application.
+     * @return Authorized OAuth application or null if the user has not authorized the application.
+     * @throws IdentityOAuthAdminException If an error occurs while querying the authorized applications or while
+     *                                     loading the service provider.
+     */
+    private OAuthConsumerAppDTO getAuthorizedApp(User user, ResolvedApplication application)
             throws IdentityOAuthAdminException {
 
+        OAuthConsumerAppDTO[] appsAuthorizedByUser = oAuthAdminService.getAppsAuthorizedByUser();
+        OAuthConsumerAppDTO authorizedApp = findConsumerAppOf(appsAuthorizedByUser, application);
+        if (authorizedApp != null) {
+            return authorizedApp;
+        }
+        ResolvedApplication reloadedApplication;
         try {
-            ServiceProvider serviceProvider = OAuth2ServiceComponentHolder.getApplicationMgtService().
-                    getServiceProviderByClientId(clientId, OAuthConstants.Scope.OAUTH2, spTenantDomain);
+            reloadedApplication = loadApplicationByResourceId(application.getResourceId(), user.getTenantDomain());
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityOAuthAdminException("Error while retrieving the app information", e);
+        }
+        if (reloadedApplication == null
+                || StringUtils.equals(reloadedApplication.getClientId(), application.getClientId())) {
+            return null;
+        }
+        return findConsumerAppOf(appsAuthorizedByUser, reloadedApplication);
+    }
+
+    private static OAuthConsumerAppDTO findConsumerAppOf(OAuthConsumerAppDTO[] consumerAppDTOs,
+                                                         ResolvedApplication application) {
+
+        return Arrays.stream(consumerAppDTOs)
+                .filter(oAuthConsumerAppDTO -> isConsumerAppOf(oAuthConsumerAppDTO, application))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Get the resource id of the application with the given client id from the cache, loading the service provider
+     * only on a cache miss. A cached entry with a name other than the name of the OAuth application belongs to a
+     * renamed or recreated application, hence it is resolved again.
+     *
+     * @param clientId        OAuth client id of the application.
+     * @param applicationName Name of the OAuth application.
+     * @param spTenantDomain  Tenant domain of the application.
+     * @return Resource id of the application.
+     * @throws IdentityOAuthAdminException If an error occurs while loading the service provider.
+     */
+    private String getApplicationResourceIdByClientId(String clientId, String applicationName, String spTenantDomain)
+            throws IdentityOAuthAdminException {
+
+        ResolvedApplication application = applicationResolutionCache.getApplicationByClientId(spTenantDomain,
+                clientId);
+        if (application != null) {
+            if (StringUtils.equals(application.getName(), applicationName)) {
+                return application.getResourceId();
+            }
+            applicationResolutionCache.clearCacheEntryByClientId(spTenantDomain, clientId);
+        }
+        try {
+            ServiceProvider serviceProvider = applicationManagementService.getServiceProviderByClientId(clientId,
+                    OAuthConstants.Scope.OAUTH2, spTenantDomain);
+            applicationResolutionCache.addToCache(spTenantDomain, new ResolvedApplication(
+                    serviceProvider.getApplicationResourceId(), clientId, serviceProvider.getApplicationName()));
             return serviceProvider.getApplicationResourceId();
         } catch (IdentityApplicationManagementException e) {
             throw new IdentityOAuthAdminException("Error while retrieving the app information", e);
         }
     }
 
+    /**
+     * Whether the given OAuth application belongs to the given application. The client id is compared instead of
+     * the name, as the client id of an application does not change with a rename.
+     * <p>
+     * A single application is found by scanning all the applications authorized by the user, since
+     * OAuthAdminServiceImpl offers no query of an application authorized by a user by the consumer key.
+     */
+    private static boolean isConsumerAppOf(OAuthConsumerAppDTO consumerAppDTO, ResolvedApplication application) {
+
+        return application.getClientId() != null && application.getClientId().equals(
+                consumerAppDTO.getOauthConsumerKey());
+    }
+
+    /**
+     * Look up the resource id and the consent of each application in parallel, for the backends which do not offer
+     * the consents of a user for all the applications with a single query.
+     *
+     * @param apps         Applications authorized by the user.
+     * @param userId       Unique id of the user.
+     * @param tenantId     Tenant id of the user.
+     * @param tenantDomain Tenant domain of the user.
+     * @return List of authorized applications, in the order of the given applications.
+     * @throws IdentityOAuthAdminException  If an error occurs while resolving an application or if the lookups are
+     *                                      not completed before the deadline.
+     * @throws IdentityOAuth2ScopeException If an error occurs while reading a consent.
+     * @throws APIError                     If the lookups are rejected as the queue of the pool is full.
+     */
+    private List<AuthorizedAppDTO> listUserAuthorizedAppsInParallel(OAuthConsumerAppDTO[] apps, String userId,
+                                                                    int tenantId, String tenantDomain)
+            throws IdentityOAuthAdminException, IdentityOAuth2ScopeException {
+
+        try {
+            return parallelLookupExecutor.map(Arrays.asList(apps), app -> {
+                String resourceId = getApplicationResourceIdByClientId(app.getOauthConsumerKey(),
+                        app.getApplicationName(), tenantDomain);
+                OAuth2ScopeConsentResponse consent = oAuth2ScopeService.getUserConsentForApp(userId, resourceId,
+                        tenantId);
+                return buildAuthorizedAppDTO(resourceId, app, consent.getApprovedScopes());
+            });
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RejectedExecutionException) {
+                throw handleError(Response.Status.SERVICE_UNAVAILABLE,
+                        Constants.ErrorMessages.ERROR_CODE_AUTHORIZED_APPS_LOOKUP_REJECTED);
+            }
+            if (cause instanceof IdentityOAuthAdminException) {
+                throw (IdentityOAuthAdminException) cause;
+            }
+            if (cause instanceof IdentityOAuth2ScopeException) {
+                throw (IdentityOAuth2ScopeException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IdentityOAuthAdminException("Error while retrieving the authorized apps", cause);
+        } catch (TimeoutException e) {
+            throw new IdentityOAuthAdminException("Timed out while retrieving the authorized apps", e);
+        }
+    }
+
+    /**
+     * Get the scopes approved by the user, by the resource id of the application, with a single query of the
+     * consents of the user.
+     *
+     * @param userId   Unique id of the user.
+     * @param tenantId Tenant id of the user.
+     * @return Approved scopes by the resource id of the application.
+     * @throws IdentityOAuth2ScopeException If an error occurs while reading the consents.
+     */
+    private Map<String, List<String>> getApprovedScopesByApp(String userId, int tenantId)
+            throws IdentityOAuth2ScopeException {
+
+        Map<String, List<String>> approvedScopes = new HashMap<>();
+        List<OAuth2ScopeConsentResponse> consents = oAuth2ScopeService.getUserConsents(userId, tenantId);
+        if (consents != null) {
+            for (OAuth2ScopeConsentResponse consent : consents) {
+                approvedScopes.put(consent.getAppId(), consent.getApprovedScopes());
+            }
+        }
+        return approvedScopes;
+    }
+
     private AuthorizedAppDTO buildAuthorizedAppDTO(String resourceId, OAuthConsumerAppDTO consumerAppDTO,
-                                                   OAuth2ScopeConsentResponse oAuth2ScopeConsentResponse) {
+                                                   List<String> approvedScopes) {
 
         AuthorizedAppDTO authorizedAppDTO = new AuthorizedAppDTO();
         authorizedAppDTO.setId(resourceId);
         authorizedAppDTO.setName(consumerAppDTO.getApplicationName());
         authorizedAppDTO.setClientId(consumerAppDTO.getOauthConsumerKey());
-        authorizedAppDTO.approvedScopes(oAuth2ScopeConsentResponse.getApprovedScopes());
+        authorizedAppDTO.approvedScopes(approvedScopes);
         return authorizedAppDTO;
     }
 
@@ -38,6 +38,9 @@ public class Constants {
                 "application with the application ID: %s in tenant domain: %s"),
         ERROR_CODE_INVALID_INBOUND_PROTOCOL("10003", "Inbound protocol not found.", "Inbound " +
                 "protocol: %s cannot be found for the provided application ID: %s in tenant domain: %s"),
+        ERROR_CODE_TOKEN_REVOCATION_JOB_NOT_FOUND("10004", "Token revocation job not found.",
+                "A token revocation job with ID: %s cannot be found for the application ID: %s in tenant " +
+                        "domain: %s"),
 
         // Server Errors.
         ERROR_CODE_GETTING_APPLICATION_INFORMATION("15001", "Error getting application information",
@@ -55,7 +58,11 @@ public class Constants {
                 "A system error occurred while retrieving authorized applications for " +
                         "user: %s"),
         ERROR_CODE_REVOKE_TOKEN_BY_APP_ID("15006", "Error revoking tokens", "An error " +
-                "occurred while revoking tokens for application ID: %s in tenant domain: %s");
+                "occurred while revoking tokens for application ID: %s in tenant domain: %s"),
+        ERROR_CODE_TOKEN_REVOCATION_JOB_REJECTED("15007", "Token revocation job rejected",
+                "The maximum number of pending token revocation jobs is reached. Retry the request later."),
+        ERROR_CODE_AUTHORIZED_APPS_LOOKUP_REJECTED("15008", "Authorized applications lookup rejected",
+                "The maximum number of pending authorized application lookups is reached. Retry the request later.");
 
         private final String code;
         private final String message;
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycle;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the per application lookups of a request in parallel on a bounded pool, so that the latency of a request
+ * follows the slowest lookup instead of the sum of all of them. Each lookup runs in a tenant flow with the tenant
+ * domain and the username of the calling thread, the results are returned in the order of the items, and the
+ * lookups which are not started before the deadline of the request are cancelled. A lookup which is already
+ * running is not interrupted, as the lookups read the OAuth and the consent stores, which may not leave their
+ * connections in a usable state when interrupted, and the pool thread is released when the lookup returns.
+ * <p>
+ * The parallel lookups are enabled with {@value #ENABLE_PROPERTY} in identity.xml, for backends which do not offer
+ * the bulk lookups. The pool size and the deadline in milliseconds are configured with {@value #POOL_SIZE_PROPERTY}
+ * and {@value #TIMEOUT_PROPERTY}. When the queue of the pool is full, the lookups of the request are rejected
+ * instead of running in the request thread, so that the pending lookups are bounded by the queue. The pool is shut
+ * down with the user API lifecycle.
+ */
+public class ParallelLookupExecutor {
+
+    public static final String ENABLE_PROPERTY = "UserAPI.AuthorizedApps.ParallelLookup.Enable";
+    public static final String POOL_SIZE_PROPERTY = "UserAPI.AuthorizedApps.ParallelLookup.PoolSize";
+    public static final String TIMEOUT_PROPERTY = "UserAPI.AuthorizedApps.ParallelLookup.Timeout";
+
+    private static final int DEFAULT_POOL_SIZE = 8;
+    private static final long DEFAULT_TIMEOUT = 10000;
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final Log log = LogFactory.getLog(ParallelLookupExecutor.class);
+
+    private final boolean enabled;
+    private final long timeout;
+    private final ThreadPoolExecutor pool;
+
+    private ParallelLookupExecutor() {
+
+        this(Boolean.parseBoolean(StringUtils.trim(IdentityUtil.getProperty(ENABLE_PROPERTY))),
+                (int) readProperty(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE), QUEUE_CAPACITY,
+                readProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT));
+        UserApiLifecycle.getInstance().register("Authorized apps lookup pool", pool::shutdownNow);
+    }
+
+    ParallelLookupExecutor(boolean enabled, int poolSize, int queueCapacity, long timeout) {
+
+        this.enabled = enabled;
+        this.timeout = timeout;
+        AtomicInteger threadCount = new AtomicInteger();
+        pool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "AuthorizedAppsLookup-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+    }
+
+    public static ParallelLookupExecutor getInstance() {
+
+        return ParallelLookupExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * Whether the per application lookups are to be run in parallel.
+     *
+     * @return Whether the parallel lookups are enabled.
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Run the lookup of each item in parallel, in a tenant flow with the tenant domain and the username of the
+     * calling thread.
+     *
+     * @param items  Items to look up.
+     * @param lookup Lookup of an item.
+     * @param <T>    Type of the items.
+     * @param <R>    Type of the results.
+     * @return Results in the order of the items.
+     * @throws ExecutionException If a lookup fails, with the failure of the lookup as the cause, or if the lookups
+     *                            are rejected as the queue of the pool is full, with a
+     *                            {@link RejectedExecutionException} as the cause.
+     * @throws TimeoutException   If the lookups are not completed before the deadline.
+     */
+    public <T, R> List<R> map(List<T> items, Lookup<T, R> lookup) throws ExecutionException, TimeoutException {
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        String username = carbonContext.getUsername();
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                futures.add(submit(() -> {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    try {
+                        PrivilegedCarbonContext context = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                        context.setTenantDomain(tenantDomain, true);
+                        context.setUsername(username);
+                        return lookup.apply(item);
+                    } finally {
+                        PrivilegedCarbonContext.endTenantFlow();
+                    }
+                }));
+            }
+            List<R> results = new ArrayList<>(items.size());
+            for (Future<R> future : futures) {
+                results.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException("Interrupted while waiting for the lookups.", e);
+        } catch (CancellationException e) {
+            throw new ExecutionException("A lookup was cancelled.", e);
+        } catch (TimeoutException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Lookups of " + items.size() + " items are not completed within " + timeout + "ms.");
+            }
+            throw e;
+        } finally {
+            for (Future<R> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Shut down the pool. Used when the executor is not the shared instance.
+     */
+    void shutdown() {
+
+        pool.shutdownNow();
+    }
+
+    private <R> Future<R> submit(Callable<R> task) throws ExecutionException {
+
+        try {
+            return pool.submit(task);
+        } catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Lookup rejected as the queue of the pool is full. Pending lookups: "
+                        + pool.getQueue().size());
+            }
+            throw new ExecutionException("Lookup rejected as the queue of the pool is full.", e);
+        }
+    }
+
+    private static long readProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                long parsedValue = Long.parseLong(value.trim());
+                if (parsedValue > 0) {
+                    return parsedValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + property + ". Using the default value: "
+                        + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static class ParallelLookupExecutorHolder {
+
+        private static final ParallelLookupExecutor INSTANCE = new ParallelLookupExecutor();
+    }
+
+    /**
+     * Lookup of an item.
+     *
+     * @param <T> Type of the item.
+     * @param <R> Type of the result.
+     */
+    @FunctionalInterface
+    public interface Lookup<T, R> {
+
+        R apply(T item) throws Exception;
+    }
+}
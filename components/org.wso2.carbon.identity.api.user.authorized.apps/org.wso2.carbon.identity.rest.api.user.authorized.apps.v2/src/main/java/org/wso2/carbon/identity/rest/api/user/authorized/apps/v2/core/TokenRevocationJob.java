@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core;
+
+import org.wso2.carbon.identity.api.user.common.job.UserApiJob;
+
+/**
+ * State of an asynchronous job which revokes all the tokens issued for an application.
+ */
+public class TokenRevocationJob extends UserApiJob {
+
+    private final String applicationId;
+
+    /**
+     * Create a job to revoke all the tokens issued for the given application.
+     *
+     * @param tenantDomain  Tenant domain of the application.
+     * @param applicationId Resource id of the application.
+     */
+    public TokenRevocationJob(String tenantDomain, String applicationId) {
+
+        super(tenantDomain);
+        this.applicationId = applicationId;
+    }
+
+    public String getApplicationId() {
+
+        return applicationId;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core.functions;
+
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core.TokenRevocationJob;
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto.TokenRevocationJobDTO;
+
+import java.util.function.Function;
+
+/**
+ * Transform internal token revocation job object to external TokenRevocationJobDTO.
+ */
+public class TokenRevocationJobToExternal implements Function<TokenRevocationJob, TokenRevocationJobDTO> {
+
+    @Override
+    public TokenRevocationJobDTO apply(TokenRevocationJob job) {
+
+        TokenRevocationJobDTO jobDTO = new TokenRevocationJobDTO();
+        jobDTO.setId(job.getId());
+        jobDTO.setApplicationId(job.getApplicationId());
+        jobDTO.setStatus(TokenRevocationJobDTO.StatusEnum.valueOf(job.getStatus().name()));
+        jobDTO.setCreatedTime(job.getCreatedTime());
+        if (job.getStartedTime() > 0) {
+            jobDTO.setStartedTime(job.getStartedTime());
+        }
+        if (job.getCompletedTime() > 0) {
+            jobDTO.setCompletedTime(job.getCompletedTime());
+        }
+
+        return jobDTO;
+    }
+}
@@ -20,15 +20,21 @@ package org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.impl;
 
 import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.AuthorizedAppsApiService;
 import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core.AuthorizedAppsService;
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto.TokenRevocationJobDTO;
 import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.factories.AuthorizedAppsServiceFactory;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.user.common.ContextLoader.buildURIForHeader;
+
 /**
  * Implementation of {@link AuthorizedAppsApiService}.
  */
 public class AuthorizedAppsApiServiceImpl implements AuthorizedAppsApiService {
 
+    private static final String AUTHORIZED_APPS_ENDPOINT = "/v2/authorized-apps/";
+    private static final String TOKEN_REVOCATIONS_PATH = "/tokens/revocations/";
+
     private final AuthorizedAppsService authorizedAppsService;
 
     public AuthorizedAppsApiServiceImpl() {
@@ -42,4 +48,18 @@ public class AuthorizedAppsApiServiceImpl implements AuthorizedAppsApiService {
         authorizedAppsService.deleteIssuedTokensByAppId(applicationId);
         return Response.noContent().build();
     }
+
+    @Override
+    public Response createTokenRevocationJob(String applicationId) {
+
+        TokenRevocationJobDTO jobDTO = authorizedAppsService.startTokenRevocationJob(applicationId);
+        return Response.accepted().entity(jobDTO).location(buildURIForHeader(AUTHORIZED_APPS_ENDPOINT
+                + applicationId + TOKEN_REVOCATIONS_PATH + jobDTO.getId())).build();
+    }
+
+    @Override
+    public Response getTokenRevocationJob(String applicationId, String jobId) {
+
+        return Response.ok().entity(authorizedAppsService.getTokenRevocationJob(applicationId, jobId)).build();
+    }
 }
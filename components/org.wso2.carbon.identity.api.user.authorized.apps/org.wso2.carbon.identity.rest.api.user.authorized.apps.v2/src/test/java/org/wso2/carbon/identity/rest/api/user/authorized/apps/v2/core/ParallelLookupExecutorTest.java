@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ParallelLookupExecutorTest {
+
+    private static final String USERNAME = "admin";
+
+    private final List<ParallelLookupExecutor> executors = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+
+        System.setProperty("carbon.home", Paths.get(System.getProperty("user.dir"), "src", "test", "resources")
+                .toString());
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        carbonContext.setUsername(USERNAME);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        PrivilegedCarbonContext.endTenantFlow();
+        for (ParallelLookupExecutor executor : executors) {
+            executor.shutdown();
+        }
+        executors.clear();
+    }
+
+    @Test
+    public void testMapKeepsOrderOfItems() throws Exception {
+
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(i);
+        }
+        // The later items complete first, so the results are only in order if they are collected in order.
+        List<String> results = createExecutor(4, 100, 5000).map(items, item -> {
+            Thread.sleep(20 - item);
+            return "app-" + item;
+        });
+
+        Assert.assertEquals(results.size(), items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Assert.assertEquals(results.get(i), "app-" + i);
+        }
+    }
+
+    @Test
+    public void testMapRunsLookupsInTenantFlowOfCaller() throws Exception {
+
+        List<String> results = createExecutor(2, 10, 5000).map(Arrays.asList(1, 2, 3), item -> {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            return carbonContext.getTenantDomain() + "/" + carbonContext.getUsername();
+        });
+
+        String expected = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME + "/" + USERNAME;
+        Assert.assertEquals(results, Arrays.asList(expected, expected, expected));
+    }
+
+    @Test
+    public void testMapTimeoutDoesNotInterruptRunningLookup() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        try {
+            createExecutor(1, 10, 50).map(Collections.singletonList(1), item -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                finished.countDown();
+                return item;
+            });
+            Assert.fail("Lookups are expected to time out.");
+        } catch (TimeoutException e) {
+            // Expected, as the lookup waits until it is released.
+        } finally {
+            release.countDown();
+        }
+
+        Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(interrupted.get());
+    }
+
+    @Test
+    public void testMapRejectsLookupsWhenQueueIsFull() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            createExecutor(1, 1, 5000).map(Arrays.asList(1, 2, 3), item -> {
+                release.await();
+                return item;
+            });
+            Assert.fail("Lookups are expected to be rejected.");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testMapPropagatesLookupFailure() throws Exception {
+
+        IllegalStateException failure = new IllegalStateException("Lookup failed.");
+        try {
+            createExecutor(2, 10, 5000).map(Arrays.asList(1, 2, 3), item -> {
+                if (item == 2) {
+                    throw failure;
+                }
+                return item;
+            });
+            Assert.fail("Lookups are expected to fail.");
+        } catch (ExecutionException e) {
+            Assert.assertSame(e.getCause(), failure);
+        }
+    }
+
+    private ParallelLookupExecutor createExecutor(int poolSize, int queueCapacity, long timeout) {
+
+        ParallelLookupExecutor executor = new ParallelLookupExecutor(true, poolSize, queueCapacity, timeout);
+        executors.add(executor);
+        return executor;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.user.common.cache.ApplicationResolutionCache;
+import org.wso2.carbon.identity.api.user.common.cache.UserResolutionCache;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
+import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
+import org.wso2.carbon.identity.oauth2.OAuth2ScopeService;
+import org.wso2.carbon.identity.oauth2.model.OAuth2ScopeConsentResponse;
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.core.AuthorizedAppsService;
+import org.wso2.carbon.identity.rest.api.user.authorized.apps.v2.dto.AuthorizedAppDTO;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks listing the authorized applications of a user against in-memory backends, and counts the backend calls
+ * made. The counters are reported next to the primary result in operations per second, so a counter divided by the
+ * primary result is the number of calls made for a single listing. The user id and the consent lookups stay at one
+ * call per listing regardless of the number of applications, while the service provider lookups are made once per
+ * application only when the application resolution cache is cleared before each listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizedAppsBenchmark {
+
+    @Param({"1", "10", "80"})
+    public int appCount;
+
+    @Param({"true", "false"})
+    public boolean applicationCache;
+
+    private AuthorizedAppsService authorizedAppsService;
+    private User user;
+    private BackendCalls calls;
+
+    /**
+     * Backend calls made by the listings.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class BackendCalls {
+
+        public long userIdLookups;
+        public long serviceProviderLookups;
+        public long consentLookups;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+
+            userIdLookups = 0;
+            serviceProviderLookups = 0;
+            consentLookups = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+
+        BenchmarkUtils.initCarbonHome();
+        user = new User();
+        user.setUserName("john");
+        user.setUserStoreDomain("PRIMARY");
+        user.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        String userId = "00fe873d-dd7a-4157-930c-65bfcbc3f35e";
+
+        OAuthConsumerAppDTO[] apps = new OAuthConsumerAppDTO[appCount];
+        List<OAuth2ScopeConsentResponse> consents = new ArrayList<>();
+        for (int i = 0; i < appCount; i++) {
+            apps[i] = new OAuthConsumerAppDTO();
+            apps[i].setApplicationName("app" + i);
+            apps[i].setOauthConsumerKey("client" + i);
+            consents.add(new OAuth2ScopeConsentResponse(userId, "resource-client" + i,
+                    MultitenantConstants.SUPER_TENANT_ID, Arrays.asList("openid", "profile"), new ArrayList<>()));
+        }
+
+        OAuthAdminServiceImpl oAuthAdminService = mock(OAuthAdminServiceImpl.class, withSettings().stubOnly());
+        when(oAuthAdminService.getAppsAuthorizedByUser()).thenReturn(apps);
+
+        ApplicationManagementService applicationManagementService = mock(ApplicationManagementService.class,
+                withSettings().stubOnly());
+        when(applicationManagementService.getServiceProviderByClientId(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    calls.serviceProviderLookups++;
+                    String clientId = invocation.getArgument(0);
+                    ServiceProvider serviceProvider = new ServiceProvider();
+                    serviceProvider.setApplicationResourceId("resource-" + clientId);
+                    serviceProvider.setApplicationName("app" + clientId.substring("client".length()));
+                    return serviceProvider;
+                });
+
+        OAuth2ScopeService oAuth2ScopeService = mock(OAuth2ScopeService.class, withSettings().stubOnly());
+        when(oAuth2ScopeService.getUserConsents(anyString(), anyInt())).thenAnswer(invocation -> {
+            calls.consentLookups++;
+            return consents;
+        });
+
+        AbstractUserStoreManager userStoreManager = mock(AbstractUserStoreManager.class, withSettings().stubOnly());
+        when(userStoreManager.getUserIDFromUserName(anyString())).thenAnswer(invocation -> {
+            calls.userIdLookups++;
+            return userId;
+        });
+        when(userStoreManager.getSecondaryUserStoreManager(anyString())).thenReturn(userStoreManager);
+
+        UserRealm userRealm = mock(UserRealm.class, withSettings().stubOnly());
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+
+        TenantManager tenantManager = mock(TenantManager.class, withSettings().stubOnly());
+        when(tenantManager.getTenantId(anyString())).thenReturn(MultitenantConstants.SUPER_TENANT_ID);
+
+        RealmService realmService = mock(RealmService.class, withSettings().stubOnly());
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        IdentityTenantUtil.setRealmService(realmService);
+
+        authorizedAppsService = new AuthorizedAppsService(applicationManagementService, oAuthAdminService,
+                oAuth2ScopeService, realmService);
+    }
+
+    @Benchmark
+    public List<AuthorizedAppDTO> listUserAuthorizedApps(BackendCalls backendCalls) {
+
+        calls = backendCalls;
+        // Each listing stands for a separate page view, hence the user id is resolved from the user store.
+        UserResolutionCache.getInstance().clearCacheEntryByUsername(MultitenantConstants.SUPER_TENANT_ID,
+                user.getUserStoreDomain(), user.getUserName());
+        if (!applicationCache) {
+            ApplicationResolutionCache.getInstance().clear(user.getTenantDomain());
+        }
+        return authorizedAppsService.listUserAuthorizedApps(user);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the standard JMH command line options, and writes the results as JSON
+ * to jmh-result.json unless another result format or file is given, so that the results of different releases
+ * can be compared.
+ * <p>
+ * Usage: java -jar target/benchmarks.jar [JMH options] [benchmark regexp]
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+/**
+ * Utilities shared by the benchmarks.
+ */
+final class BenchmarkUtils {
+
+    private static final String CARBON_HOME = "carbon.home";
+
+    private BenchmarkUtils() {
+
+    }
+
+    /**
+     * Point carbon.home to an empty directory unless it is already set, so that the carbon context and the server
+     * configuration can be initialized outside of a running server.
+     */
+    static synchronized void initCarbonHome() {
+
+        if (System.getProperty(CARBON_HOME) != null) {
+            return;
+        }
+        try {
+            File carbonHome = Files.createTempDirectory("carbon-home").toFile();
+            carbonHome.deleteOnExit();
+            System.setProperty(CARBON_HOME, carbonHome.getAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create a temporary carbon.home.", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.ContextLoader;
+import org.wso2.carbon.identity.api.user.common.cache.ServiceURLPrefixCache;
+import org.wso2.carbon.identity.core.ServiceURLBuilder;
+import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the building of the links in the response bodies with the cached URL prefixes against resolving the
+ * whole URL through the {@link ServiceURLBuilder}. The server configuration is read from the carbon.home system
+ * property, which should point to an extracted product pack to get representative results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuildURIBenchmark {
+
+    private static final String ENDPOINT = "/v1/me/sessions/ca9c30abf30ea3755009dd19d54d1d28";
+
+    @Setup
+    public void setup() {
+
+        BenchmarkUtils.initCarbonHome();
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        carbonContext.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+        ServiceURLPrefixCache.getInstance().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    @Benchmark
+    public URI buildURIForBody() {
+
+        return ContextLoader.buildURIForBody(ENDPOINT);
+    }
+
+    @Benchmark
+    public String serviceURLBuilder() throws URLBuilderException {
+
+        return ServiceURLBuilder.create().addPath("/t/carbon.super/api/users" + ENDPOINT).build()
+                .getRelativePublicURL();
+    }
+}
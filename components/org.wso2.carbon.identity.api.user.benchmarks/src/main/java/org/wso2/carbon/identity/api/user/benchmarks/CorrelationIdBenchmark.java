@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.user.common.correlation.CorrelationIdGenerator;
+import org.wso2.carbon.identity.api.user.common.correlation.RandomUUIDCorrelationIdGenerator;
+import org.wso2.carbon.identity.api.user.common.correlation.SequentialCorrelationIdGenerator;
+import org.wso2.carbon.identity.api.user.common.correlation.ThreadLocalRandomCorrelationIdGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the correlation id generators under contention. The randomUUID generator is the former
+ * Util.getCorrelation fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CorrelationIdBenchmark {
+
+    @Param({"randomUUID", "sequential", "threadLocalRandom"})
+    public String generator;
+
+    private CorrelationIdGenerator correlationIdGenerator;
+
+    @Setup
+    public void setup() {
+
+        switch (generator) {
+            case "sequential":
+                correlationIdGenerator = new SequentialCorrelationIdGenerator();
+                break;
+            case "threadLocalRandom":
+                correlationIdGenerator = new ThreadLocalRandomCorrelationIdGenerator();
+                break;
+            default:
+                correlationIdGenerator = new RandomUUIDCorrelationIdGenerator();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String generate1Thread() {
+
+        return correlationIdGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generate8Threads() {
+
+        return correlationIdGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String generate64Threads() {
+
+        return correlationIdGenerator.generate();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.application.authentication.framework.model.Application;
+import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.rest.api.user.application.v1.core.function.ApplicationBasicInfoToApiModel;
+import org.wso2.carbon.identity.rest.api.user.application.v1.model.ApplicationResponse;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.function.UserSessionToExternal;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionDTO;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the functions mapping the internal models to the API models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DTOMappingBenchmark {
+
+    private final UserSessionToExternal userSessionToExternal = new UserSessionToExternal();
+    private final ApplicationBasicInfoToApiModel applicationBasicInfoToApiModel =
+            new ApplicationBasicInfoToApiModel();
+    private UserSession userSession;
+    private ApplicationBasicInfo applicationBasicInfo;
+
+    @Setup
+    public void setup() {
+
+        userSession = new UserSession();
+        userSession.setSessionId("ca9c30abf30ea3755009dd19d54d1d28ebb7b4d2ef0b41bd81c1a9a735404451");
+        userSession.setCreationTime(1620318745450802700L);
+        userSession.setUserId("00fe873d-dd7a-4157-930c-65bfcbc3f35e");
+        userSession.setIp("127.0.0.1");
+        userSession.setLoginTime("1620318746646");
+        userSession.setLastAccessTime("1620318746646");
+        userSession.setUserAgent("Apache-HttpClient/4.5.12 (Java/1.8.0)");
+        userSession.setApplications(Arrays.asList(
+                new Application("john@carbon.super", "User Portal", "1"),
+                new Application("john", "pickup-dispatch", "2"),
+                new Application("john", "travelocity", "3")));
+
+        applicationBasicInfo = new ApplicationBasicInfo();
+        applicationBasicInfo.setApplicationResourceId("1b6a3c4e-8a3b-4e3c-9c1e-0f6d2b1a7e5d");
+        applicationBasicInfo.setApplicationName("pickup-dispatch");
+        applicationBasicInfo.setDescription("Pickup dispatch application");
+        applicationBasicInfo.setAccessUrl("https://localhost:9443/pickup-dispatch/login");
+        applicationBasicInfo.setImageUrl("https://localhost:9443/pickup-dispatch/logo.png");
+    }
+
+    @Benchmark
+    public SessionDTO userSessionToExternal() {
+
+        return userSessionToExternal.apply(userSession);
+    }
+
+    @Benchmark
+    public ApplicationResponse applicationBasicInfoToApiModel() {
+
+        return applicationBasicInfoToApiModel.apply(applicationBasicInfo);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
+import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.Response;
+
+import static org.wso2.carbon.identity.api.user.common.Constants.ErrorMessage.ERROR_CODE_INVALID_USERNAME;
+
+/**
+ * Benchmarks the construction of the error responses and the errors thrown for the expected client errors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final Log log = LogFactory.getLog(ErrorResponseBenchmark.class);
+
+    @Benchmark
+    public ErrorResponse builder() {
+
+        return new ErrorResponse.Builder()
+                .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
+                .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage())
+                .withDescription(ERROR_CODE_INVALID_USERNAME.getDescription())
+                .build();
+    }
+
+    @Benchmark
+    public ErrorResponse builderWithDebugLog() {
+
+        return new ErrorResponse.Builder()
+                .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
+                .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage())
+                .withDescription(ERROR_CODE_INVALID_USERNAME.getDescription())
+                .build(log, ERROR_CODE_INVALID_USERNAME.getDescription());
+    }
+
+    @Benchmark
+    public ErrorResponse template() {
+
+        return ERROR_CODE_INVALID_USERNAME.getTemplate().build();
+    }
+
+    @Benchmark
+    public APIError apiError() {
+
+        return new APIError(Response.Status.NOT_FOUND, ERROR_CODE_INVALID_USERNAME.getTemplate().build());
+    }
+
+    @Benchmark
+    public APIError clientAPIError() {
+
+        return new ClientAPIError(Response.Status.NOT_FOUND, ERROR_CODE_INVALID_USERNAME.getTemplate().build());
+    }
+}
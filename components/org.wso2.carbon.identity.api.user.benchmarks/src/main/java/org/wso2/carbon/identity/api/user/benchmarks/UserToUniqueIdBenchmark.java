@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.user.common.cache.UserResolutionCache;
+import org.wso2.carbon.identity.api.user.common.function.UserToUniqueId;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks {@link UserToUniqueId} against an in-memory user store. The uncached variant clears the resolution
+ * cache before every invocation, so that it measures the user store manager lookup path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserToUniqueIdBenchmark {
+
+    private static final int USER_COUNT = 1000;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private final UserToUniqueId userToUniqueId = new UserToUniqueId();
+    private RealmService realmService;
+    private User[] users;
+    private int next;
+
+    @Setup
+    public void setup() throws UserStoreException {
+
+        BenchmarkUtils.initCarbonHome();
+        Map<String, String> userIds = new HashMap<>();
+        users = new User[USER_COUNT];
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setUserName("user" + i);
+            user.setUserStoreDomain("PRIMARY");
+            user.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            users[i] = user;
+            userIds.put(user.getUserName(), UUID.randomUUID().toString());
+        }
+
+        AbstractUserStoreManager userStoreManager = mock(AbstractUserStoreManager.class, withSettings().stubOnly());
+        when(userStoreManager.getUserIDFromUserName(anyString()))
+                .thenAnswer(invocation -> userIds.get(invocation.<String>getArgument(0)));
+        when(userStoreManager.getSecondaryUserStoreManager(anyString())).thenReturn(userStoreManager);
+
+        UserRealm userRealm = mock(UserRealm.class, withSettings().stubOnly());
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+
+        TenantManager tenantManager = mock(TenantManager.class, withSettings().stubOnly());
+        when(tenantManager.getTenantId(anyString())).thenReturn(MultitenantConstants.SUPER_TENANT_ID);
+
+        realmService = mock(RealmService.class, withSettings().stubOnly());
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        IdentityTenantUtil.setRealmService(realmService);
+
+        UserResolutionCache.getInstance().clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @Benchmark
+    public String apply() {
+
+        User user = users[next++ % USER_COUNT];
+        if (!cached) {
+            UserResolutionCache.getInstance().clearCacheEntryByUsername(MultitenantConstants.SUPER_TENANT_ID,
+                    user.getUserStoreDomain(), user.getUserName());
+        }
+        return userToUniqueId.apply(realmService, user);
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.wso2.carbon.identity.api.user.common;
 
+import org.wso2.carbon.identity.api.user.common.error.ErrorTemplate;
+
 import static org.wso2.carbon.identity.api.user.common.Constants.ErrorPrefix.USER_MANAGEMENT_PREFIX;
 
 /**
@@ -64,11 +66,13 @@ public class Constants {
         private final String code;
         private final String message;
         private final String description;
+        private final ErrorTemplate template;
 
         ErrorMessage(String code, String message, String description) {
             this.code = code;
             this.message = message;
             this.description = description;
+            this.template = new ErrorTemplate(code, message, description);
         }
 
         public String getCode() {
@@ -83,6 +87,10 @@ public class Constants {
             return description;
         }
 
+        public ErrorTemplate getTemplate() {
+            return template;
+        }
+
         @Override
         public String toString() {
             return code + " | " + message;
@@ -22,7 +22,10 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.cache.ServiceURLPrefixCache;
+import org.wso2.carbon.identity.api.user.common.context.UserRequestContext;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
@@ -80,7 +83,9 @@ public class ContextLoader {
      */
     public static User getUserFromContext() {
 
-        return getUser(IdentityTenantUtil.resolveTenantDomain(), getUsernameFromContext());
+        String tenantDomain = IdentityTenantUtil.resolveTenantDomain();
+        String username = getUsernameFromContext();
+        return UserRequestContext.getUser(tenantDomain, username, () -> getUser(tenantDomain, username));
     }
 
 
@@ -101,8 +106,8 @@ public class ContextLoader {
             realm = strComponent[0];
             username = strComponent[1];
         } else {
-            throw new APIError(Response.Status.BAD_REQUEST, new ErrorResponse.Builder().withDescription("Provided " +
-                    "Username is not in the correct format.")
+            throw new ClientAPIError(Response.Status.BAD_REQUEST, new ErrorResponse.Builder().withDescription(
+                    "Provided Username is not in the correct format.")
                     .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
                     .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage()).build());
         }
@@ -132,8 +137,8 @@ public class ContextLoader {
             username = user.getUsername();
             tenantDomain = user.getTenantDomain();
         } else {
-            throw new APIError(Response.Status.BAD_REQUEST, new ErrorResponse.Builder().withDescription("Provided " +
-                    "user cannot be empty.")
+            throw new ClientAPIError(Response.Status.BAD_REQUEST, new ErrorResponse.Builder().withDescription(
+                    "Provided user cannot be empty.")
                     .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
                     .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage()).build());
         }
@@ -189,10 +194,10 @@ public class ContextLoader {
     public static URI buildURIForBody(String endpoint, boolean isServerResource) {
 
         String url;
-        String context = getContext(endpoint, isServerResource);
+        String basePath = getBasePath(isServerResource);
 
         try {
-            url = ServiceURLBuilder.create().addPath(context).build().getRelativePublicURL();
+            url = ServiceURLPrefixCache.getInstance().getRelativePublicURL(basePath, endpoint);
         } catch (URLBuilderException e) {
             String errorDescription = "Server encountered an error while building URL for response body.";
             throw buildInternalServerError(e, errorDescription);
@@ -211,10 +216,10 @@ public class ContextLoader {
     public static URI buildURIForHeader(String endpoint) {
 
         URI loc;
-        String context = getContext(endpoint, false);
+        String basePath = getBasePath(false);
 
         try {
-            String url = ServiceURLBuilder.create().addPath(context).build().getAbsolutePublicURL();
+            String url = ServiceURLPrefixCache.getInstance().getAbsolutePublicURL(basePath, endpoint);
             loc = URI.create(url);
         } catch (URLBuilderException e) {
             String errorDescription = "Server encountered an error while building URL for response header.";
@@ -224,28 +229,27 @@ public class ContextLoader {
     }
 
     /**
-     * Builds the API context on whether the tenant qualified url is enabled or not. In tenant qualified mode the
+     * Builds the API base path on whether the tenant qualified url is enabled or not. In tenant qualified mode the
      * ServiceURLBuilder appends the tenant domain to the URI as a path param automatically. But
      * in non tenant qualified mode we need to append the tenant domain to the path manually.
      *
-     * @param endpoint Relative endpoint path.
      * @param isServerResource Is service URL builds for server resource.
-     * @return Context of the API.
+     * @return Base path of the API.
      */
-    private static String getContext(String endpoint, boolean isServerResource) {
+    private static String getBasePath(boolean isServerResource) {
 
-        String context;
+        String basePath;
         if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled()) {
             if (isServerResource) {
-                context = SERVER_API_PATH_COMPONENT + endpoint;
+                basePath = SERVER_API_PATH_COMPONENT;
             } else {
-                context = USER_API_PATH_COMPONENT + endpoint;
+                basePath = USER_API_PATH_COMPONENT;
             }
         } else {
-            context = String.format(TENANT_CONTEXT_PATH_COMPONENT, IdentityTenantUtil.resolveTenantDomain()) +
-                    USER_API_PATH_COMPONENT + endpoint;
+            basePath = String.format(TENANT_CONTEXT_PATH_COMPONENT, IdentityTenantUtil.resolveTenantDomain()) +
+                    USER_API_PATH_COMPONENT;
         }
-        return context;
+        return basePath;
     }
 
     /**
@@ -278,17 +282,23 @@ public class ContextLoader {
      */
     public static String getUserIdFromContext() {
 
+        CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+        String username = getUsernameFromContext();
         try {
-            UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
-            AbstractUserStoreManager userStoreManager = (AbstractUserStoreManager) userRealm.getUserStoreManager();
-
-            if (userStoreManager == null) {
-                throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
-                        new ErrorResponse.Builder().withDescription("Error occured while resolving the user.")
-                                .withCode(ERROR_CODE_SERVER_ERROR.getCode())
-                                .withMessage(ERROR_CODE_SERVER_ERROR.getMessage()).build());
-            }
-            return userStoreManager.getUserIDFromUserName(getUsernameFromContext());
+            return UserRequestContext.getUserId(carbonContext.getTenantDomain(), username, () -> {
+                UserRealm userRealm = carbonContext.getUserRealm();
+                AbstractUserStoreManager userStoreManager = (AbstractUserStoreManager) UserRequestContext
+                        .getUserStoreManager(carbonContext.getTenantId(), StringUtils.EMPTY,
+                                userRealm::getUserStoreManager);
+
+                if (userStoreManager == null) {
+                    throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                            new ErrorResponse.Builder().withDescription("Error occured while resolving the user.")
+                                    .withCode(ERROR_CODE_SERVER_ERROR.getCode())
+                                    .withMessage(ERROR_CODE_SERVER_ERROR.getMessage()).build());
+                }
+                return userStoreManager.getUserIDFromUserName(username);
+            });
         } catch (UserStoreException e) {
             throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
                     new ErrorResponse.Builder().withDescription("Error occured while resolving the user.")
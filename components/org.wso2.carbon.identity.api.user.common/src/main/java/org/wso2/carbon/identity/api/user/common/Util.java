@@ -20,18 +20,28 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.logging.log4j.ThreadContext;
+import org.wso2.carbon.identity.api.user.common.cache.UserExistenceCache;
+import org.wso2.carbon.identity.api.user.common.correlation.CorrelationIdGenerator;
+import org.wso2.carbon.identity.api.user.common.correlation.RandomUUIDCorrelationIdGenerator;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.user.common.realm.UserStoreManagerResolver;
 import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
 import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
 import org.wso2.carbon.identity.application.common.model.User;
-import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UniqueIDUserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 
@@ -45,6 +55,9 @@ import static org.wso2.carbon.identity.api.user.common.Constants.ErrorMessage.ER
 public class Util {
 
     private static final Log log = LogFactory.getLog(Util.class);
+    private static final String CORRELATION_ID_GENERATOR_PROPERTY = "UserAPI.CorrelationIdGenerator";
+
+    private static volatile CorrelationIdGenerator correlationIdGenerator = loadCorrelationIdGenerator();
 
     /**
      * Get correlation id of current thread
@@ -52,16 +65,25 @@ public class Util {
      * @return correlation-id
      */
     public static String getCorrelation() {
-        String ref;
-        if (isCorrelationIDPresent()) {
-            ref = ThreadContext.get(CORRELATION_ID_MDC);
-        } else {
-            ref = UUID.randomUUID().toString();
-
+        String ref = ThreadContext.get(CORRELATION_ID_MDC);
+        if (ref == null) {
+            ref = correlationIdGenerator.generate();
         }
         return ref;
     }
 
+    /**
+     * Set the generator used for the correlation ids when the MDC has no correlation id.
+     *
+     * @param generator Correlation id generator.
+     */
+    public static void setCorrelationIdGenerator(CorrelationIdGenerator generator) {
+
+        if (generator != null) {
+            correlationIdGenerator = generator;
+        }
+    }
+
     /**
      * Check whether correlation id present in the log MDC
      *
@@ -79,7 +101,7 @@ public class Util {
      */
     public static String resolveUserIdFromUser(User user) {
         int tenantId = (user.getTenantDomain() == null) ? org.wso2.carbon.utils.multitenancy.MultitenantConstants
-                .INVALID_TENANT_ID : IdentityTenantUtil.getTenantId(user.getTenantDomain());
+                .INVALID_TENANT_ID : UserStoreManagerResolver.getInstance().getTenantId(user.getTenantDomain());
         try {
             return UserSessionStore.getInstance().getUserId(user.getUserName(), tenantId, user
                     .getUserStoreDomain(), -1);
@@ -104,12 +126,18 @@ public class Util {
         if (StringUtils.isEmpty(userId)) {
             throw new WebApplicationException("UserID is empty.");
         }
+        Boolean cachedResult = UserExistenceCache.getInstance().isExistingUser(tenantDomain, userId);
         boolean isUserValid;
 
         try {
-            isUserValid = UserSessionStore.getInstance().isExistingUser(userId);
-            if (!isUserValid) {
-                isUserValid = validateUserIdInUserstore(realmService, tenantDomain, userId);
+            if (cachedResult != null) {
+                isUserValid = cachedResult;
+            } else {
+                isUserValid = UserSessionStore.getInstance().isExistingUser(userId);
+                if (!isUserValid) {
+                    isUserValid = validateUserIdInUserstore(realmService, tenantDomain, userId);
+                }
+                UserExistenceCache.getInstance().addToCache(tenantDomain, userId, isUserValid);
             }
         } catch (UserSessionException | UserStoreException e) {
            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR, new ErrorResponse.Builder()
@@ -119,19 +147,68 @@ public class Util {
                     .build(log, e, "Error occurred when retrieving user from userId: " + userId));
         }
         if (!isUserValid) {
-            throw new APIError(Response.Status.NOT_FOUND, new ErrorResponse.Builder()
-                    .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
-                    .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage())
-                    .withDescription(ERROR_CODE_INVALID_USERNAME.getDescription())
-                    .build());
+            throw new ClientAPIError(Response.Status.NOT_FOUND, ERROR_CODE_INVALID_USERNAME.getTemplate().build());
+        }
+    }
+
+    /**
+     * Get the ids among the given ids which belong to an existing user in the user store or in the session management
+     * data stores. The cached results are used first, and the user store manager is resolved once for all the ids
+     * which are not in the session management data stores.
+     *
+     * @param realmService realm service
+     * @param tenantDomain tenant domain of the users
+     * @param userIds      unique user ids
+     * @return existing user ids
+     * @throws UserSessionException if an error occurs while reading the session management data stores
+     * @throws UserStoreException   if an error occurs while reading the user store
+     */
+    public static Set<String> getExistingUserIds(RealmService realmService, String tenantDomain,
+                                                 Collection<String> userIds)
+            throws UserSessionException, UserStoreException {
+
+        UserExistenceCache userExistenceCache = UserExistenceCache.getInstance();
+        Set<String> existingUserIds = new HashSet<>();
+        List<String> userIdsNotInSessionStore = new ArrayList<>();
+        for (String userId : userIds) {
+            if (StringUtils.isEmpty(userId)) {
+                continue;
+            }
+            Boolean cachedResult = userExistenceCache.isExistingUser(tenantDomain, userId);
+            if (cachedResult != null) {
+                if (cachedResult) {
+                    existingUserIds.add(userId);
+                }
+            } else if (UserSessionStore.getInstance().isExistingUser(userId)) {
+                userExistenceCache.addToCache(tenantDomain, userId, true);
+                existingUserIds.add(userId);
+            } else {
+                userIdsNotInSessionStore.add(userId);
+            }
+        }
+        if (userIdsNotInSessionStore.isEmpty()) {
+            return existingUserIds;
+        }
+
+        UserStoreManager userStoreManager = UserStoreManagerResolver.getInstance().getUserStoreManager(realmService,
+                tenantDomain);
+        boolean isUniqueIdUserStore = userStoreManager instanceof UniqueIDUserStoreManager;
+        for (String userId : userIdsNotInSessionStore) {
+            boolean isUserValid = isUniqueIdUserStore &&
+                    ((UniqueIDUserStoreManager) userStoreManager).isExistingUserWithID(userId);
+            userExistenceCache.addToCache(tenantDomain, userId, isUserValid);
+            if (isUserValid) {
+                existingUserIds.add(userId);
+            }
         }
+        return existingUserIds;
     }
 
     private static boolean validateUserIdInUserstore(RealmService realmService, String tenantDomain, String userId)
             throws UserStoreException {
 
-        UserStoreManager userStoreManager = realmService.getTenantUserRealm(
-                IdentityTenantUtil.getTenantId(tenantDomain)).getUserStoreManager();
+        UserStoreManager userStoreManager = UserStoreManagerResolver.getInstance().getUserStoreManager(realmService,
+                tenantDomain);
         if (!(userStoreManager instanceof UniqueIDUserStoreManager)) {
             if (log.isDebugEnabled()) {
                 log.debug("Provided user store manager does not support unique user IDs. Therefore the user id: "
@@ -141,4 +218,26 @@ public class Util {
         }
         return ((UniqueIDUserStoreManager) userStoreManager).isExistingUserWithID(userId);
     }
+
+    /**
+     * Load the correlation id generator configured in identity.xml with the fully qualified class name, or the
+     * random UUID generator if it is not configured or cannot be loaded. The generators which do not draw every id
+     * from a secure random source, such as the sequential generator, are opt-in since their ids are predictable.
+     *
+     * @return Correlation id generator.
+     */
+    private static CorrelationIdGenerator loadCorrelationIdGenerator() {
+
+        String generatorClass = IdentityUtil.getProperty(CORRELATION_ID_GENERATOR_PROPERTY);
+        if (StringUtils.isNotBlank(generatorClass)) {
+            try {
+                return (CorrelationIdGenerator) Class.forName(generatorClass.trim()).getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                log.error("Error while loading the correlation id generator: " + generatorClass
+                        + ". Using the default generator.", e);
+            }
+        }
+        return new RandomUUIDCorrelationIdGenerator();
+    }
 }
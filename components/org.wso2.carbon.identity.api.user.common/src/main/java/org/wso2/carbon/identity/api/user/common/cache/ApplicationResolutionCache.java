@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Tenant aware, bidirectional cache of the OAuth client id to application resource id mapping, together with the
+ * name of the application. Both directions are populated together from a single service provider lookup, so that
+ * resolving an application by either side does not load the service provider again, and an invalidation of either
+ * side removes both.
+ * <p>
+ * The cached name can be used to detect an application which is renamed or recreated with the same client id, in
+ * which case the entry is to be invalidated and resolved again.
+ */
+public class ApplicationResolutionCache {
+
+    public static final String APPLICATION_BY_CLIENT_ID_CACHE_NAME = "UserAPIApplicationByClientIdCache";
+    public static final String APPLICATION_BY_RESOURCE_ID_CACHE_NAME = "UserAPIApplicationByResourceIdCache";
+
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final long DEFAULT_TIMEOUT = 300;
+    private static final String KEY_SEPARATOR = ":";
+
+    private static final ApplicationResolutionCache instance = new ApplicationResolutionCache();
+
+    private final UserApiCache<String, ResolvedApplication> applicationByClientId;
+    private final UserApiCache<String, ResolvedApplication> applicationByResourceId;
+
+    private ApplicationResolutionCache() {
+
+        applicationByClientId = new UserApiCache<>(APPLICATION_BY_CLIENT_ID_CACHE_NAME, DEFAULT_CAPACITY,
+                DEFAULT_TIMEOUT);
+        applicationByResourceId = new UserApiCache<>(APPLICATION_BY_RESOURCE_ID_CACHE_NAME, DEFAULT_CAPACITY,
+                DEFAULT_TIMEOUT);
+    }
+
+    public static ApplicationResolutionCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the application with the given OAuth client id.
+     *
+     * @param tenantDomain Tenant domain of the application.
+     * @param clientId     OAuth client id of the application.
+     * @return Resolved application or null if the mapping is not cached.
+     */
+    public ResolvedApplication getApplicationByClientId(String tenantDomain, String clientId) {
+
+        return applicationByClientId.getValueFromCache(buildKey(tenantDomain, clientId));
+    }
+
+    /**
+     * Get the application with the given resource id.
+     *
+     * @param tenantDomain Tenant domain of the application.
+     * @param resourceId   Resource id of the application.
+     * @return Resolved application or null if the mapping is not cached.
+     */
+    public ResolvedApplication getApplicationByResourceId(String tenantDomain, String resourceId) {
+
+        return applicationByResourceId.getValueFromCache(buildKey(tenantDomain, resourceId));
+    }
+
+    /**
+     * Cache the mapping in both directions. The client id direction is skipped for an application without an OAuth
+     * client id.
+     *
+     * @param tenantDomain Tenant domain of the application.
+     * @param application  Resolved application.
+     */
+    public void addToCache(String tenantDomain, ResolvedApplication application) {
+
+        if (application == null || StringUtils.isEmpty(application.getResourceId())) {
+            return;
+        }
+        applicationByResourceId.addToCache(buildKey(tenantDomain, application.getResourceId()), application);
+        if (StringUtils.isNotEmpty(application.getClientId())) {
+            applicationByClientId.addToCache(buildKey(tenantDomain, application.getClientId()), application);
+        }
+    }
+
+    /**
+     * Invalidate the cached mappings of the application with the given resource id. Should be called when the
+     * application is updated or deleted.
+     *
+     * @param tenantDomain Tenant domain of the application.
+     * @param resourceId   Resource id of the application.
+     */
+    public void clearCacheEntryByResourceId(String tenantDomain, String resourceId) {
+
+        String resourceIdKey = buildKey(tenantDomain, resourceId);
+        ResolvedApplication application = applicationByResourceId.peek(resourceIdKey);
+        applicationByResourceId.clearCacheEntry(resourceIdKey);
+        if (application != null && StringUtils.isNotEmpty(application.getClientId())) {
+            applicationByClientId.clearCacheEntry(buildKey(tenantDomain, application.getClientId()));
+        }
+    }
+
+    /**
+     * Invalidate the cached mappings of the application with the given OAuth client id. Should be called when the
+     * application is updated or deleted.
+     *
+     * @param tenantDomain Tenant domain of the application.
+     * @param clientId     OAuth client id of the application.
+     */
+    public void clearCacheEntryByClientId(String tenantDomain, String clientId) {
+
+        String clientIdKey = buildKey(tenantDomain, clientId);
+        ResolvedApplication application = applicationByClientId.peek(clientIdKey);
+        applicationByClientId.clearCacheEntry(clientIdKey);
+        if (application != null) {
+            applicationByResourceId.clearCacheEntry(buildKey(tenantDomain, application.getResourceId()));
+        }
+    }
+
+    /**
+     * Invalidate all the cached mappings of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clear(String tenantDomain) {
+
+        String prefix = tenantDomain + KEY_SEPARATOR;
+        applicationByClientId.clearCacheEntries(key -> key.startsWith(prefix));
+        applicationByResourceId.clearCacheEntries(key -> key.startsWith(prefix));
+    }
+
+    public long getHitCount() {
+
+        return applicationByClientId.getHitCount() + applicationByResourceId.getHitCount();
+    }
+
+    public long getMissCount() {
+
+        return applicationByClientId.getMissCount() + applicationByResourceId.getMissCount();
+    }
+
+    private static String buildKey(String tenantDomain, String id) {
+
+        return tenantDomain + KEY_SEPARATOR + id;
+    }
+
+    /**
+     * Immutable resource id, OAuth client id and name of a resolved application.
+     */
+    public static final class ResolvedApplication {
+
+        private final String resourceId;
+        private final String clientId;
+        private final String name;
+
+        public ResolvedApplication(String resourceId, String clientId, String name) {
+
+            this.resourceId = resourceId;
+            this.clientId = clientId;
+            this.name = name;
+        }
+
+        public String getResourceId() {
+
+            return resourceId;
+        }
+
+        public String getClientId() {
+
+            return clientId;
+        }
+
+        public String getName() {
+
+            return name;
+        }
+    }
+}
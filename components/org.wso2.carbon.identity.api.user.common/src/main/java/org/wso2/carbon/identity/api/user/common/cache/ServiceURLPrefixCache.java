@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.ServiceURLBuilder;
+import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+/**
+ * Caches the public URL prefixes resolved through the {@link ServiceURLBuilder} for an API base path, so that
+ * rendering a link only needs a string concatenation of the cached prefix and the endpoint.
+ * <p>
+ * The cache key contains the base path and every context value the URL builder depends on (tenant qualified URL
+ * mode, the resolved tenant domain, the organization in the carbon context and the proxy context path), hence a
+ * change in any of them resolves a new prefix instead of serving a stale one.
+ */
+public class ServiceURLPrefixCache {
+
+    public static final String CACHE_NAME = "UserAPIServiceURLPrefixCache";
+
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final long DEFAULT_TIMEOUT = 3600;
+    private static final String PROXY_CONTEXT_PATH = "ProxyContextPath";
+    private static final String PATH_SEPARATOR = "/";
+    private static final char KEY_SEPARATOR = '|';
+    private static final char RELATIVE_URL = 'R';
+    private static final char ABSOLUTE_URL = 'A';
+
+    private static final ServiceURLPrefixCache instance = new ServiceURLPrefixCache();
+
+    private final UserApiCache<String, String> prefixes;
+
+    private ServiceURLPrefixCache() {
+
+        prefixes = new UserApiCache<>(CACHE_NAME, DEFAULT_CAPACITY, DEFAULT_TIMEOUT);
+    }
+
+    public static ServiceURLPrefixCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the relative public URL of the endpoint under the given base path.
+     *
+     * @param basePath Base path of the API. Ex: /t/carbon.super/api/users
+     * @param endpoint Endpoint relative to the base path. May contain a query string.
+     * @return Relative public URL.
+     * @throws URLBuilderException If an error occurs while resolving the URL prefix.
+     */
+    public String getRelativePublicURL(String basePath, String endpoint) throws URLBuilderException {
+
+        String key = buildKey(RELATIVE_URL, basePath);
+        String prefix = prefixes.getValueFromCache(key);
+        if (prefix == null) {
+            prefix = ServiceURLBuilder.create().addPath(basePath).build().getRelativePublicURL();
+            prefixes.addToCache(key, prefix);
+        }
+        return concat(prefix, endpoint);
+    }
+
+    /**
+     * Get the absolute public URL of the endpoint under the given base path.
+     *
+     * @param basePath Base path of the API. Ex: /t/carbon.super/api/users
+     * @param endpoint Endpoint relative to the base path. May contain a query string.
+     * @return Absolute public URL.
+     * @throws URLBuilderException If an error occurs while resolving the URL prefix.
+     */
+    public String getAbsolutePublicURL(String basePath, String endpoint) throws URLBuilderException {
+
+        String key = buildKey(ABSOLUTE_URL, basePath);
+        String prefix = prefixes.getValueFromCache(key);
+        if (prefix == null) {
+            prefix = ServiceURLBuilder.create().addPath(basePath).build().getAbsolutePublicURL();
+            prefixes.addToCache(key, prefix);
+        }
+        return concat(prefix, endpoint);
+    }
+
+    /**
+     * Drop all the resolved prefixes.
+     */
+    public void clear() {
+
+        prefixes.clear();
+    }
+
+    public long getHitCount() {
+
+        return prefixes.getHitCount();
+    }
+
+    public long getMissCount() {
+
+        return prefixes.getMissCount();
+    }
+
+    private static String buildKey(char urlType, String basePath) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        return new StringBuilder()
+                .append(urlType).append(KEY_SEPARATOR)
+                .append(basePath).append(KEY_SEPARATOR)
+                .append(IdentityTenantUtil.isTenantQualifiedUrlsEnabled()).append(KEY_SEPARATOR)
+                .append(IdentityTenantUtil.resolveTenantDomain()).append(KEY_SEPARATOR)
+                .append(carbonContext.getTenantDomain()).append(KEY_SEPARATOR)
+                .append(carbonContext.getOrganizationId()).append(KEY_SEPARATOR)
+                .append(ServerConfiguration.getInstance().getFirstProperty(PROXY_CONTEXT_PATH))
+                .toString();
+    }
+
+    private static String concat(String prefix, String endpoint) {
+
+        if (StringUtils.isEmpty(endpoint)) {
+            return prefix;
+        }
+        if (prefix.endsWith(PATH_SEPARATOR) && endpoint.startsWith(PATH_SEPARATOR)) {
+            return prefix + endpoint.substring(1);
+        }
+        if (!prefix.endsWith(PATH_SEPARATOR) && !endpoint.startsWith(PATH_SEPARATOR) && !endpoint.startsWith("?")) {
+            return prefix + PATH_SEPARATOR + endpoint;
+        }
+        return prefix + endpoint;
+    }
+}
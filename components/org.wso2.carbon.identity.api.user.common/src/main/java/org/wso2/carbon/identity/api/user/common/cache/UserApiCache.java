@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, node local cache with time based expiry used by the user APIs to avoid repeated backend lookups.
+ * The capacity and the timeout (in seconds) can be overridden through the identity.xml cache configuration of the
+ * {@value #CACHE_MANAGER_NAME} cache manager using the name of the cache. Setting enable="false" for the cache
+ * turns it into a no-op.
+ * <pre>
+ * &lt;CacheManager name="UserAPICacheManager"&gt;
+ *     &lt;Cache name="UserAPIUserIdByUsernameCache" enable="true" timeout="60" capacity="10000"/&gt;
+ * &lt;/CacheManager&gt;
+ * </pre>
+ * The entries are kept in a {@link ConcurrentHashMap}, so a lookup does not take a lock. Once the capacity is
+ * exceeded, the entries are evicted with the CLOCK approximation of LRU: a lookup marks the entry as referenced, and
+ * the eviction sweeps the entries, evicting the first expired or unreferenced entry while clearing the mark of the
+ * referenced ones. Only the writers that exceed the capacity serialize on the sweep.
+ *
+ * @param <K> Cache key type.
+ * @param <V> Cache value type.
+ */
+public class UserApiCache<K, V> {
+
+    public static final String CACHE_MANAGER_NAME = "UserAPICacheManager";
+
+    private static final Log log = LogFactory.getLog(UserApiCache.class);
+
+    private final String cacheName;
+    private final boolean enabled;
+    private final int capacity;
+    private final long timeoutNanos;
+    private final ConcurrentHashMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private Iterator<Map.Entry<K, CacheEntry<V>>> clockHand;
+
+    /**
+     * Create a cache.
+     *
+     * @param cacheName       Name of the cache. Used to look up the identity.xml overrides.
+     * @param defaultCapacity Maximum number of entries, unless overridden.
+     * @param defaultTimeout  Time to live of an entry in seconds, unless overridden.
+     */
+    public UserApiCache(String cacheName, int defaultCapacity, long defaultTimeout) {
+
+        this(cacheName, IdentityUtil.getIdentityCacheConfig(CACHE_MANAGER_NAME, cacheName), defaultCapacity,
+                defaultTimeout);
+    }
+
+    private UserApiCache(String cacheName, IdentityCacheConfig cacheConfig, int defaultCapacity,
+                         long defaultTimeout) {
+
+        this(cacheName, cacheConfig == null || cacheConfig.isEnabled(),
+                cacheConfig != null && cacheConfig.getCapacity() > 0 ? cacheConfig.getCapacity() : defaultCapacity,
+                TimeUnit.SECONDS.toNanos(cacheConfig != null && cacheConfig.getTimeout() > 0 ?
+                        cacheConfig.getTimeout() : defaultTimeout));
+    }
+
+    UserApiCache(String cacheName, boolean enabled, int capacity, long timeoutNanos) {
+
+        this.cacheName = cacheName;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.timeoutNanos = timeoutNanos;
+        if (log.isDebugEnabled()) {
+            log.debug("Initialized cache: " + cacheName + " with enabled: " + enabled + ", capacity: " + capacity
+                    + ", timeout: " + TimeUnit.NANOSECONDS.toSeconds(timeoutNanos) + "s.");
+        }
+    }
+
+    /**
+     * Add an entry to the cache using the default timeout of the cache.
+     *
+     * @param key   Cache key.
+     * @param value Cache value.
+     */
+    public void addToCache(K key, V value) {
+
+        addToCache(key, value, timeoutNanos);
+    }
+
+    /**
+     * Add an entry to the cache which expires after the given time.
+     *
+     * @param key      Cache key.
+     * @param value    Cache value.
+     * @param duration Time to live of the entry.
+     * @param unit     Time unit of the duration.
+     */
+    public void addToCache(K key, V value, long duration, TimeUnit unit) {
+
+        addToCache(key, value, Math.min(unit.toNanos(duration), timeoutNanos));
+    }
+
+    /**
+     * Get a live entry from the cache.
+     *
+     * @param key Cache key.
+     * @return Cached value or null if the entry is not present or expired.
+     */
+    public V getValueFromCache(K key) {
+
+        return getValueFromCache(key, true);
+    }
+
+    /**
+     * Get a live entry from the cache, counting a miss only if requested. Used by the lookups which fall through to
+     * another cache, so that a value found in the other cache is not counted as a miss of this one.
+     *
+     * @param key        Cache key.
+     * @param recordMiss Whether to count a miss.
+     * @return Cached value or null if the entry is not present or expired.
+     */
+    V getValueFromCache(K key, boolean recordMiss) {
+
+        if (!enabled || key == null) {
+            return null;
+        }
+        CacheEntry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.isExpired(System.nanoTime())) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+            entries.remove(key, entry);
+        }
+        if (recordMiss) {
+            missCount.incrementAndGet();
+        }
+        return null;
+    }
+
+    /**
+     * Get an entry from the cache without marking it as referenced or affecting the hit and miss counters.
+     *
+     * @param key Cache key.
+     * @return Cached value or null if the entry is not present or expired.
+     */
+    V peek(K key) {
+
+        if (key == null) {
+            return null;
+        }
+        CacheEntry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired(System.nanoTime()) ? entry.value : null;
+    }
+
+    /**
+     * Remove an entry from the cache.
+     *
+     * @param key Cache key.
+     */
+    public void clearCacheEntry(K key) {
+
+        if (key == null) {
+            return;
+        }
+        entries.remove(key);
+    }
+
+    /**
+     * Remove all the entries whose key matches the given predicate. Used for tenant wide invalidations.
+     *
+     * @param predicate Predicate evaluated against the cache keys.
+     */
+    public void clearCacheEntries(Predicate<K> predicate) {
+
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Remove all the entries from the cache.
+     */
+    public void clear() {
+
+        entries.clear();
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.get();
+    }
+
+    private void addToCache(K key, V value, long ttlNanos) {
+
+        if (!enabled || key == null || value == null) {
+            return;
+        }
+        entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos));
+        if (entries.size() > capacity) {
+            evict();
+        }
+    }
+
+    private void evict() {
+
+        synchronized (evictionLock) {
+            long now = System.nanoTime();
+            // Every entry is visited at most twice, once to clear its mark and once to evict it, so the sweep ends
+            // even if the entries are being referenced concurrently.
+            int remainingSteps = 2 * entries.size() + 1;
+            while (entries.size() > capacity && remainingSteps-- > 0) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = entries.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<K, CacheEntry<V>> candidate = clockHand.next();
+                CacheEntry<V> entry = candidate.getValue();
+                if (entry.referenced && !entry.isExpired(now)) {
+                    entry.referenced = false;
+                } else if (entries.remove(candidate.getKey(), entry)) {
+                    evictionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Cached value with its expiry time and the reference mark of the CLOCK eviction.
+     */
+    private static final class CacheEntry<V> {
+
+        private final V value;
+        private final long expiry;
+        private volatile boolean referenced;
+
+        private CacheEntry(V value, long expiry) {
+
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        private boolean isExpired(long now) {
+
+            return expiry - now <= 0;
+        }
+    }
+}
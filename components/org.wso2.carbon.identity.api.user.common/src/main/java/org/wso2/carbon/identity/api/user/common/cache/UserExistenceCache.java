@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tenant aware cache of the user id validation results. Existing user ids are kept in a positive cache with a
+ * longer timeout while non-existing user ids are kept in a separate negative cache with a short timeout, so that
+ * repeated lookups of random user ids are rejected without reaching the session store or the user store.
+ * <p>
+ * The positive entry of a user id is cleared when the user store reports the user as non-existing to any other
+ * lookup, and the positive timeout is kept short, since the deletion of a user is not notified to the user APIs.
+ */
+public class UserExistenceCache {
+
+    public static final String POSITIVE_CACHE_NAME = "UserAPIExistingUserIdCache";
+    public static final String NEGATIVE_CACHE_NAME = "UserAPINonExistingUserIdCache";
+
+    private static final int DEFAULT_POSITIVE_CAPACITY = 10000;
+    private static final long DEFAULT_POSITIVE_TIMEOUT = 60;
+    private static final int DEFAULT_NEGATIVE_CAPACITY = 10000;
+    private static final long DEFAULT_NEGATIVE_TIMEOUT = 30;
+    private static final String KEY_SEPARATOR = ":";
+
+    private static final UserExistenceCache instance = new UserExistenceCache();
+
+    private final UserApiCache<String, Boolean> existingUsers;
+    private final UserApiCache<String, Boolean> nonExistingUsers;
+    private final LongAdder missCount = new LongAdder();
+
+    private UserExistenceCache() {
+
+        this(new UserApiCache<>(POSITIVE_CACHE_NAME, DEFAULT_POSITIVE_CAPACITY, DEFAULT_POSITIVE_TIMEOUT),
+                new UserApiCache<>(NEGATIVE_CACHE_NAME, DEFAULT_NEGATIVE_CAPACITY, DEFAULT_NEGATIVE_TIMEOUT));
+    }
+
+    UserExistenceCache(UserApiCache<String, Boolean> existingUsers, UserApiCache<String, Boolean> nonExistingUsers) {
+
+        this.existingUsers = existingUsers;
+        this.nonExistingUsers = nonExistingUsers;
+    }
+
+    public static UserExistenceCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached existence of the given user id.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @param userId       Unique user id.
+     * @return TRUE or FALSE if the result is cached, null otherwise.
+     */
+    public Boolean isExistingUser(String tenantDomain, String userId) {
+
+        String key = buildKey(tenantDomain, userId);
+        if (existingUsers.getValueFromCache(key, false) != null) {
+            return Boolean.TRUE;
+        }
+        if (nonExistingUsers.getValueFromCache(key, false) != null) {
+            return Boolean.FALSE;
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Cache the existence of the given user id.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @param userId       Unique user id.
+     * @param exists       Whether the user exists.
+     */
+    public void addToCache(String tenantDomain, String userId, boolean exists) {
+
+        String key = buildKey(tenantDomain, userId);
+        if (exists) {
+            nonExistingUsers.clearCacheEntry(key);
+            existingUsers.addToCache(key, Boolean.TRUE);
+        } else {
+            existingUsers.clearCacheEntry(key);
+            nonExistingUsers.addToCache(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Invalidate the cached result of the given user id.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @param userId       Unique user id.
+     */
+    public void clearCacheEntry(String tenantDomain, String userId) {
+
+        String key = buildKey(tenantDomain, userId);
+        existingUsers.clearCacheEntry(key);
+        nonExistingUsers.clearCacheEntry(key);
+    }
+
+    /**
+     * Number of validations answered as existing from memory.
+     *
+     * @return Positive cache hit count.
+     */
+    public long getPositiveHitCount() {
+
+        return existingUsers.getHitCount();
+    }
+
+    /**
+     * Number of validations answered as non-existing from memory.
+     *
+     * @return Negative cache hit count.
+     */
+    public long getNegativeHitCount() {
+
+        return nonExistingUsers.getHitCount();
+    }
+
+    /**
+     * Number of validations which had to reach the session store or the user store.
+     *
+     * @return Miss count.
+     */
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    private static String buildKey(String tenantDomain, String userId) {
+
+        return tenantDomain + KEY_SEPARATOR + userId;
+    }
+}
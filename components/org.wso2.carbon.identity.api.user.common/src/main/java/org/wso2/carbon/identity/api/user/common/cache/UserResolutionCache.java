@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.user.core.UserCoreConstants;
+
+import java.util.Locale;
+
+/**
+ * Tenant aware, bidirectional cache of the username (qualified with the user store domain) to unique user id
+ * mapping. Both directions are populated together so that a lookup by either side is served from memory, and an
+ * invalidation of either side removes both.
+ * <p>
+ * The user APIs are not notified of the user operations of the user store, hence a rename or a delete is detected
+ * when the user is resolved again from the user store: a non existing user error clears both directions, and caching
+ * a mapping that contradicts a cached one clears the contradicting entries, so that the old username of a renamed
+ * user, or the old id of a re-created username, is not served any more. A mapping that is not looked up from the
+ * user store again is served until it expires, hence the default timeout is kept short.
+ */
+public class UserResolutionCache {
+
+    public static final String USER_ID_BY_USERNAME_CACHE_NAME = "UserAPIUserIdByUsernameCache";
+    public static final String USER_BY_USER_ID_CACHE_NAME = "UserAPIUserByUserIdCache";
+
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final long DEFAULT_TIMEOUT = 60;
+    private static final String KEY_SEPARATOR = ":";
+
+    private static final UserResolutionCache instance = new UserResolutionCache();
+
+    private final UserApiCache<String, ResolvedUser> userIdByUsername;
+    private final UserApiCache<String, ResolvedUser> userByUserId;
+
+    private UserResolutionCache() {
+
+        this(new UserApiCache<>(USER_ID_BY_USERNAME_CACHE_NAME, DEFAULT_CAPACITY, DEFAULT_TIMEOUT),
+                new UserApiCache<>(USER_BY_USER_ID_CACHE_NAME, DEFAULT_CAPACITY, DEFAULT_TIMEOUT));
+    }
+
+    UserResolutionCache(UserApiCache<String, ResolvedUser> userIdByUsername,
+                        UserApiCache<String, ResolvedUser> userByUserId) {
+
+        this.userIdByUsername = userIdByUsername;
+        this.userByUserId = userByUserId;
+    }
+
+    public static UserResolutionCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the unique id of the user with the given username.
+     *
+     * @param tenantId        Tenant id of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Username without the user store domain.
+     * @return Unique user id or null if the mapping is not cached.
+     */
+    public String getUserId(int tenantId, String userStoreDomain, String username) {
+
+        ResolvedUser resolvedUser = userIdByUsername.getValueFromCache(
+                buildUsernameKey(tenantId, userStoreDomain, username));
+        return resolvedUser != null ? resolvedUser.getUserId() : null;
+    }
+
+    /**
+     * Get the username and user store domain of the user with the given unique id.
+     *
+     * @param tenantId Tenant id of the user.
+     * @param userId   Unique user id.
+     * @return Resolved user or null if the mapping is not cached.
+     */
+    public ResolvedUser getUser(int tenantId, String userId) {
+
+        return userByUserId.getValueFromCache(buildUserIdKey(tenantId, userId));
+    }
+
+    /**
+     * Cache the mapping in both directions. A cached mapping of the same user id to another username, or of the same
+     * username to another user id, is cleared since the user has been renamed or re-created.
+     *
+     * @param tenantId        Tenant id of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Username without the user store domain.
+     * @param userId          Unique user id.
+     */
+    public void addToCache(int tenantId, String userStoreDomain, String username, String userId) {
+
+        if (StringUtils.isEmpty(username) || StringUtils.isEmpty(userId)) {
+            return;
+        }
+        ResolvedUser resolvedUser = new ResolvedUser(userId, username, normalizeDomain(userStoreDomain));
+        String usernameKey = buildUsernameKey(tenantId, userStoreDomain, username);
+        String userIdKey = buildUserIdKey(tenantId, userId);
+
+        ResolvedUser cachedByUserId = userByUserId.peek(userIdKey);
+        if (cachedByUserId != null) {
+            String cachedUsernameKey = buildUsernameKey(tenantId, cachedByUserId.getUserStoreDomain(),
+                    cachedByUserId.getUsername());
+            if (!cachedUsernameKey.equals(usernameKey)) {
+                userIdByUsername.clearCacheEntry(cachedUsernameKey);
+            }
+        }
+        ResolvedUser cachedByUsername = userIdByUsername.peek(usernameKey);
+        if (cachedByUsername != null && !cachedByUsername.getUserId().equals(userId)) {
+            userByUserId.clearCacheEntry(buildUserIdKey(tenantId, cachedByUsername.getUserId()));
+        }
+
+        userIdByUsername.addToCache(usernameKey, resolvedUser);
+        userByUserId.addToCache(userIdKey, resolvedUser);
+    }
+
+    /**
+     * Invalidate the cached mappings of the user with the given unique id. Should be called when the user is
+     * deleted or renamed.
+     *
+     * @param tenantId Tenant id of the user.
+     * @param userId   Unique user id.
+     */
+    public void clearCacheEntryByUserId(int tenantId, String userId) {
+
+        String userIdKey = buildUserIdKey(tenantId, userId);
+        ResolvedUser resolvedUser = userByUserId.peek(userIdKey);
+        userByUserId.clearCacheEntry(userIdKey);
+        if (resolvedUser != null) {
+            userIdByUsername.clearCacheEntry(buildUsernameKey(tenantId, resolvedUser.getUserStoreDomain(),
+                    resolvedUser.getUsername()));
+        }
+    }
+
+    /**
+     * Invalidate the cached mappings of the user with the given username. Should be called when the user is
+     * deleted or renamed.
+     *
+     * @param tenantId        Tenant id of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Username without the user store domain.
+     */
+    public void clearCacheEntryByUsername(int tenantId, String userStoreDomain, String username) {
+
+        String usernameKey = buildUsernameKey(tenantId, userStoreDomain, username);
+        ResolvedUser resolvedUser = userIdByUsername.peek(usernameKey);
+        userIdByUsername.clearCacheEntry(usernameKey);
+        if (resolvedUser != null) {
+            userByUserId.clearCacheEntry(buildUserIdKey(tenantId, resolvedUser.getUserId()));
+        }
+    }
+
+    /**
+     * Invalidate all the cached mappings of the given tenant.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void clear(int tenantId) {
+
+        String prefix = tenantId + KEY_SEPARATOR;
+        userIdByUsername.clearCacheEntries(key -> key.startsWith(prefix));
+        userByUserId.clearCacheEntries(key -> key.startsWith(prefix));
+    }
+
+    public long getHitCount() {
+
+        return userIdByUsername.getHitCount() + userByUserId.getHitCount();
+    }
+
+    public long getMissCount() {
+
+        return userIdByUsername.getMissCount() + userByUserId.getMissCount();
+    }
+
+    public UserApiCache<String, ResolvedUser> getUserIdByUsernameCache() {
+
+        return userIdByUsername;
+    }
+
+    public UserApiCache<String, ResolvedUser> getUserByUserIdCache() {
+
+        return userByUserId;
+    }
+
+    private static String buildUsernameKey(int tenantId, String userStoreDomain, String username) {
+
+        return tenantId + KEY_SEPARATOR + normalizeDomain(userStoreDomain) + UserCoreConstants.DOMAIN_SEPARATOR
+                + username;
+    }
+
+    private static String buildUserIdKey(int tenantId, String userId) {
+
+        return tenantId + KEY_SEPARATOR + userId;
+    }
+
+    private static String normalizeDomain(String userStoreDomain) {
+
+        return StringUtils.isEmpty(userStoreDomain) ? UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME :
+                userStoreDomain.toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Immutable username and unique id pair of a resolved user.
+     */
+    public static final class ResolvedUser {
+
+        private final String userId;
+        private final String username;
+        private final String userStoreDomain;
+
+        public ResolvedUser(String userId, String username, String userStoreDomain) {
+
+            this.userId = userId;
+            this.username = username;
+            this.userStoreDomain = userStoreDomain;
+        }
+
+        public String getUserId() {
+
+            return userId;
+        }
+
+        public String getUsername() {
+
+            return username;
+        }
+
+        public String getUserStoreDomain() {
+
+            return userStoreDomain;
+        }
+    }
+}
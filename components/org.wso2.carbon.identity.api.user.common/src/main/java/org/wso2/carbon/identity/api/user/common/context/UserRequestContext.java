@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.context;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+import org.wso2.carbon.identity.api.user.common.realm.UserStoreManagerResolver;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.user.api.UserStoreManager;
+import org.wso2.carbon.user.core.UserCoreConstants;
+
+import java.util.Locale;
+
+/**
+ * Request scoped memo of the identity of the caller. The user, the unique user id, the tenant id and the resolved
+ * user store managers are resolved at most once per request and reused by the subsequent lookups of the request.
+ * <p>
+ * The values are kept in the CXF {@link Exchange} of the request being served, which is discarded by CXF once the
+ * response is written. Hence no interceptor has to be registered to clear them, and a value can never leak into
+ * another request served by the same thread. Outside of a CXF request every lookup is resolved directly.
+ * <p>
+ * The keys contain the tenant domain and the username the value was resolved for, so a tenant flow started for a
+ * different user within the request does not get the values of the caller.
+ */
+public final class UserRequestContext {
+
+    private static final String KEY_PREFIX = UserRequestContext.class.getName();
+    private static final String USER = KEY_PREFIX + ".user:";
+    private static final String USER_ID = KEY_PREFIX + ".userId:";
+    private static final String TENANT_ID = KEY_PREFIX + ".tenantId:";
+    private static final String USER_STORE_MANAGER = KEY_PREFIX + ".userStoreManager:";
+    private static final char KEY_SEPARATOR = '|';
+
+    private UserRequestContext() {
+
+    }
+
+    /**
+     * Resolves a value which is memoized for the request.
+     *
+     * @param <T> Type of the value.
+     * @param <E> Exception thrown by the resolver.
+     */
+    @FunctionalInterface
+    public interface Resolver<T, E extends Exception> {
+
+        T resolve() throws E;
+    }
+
+    /**
+     * Get the user with the given username in the given tenant.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @param username     Username, optionally prefixed with the user store domain.
+     * @param resolver     Resolver of the user, invoked once per request.
+     * @return User.
+     */
+    public static User getUser(String tenantDomain, String username, Resolver<User, RuntimeException> resolver) {
+
+        return memoize(USER + tenantDomain + KEY_SEPARATOR + username, resolver);
+    }
+
+    /**
+     * Get the unique id of the given user.
+     *
+     * @param user     User.
+     * @param resolver Resolver of the unique user id, invoked once per request.
+     * @param <E>      Exception thrown by the resolver.
+     * @return Unique user id.
+     * @throws E If the resolver fails.
+     */
+    public static <E extends Exception> String getUserId(User user, Resolver<String, E> resolver) throws E {
+
+        return memoize(USER_ID + user.getTenantDomain() + KEY_SEPARATOR + normalizeDomain(user.getUserStoreDomain())
+                + UserCoreConstants.DOMAIN_SEPARATOR + user.getUserName(), resolver);
+    }
+
+    /**
+     * Get the unique id of the user with the given username in the given tenant.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @param username     Username, optionally prefixed with the user store domain.
+     * @param resolver     Resolver of the unique user id, invoked once per request.
+     * @param <E>          Exception thrown by the resolver.
+     * @return Unique user id.
+     * @throws E If the resolver fails.
+     */
+    public static <E extends Exception> String getUserId(String tenantDomain, String username,
+                                                         Resolver<String, E> resolver) throws E {
+
+        return memoize(USER_ID + tenantDomain + KEY_SEPARATOR + username, resolver);
+    }
+
+    /**
+     * Get the tenant id of the given tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Tenant id.
+     */
+    public static int getTenantId(String tenantDomain) {
+
+        Integer tenantId = memoize(TENANT_ID + tenantDomain,
+                () -> UserStoreManagerResolver.getInstance().getTenantId(tenantDomain));
+        return tenantId;
+    }
+
+    /**
+     * Get the user store manager of the given user store domain of the given tenant.
+     *
+     * @param tenantId        Tenant id.
+     * @param userStoreDomain User store domain. The realm user store manager is identified by an empty domain.
+     * @param resolver        Resolver of the user store manager, invoked once per request.
+     * @param <E>             Exception thrown by the resolver.
+     * @return User store manager.
+     * @throws E If the resolver fails.
+     */
+    public static <E extends Exception> UserStoreManager getUserStoreManager(int tenantId, String userStoreDomain,
+                                                                            Resolver<UserStoreManager, E> resolver)
+            throws E {
+
+        return memoize(USER_STORE_MANAGER + tenantId + KEY_SEPARATOR + StringUtils.upperCase(userStoreDomain,
+                Locale.ENGLISH), resolver);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Exception> T memoize(String key, Resolver<T, E> resolver) throws E {
+
+        Exchange exchange = getExchange();
+        if (exchange == null) {
+            return resolver.resolve();
+        }
+        T value = (T) exchange.get(key);
+        if (value == null) {
+            value = resolver.resolve();
+            if (value != null) {
+                exchange.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private static Exchange getExchange() {
+
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        return message != null ? message.getExchange() : null;
+    }
+
+    private static String normalizeDomain(String userStoreDomain) {
+
+        return StringUtils.isEmpty(userStoreDomain) ? UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME :
+                userStoreDomain.toUpperCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.user.common.correlation;
+
+/**
+ * Generates the correlation ids used as the trace id of the error responses when the request does not carry a
+ * correlation id. Implementations must be thread safe and must return UUID formatted strings.
+ */
+public interface CorrelationIdGenerator {
+
+    /**
+     * Generate a new correlation id.
+     *
+     * @return UUID formatted correlation id.
+     */
+    String generate();
+}
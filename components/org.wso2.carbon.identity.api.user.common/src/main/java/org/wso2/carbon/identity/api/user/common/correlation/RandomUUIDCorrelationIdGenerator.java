@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.user.common.correlation;
+
+import java.util.UUID;
+
+/**
+ * Generates correlation ids with {@link UUID#randomUUID()}. This is the default generator, since every id is drawn
+ * from a SecureRandom and cannot be predicted. All the threads share the SecureRandom, hence the deployments which
+ * raise errors at a high rate may configure a lower contention generator.
+ */
+public class RandomUUIDCorrelationIdGenerator implements CorrelationIdGenerator {
+
+    @Override
+    public String generate() {
+
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.user.common.correlation;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates correlation ids from a random per-node prefix and a lock free counter. The prefix is drawn once from a
+ * {@link SecureRandom}, hence generating an id does not contend on the shared random source used by
+ * {@link UUID#randomUUID()}. The ids keep the version 4 and the IETF variant bits, so they remain valid UUIDs.
+ * <p>
+ * The ids of a node are consecutive, hence an id can be predicted from a previous one. The generator must only be
+ * configured where the correlation ids are not exposed to untrusted clients or are not relied upon as unguessable.
+ */
+public class SequentialCorrelationIdGenerator implements CorrelationIdGenerator {
+
+    private final long prefix;
+    private final AtomicLong counter;
+
+    public SequentialCorrelationIdGenerator() {
+
+        SecureRandom random = new SecureRandom();
+        this.prefix = random.nextLong();
+        this.counter = new AtomicLong(random.nextLong());
+    }
+
+    @Override
+    public String generate() {
+
+        return UUIDFormat.toVersion4UUID(prefix, counter.getAndIncrement());
+    }
+}
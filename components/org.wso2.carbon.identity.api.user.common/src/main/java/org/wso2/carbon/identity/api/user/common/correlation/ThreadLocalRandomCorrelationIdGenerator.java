@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.user.common.correlation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random version 4 UUID correlation ids from the {@link ThreadLocalRandom} of the calling thread. The ids
+ * are not cryptographically random, which is not required for correlating logs.
+ */
+public class ThreadLocalRandomCorrelationIdGenerator implements CorrelationIdGenerator {
+
+    @Override
+    public String generate() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return UUIDFormat.toVersion4UUID(random.nextLong(), random.nextLong());
+    }
+}
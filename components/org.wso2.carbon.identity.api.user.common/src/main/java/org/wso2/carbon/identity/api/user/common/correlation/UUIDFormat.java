@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.user.common.correlation;
+
+/**
+ * Formats two longs as a version 4, IETF variant UUID string without allocating an intermediate UUID.
+ */
+final class UUIDFormat {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int UUID_LENGTH = 36;
+
+    private UUIDFormat() {
+
+    }
+
+    static String toVersion4UUID(long mostSigBits, long leastSigBits) {
+
+        long msb = (mostSigBits & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long lsb = (leastSigBits & 0x3fffffffffffffffL) | 0x8000000000000000L;
+
+        char[] chars = new char[UUID_LENGTH];
+        writeHex(chars, 0, msb >>> 32, 8);
+        chars[8] = '-';
+        writeHex(chars, 9, msb >>> 16, 4);
+        chars[13] = '-';
+        writeHex(chars, 14, msb, 4);
+        chars[18] = '-';
+        writeHex(chars, 19, lsb >>> 48, 4);
+        chars[23] = '-';
+        writeHex(chars, 24, lsb, 12);
+        return new String(chars);
+    }
+
+    private static void writeHex(char[] chars, int offset, long value, int digits) {
+
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+}
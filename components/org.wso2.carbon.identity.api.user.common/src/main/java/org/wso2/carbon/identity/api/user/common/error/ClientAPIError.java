@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.error;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * APIError for expected client errors (4xx) such as invalid user ids or malformed filters. The stack trace of a
+ * client error carries no diagnostic value since the cause is the request itself, hence it is not captured. This
+ * keeps the cost of rejecting a request close to the cost of building the error response.
+ */
+public class ClientAPIError extends APIError {
+
+    private static final long serialVersionUID = -4391856272960317421L;
+
+    public ClientAPIError(Response.Status status, ErrorDTO errorResponse) {
+
+        super(status, errorResponse);
+    }
+
+    public ClientAPIError(Response.Status status, String message, ErrorDTO errorResponse) {
+
+        super(status, message, errorResponse);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+
+        return this;
+    }
+}
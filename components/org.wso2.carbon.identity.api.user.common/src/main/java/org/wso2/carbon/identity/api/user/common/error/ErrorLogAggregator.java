@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.error;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycle;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Rate limits and aggregates the error logs of the user APIs per error code. Within a window, the first occurrences
+ * of an error code are logged with the full stack trace. The rest are only counted, and a summary with the number of
+ * suppressed occurrences is logged once the window ends, either by the next occurrence of the error code or by a
+ * periodic flush, which is started when the first occurrence is suppressed.
+ * <p>
+ * The total and the suppressed number of occurrences are kept per error code, and are exposed over JMX through the
+ * user API metrics MBean, so that alerts can be raised on the counters instead of parsing the logs. The window (in
+ * seconds) and the number of occurrences logged in full per window can be configured in identity.xml with
+ * {@value #WINDOW_PROPERTY} and {@value #FULL_LOG_LIMIT_PROPERTY}.
+ */
+public class ErrorLogAggregator {
+
+    public static final String WINDOW_PROPERTY = "UserAPI.ErrorLog.Window";
+    public static final String FULL_LOG_LIMIT_PROPERTY = "UserAPI.ErrorLog.FullLogLimit";
+
+    private static final Log log = LogFactory.getLog(ErrorLogAggregator.class);
+    private static final long DEFAULT_WINDOW = 60;
+    private static final int DEFAULT_FULL_LOG_LIMIT = 10;
+    // Error codes of server exceptions are not bounded by the API enums, so the number of tracked codes is capped.
+    private static final int MAX_ERROR_CODES = 1000;
+    private static final String UNDEFINED_ERROR_CODE = "UNDEFINED";
+    private static final String OTHER_ERROR_CODES = "OTHER";
+    private static final String FLUSH_THREAD_NAME = "UserAPIErrorLogFlush";
+
+    private static final ErrorLogAggregator instance = new ErrorLogAggregator(
+            TimeUnit.SECONDS.toNanos(readProperty(WINDOW_PROPERTY, DEFAULT_WINDOW)),
+            (int) readProperty(FULL_LOG_LIMIT_PROPERTY, DEFAULT_FULL_LOG_LIMIT));
+
+    private final long windowNanos;
+    private final int fullLogLimit;
+    private final Map<String, ErrorStats> errorStats = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    ErrorLogAggregator(long windowNanos, int fullLogLimit) {
+
+        this.windowNanos = windowNanos;
+        this.fullLogLimit = fullLogLimit;
+    }
+
+    public static ErrorLogAggregator getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Log an error occurrence, unless the full log limit of the error code in the current window is exceeded.
+     *
+     * @param errorLog  Logger of the class which raised the error.
+     * @param errorCode Error code of the error.
+     * @param message   Supplier of the message to be logged. Only invoked if the occurrence is logged.
+     * @param e         Cause of the error.
+     */
+    public void error(Log errorLog, String errorCode, Supplier<String> message, Throwable e) {
+
+        ErrorStats stats = getErrorStats(errorCode);
+        stats.total.incrementAndGet();
+        stats.errorLog = errorLog;
+        endWindow(stats, System.nanoTime());
+
+        if (stats.loggedInWindow.incrementAndGet() <= fullLogLimit) {
+            errorLog.error(message.get(), e);
+        } else {
+            stats.suppressedInWindow.incrementAndGet();
+            stats.suppressed.incrementAndGet();
+            scheduleFlush();
+            if (errorLog.isDebugEnabled()) {
+                errorLog.debug(message.get());
+            }
+        }
+    }
+
+    /**
+     * Log the summary of the error codes whose window has ended with suppressed occurrences, so that the count of
+     * the last window of an error code is logged even if the error code does not recur.
+     */
+    public void flush() {
+
+        long now = System.nanoTime();
+        for (ErrorStats stats : errorStats.values()) {
+            if (stats.suppressedInWindow.get() > 0) {
+                endWindow(stats, now);
+            }
+        }
+    }
+
+    /**
+     * Get the total number of occurrences of the given error code.
+     *
+     * @param errorCode Error code.
+     * @return Number of occurrences.
+     */
+    public long getErrorCount(String errorCode) {
+
+        ErrorStats stats = errorStats.get(normalize(errorCode));
+        return stats != null ? stats.total.get() : 0;
+    }
+
+    /**
+     * Get the number of occurrences of the given error code which were not logged in full.
+     *
+     * @param errorCode Error code.
+     * @return Number of suppressed occurrences.
+     */
+    public long getSuppressedCount(String errorCode) {
+
+        ErrorStats stats = errorStats.get(normalize(errorCode));
+        return stats != null ? stats.suppressed.get() : 0;
+    }
+
+    /**
+     * Get a snapshot of the total number of occurrences by the error code.
+     *
+     * @return Unmodifiable map of the occurrences by the error code.
+     */
+    public Map<String, Long> getErrorCounts() {
+
+        Map<String, Long> errorCounts = new HashMap<>();
+        errorStats.forEach((errorCode, stats) -> errorCounts.put(errorCode, stats.total.get()));
+        return Collections.unmodifiableMap(errorCounts);
+    }
+
+    /**
+     * Get a snapshot of the number of suppressed occurrences by the error code.
+     *
+     * @return Unmodifiable map of the suppressed occurrences by the error code.
+     */
+    public Map<String, Long> getSuppressedCounts() {
+
+        Map<String, Long> suppressedCounts = new HashMap<>();
+        errorStats.forEach((errorCode, stats) -> suppressedCounts.put(errorCode, stats.suppressed.get()));
+        return Collections.unmodifiableMap(suppressedCounts);
+    }
+
+    /**
+     * Reset all the counters.
+     */
+    public void reset() {
+
+        errorStats.clear();
+    }
+
+    private void endWindow(ErrorStats stats, long now) {
+
+        long windowStart = stats.windowStart.get();
+        if (now - windowStart >= windowNanos && stats.windowStart.compareAndSet(windowStart, now)) {
+            long suppressed = stats.suppressedInWindow.getAndSet(0);
+            stats.loggedInWindow.set(0);
+            if (suppressed > 0) {
+                stats.errorLog.error(String.format("errorCode: %s | %d similar errors were suppressed in the last %d " +
+                                "seconds. Total occurrences: %d", stats.errorCode, suppressed,
+                        TimeUnit.NANOSECONDS.toSeconds(now - windowStart), stats.total.get()));
+            }
+        }
+    }
+
+    private void scheduleFlush() {
+
+        if (flushScheduled.get() || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, FLUSH_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Error while flushing the suppressed error logs.", e);
+            }
+        }, windowNanos, windowNanos, TimeUnit.NANOSECONDS);
+        UserApiLifecycle.getInstance().register(FLUSH_THREAD_NAME, () -> {
+            flushExecutor.shutdownNow();
+            flush();
+        });
+    }
+
+    private ErrorStats getErrorStats(String errorCode) {
+
+        String key = normalize(errorCode);
+        ErrorStats stats = errorStats.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (errorStats.size() >= MAX_ERROR_CODES) {
+            key = OTHER_ERROR_CODES;
+        }
+        return errorStats.computeIfAbsent(key, code -> new ErrorStats(code, System.nanoTime()));
+    }
+
+    private static String normalize(String errorCode) {
+
+        return StringUtils.isEmpty(errorCode) ? UNDEFINED_ERROR_CODE : errorCode;
+    }
+
+    private static long readProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                long parsedValue = Long.parseLong(value.trim());
+                if (parsedValue > 0) {
+                    return parsedValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + property + ". Using the default value: "
+                        + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Occurrence counters of an error code.
+     */
+    private static final class ErrorStats {
+
+        private final String errorCode;
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicLong windowStart;
+        private final AtomicInteger loggedInWindow = new AtomicInteger();
+        private final AtomicLong suppressedInWindow = new AtomicLong();
+        private volatile Log errorLog = log;
+
+        private ErrorStats(String errorCode, long windowStart) {
+
+            this.errorCode = errorCode;
+            this.windowStart = new AtomicLong(windowStart);
+        }
+    }
+}
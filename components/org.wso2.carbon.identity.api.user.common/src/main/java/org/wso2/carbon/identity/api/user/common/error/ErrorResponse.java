@@ -66,14 +66,25 @@ public class ErrorResponse extends ErrorDTO {
             return error;
         }
 
+        /**
+         * Error response builder for errors with exceptions. The error is logged through the
+         * {@link ErrorLogAggregator}, hence repeated occurrences of the same error code are rate limited.
+         *
+         * @param log     Logger
+         * @param e       Exception
+         * @param message Error message
+         * @return ErrorResponse object
+         */
         public ErrorResponse build(Log log, Exception e, String message) {
             ErrorResponse error = build();
-            String errorMessageFormat = "errorCode: %s | message: %s";
-            String errorMsg = String.format(errorMessageFormat, error.getCode(), message);
-            if (!isCorrelationIDPresent()) {
-                errorMsg = String.format("correlationID: %s | " + errorMsg, error.getTraceId());
-            }
-            log.error(errorMsg, e);
+            ErrorLogAggregator.getInstance().error(log, error.getCode(), () -> {
+                String errorMessageFormat = "errorCode: %s | message: %s";
+                String errorMsg = String.format(errorMessageFormat, error.getCode(), message);
+                if (!isCorrelationIDPresent()) {
+                    errorMsg = String.format("correlationID: %s | " + errorMsg, error.getTraceId());
+                }
+                return errorMsg;
+            }, e);
             return error;
         }
 
@@ -87,13 +98,12 @@ public class ErrorResponse extends ErrorDTO {
         public ErrorResponse build(Log log, String message) {
 
             ErrorResponse error = build();
-            String errorMessageFormat = "errorCode: %s | message: %s";
-            String errorMsg = String.format(errorMessageFormat, error.getCode(), message);
-            if (!isCorrelationIDPresent()) {
-                errorMsg = String.format("correlationID: %s | " + errorMsg, error.getTraceId());
-            }
-
             if (log.isDebugEnabled()) {
+                String errorMessageFormat = "errorCode: %s | message: %s";
+                String errorMsg = String.format(errorMessageFormat, error.getCode(), message);
+                if (!isCorrelationIDPresent()) {
+                    errorMsg = String.format("correlationID: %s | " + errorMsg, error.getTraceId());
+                }
                 log.debug(errorMsg);
             }
             return error;
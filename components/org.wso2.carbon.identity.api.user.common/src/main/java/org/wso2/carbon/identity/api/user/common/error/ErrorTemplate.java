@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.error;
+
+import org.apache.commons.logging.Log;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Immutable, pre-rendered code, message and description of an error. Templates are created once per error enum
+ * constant so that raising a known error does not re-compute its code or re-render its texts. Only the trace id
+ * is resolved per error response.
+ */
+public final class ErrorTemplate {
+
+    private final String code;
+    private final String message;
+    private final String description;
+
+    public ErrorTemplate(String code, String message, String description) {
+
+        this.code = code;
+        this.message = message;
+        this.description = description;
+    }
+
+    /**
+     * Pre-render the templates of all the constants of an error enum.
+     *
+     * @param errorEnum   Error enum class.
+     * @param code        Function returning the error code of a constant.
+     * @param message     Function returning the error message of a constant.
+     * @param description Function returning the error description of a constant.
+     * @param <E>         Error enum type.
+     * @return Unmodifiable map of the templates by the enum constant.
+     */
+    public static <E extends Enum<E>> Map<E, ErrorTemplate> forEnum(Class<E> errorEnum, Function<E, String> code,
+                                                                    Function<E, String> message,
+                                                                    Function<E, String> description) {
+
+        Map<E, ErrorTemplate> templates = new EnumMap<>(errorEnum);
+        for (E error : errorEnum.getEnumConstants()) {
+            templates.put(error, new ErrorTemplate(code.apply(error), message.apply(error),
+                    description.apply(error)));
+        }
+        return Collections.unmodifiableMap(templates);
+    }
+
+    public String getCode() {
+
+        return code;
+    }
+
+    public String getMessage() {
+
+        return message;
+    }
+
+    public String getDescription() {
+
+        return description;
+    }
+
+    /**
+     * Get a template of the same error with the given data formatted into the description, for the errors whose
+     * description has placeholders.
+     *
+     * @param data Data to be formatted into the description.
+     * @return ErrorTemplate with the formatted description.
+     */
+    public ErrorTemplate withDescriptionData(Object... data) {
+
+        return new ErrorTemplate(code, message, String.format(description, data));
+    }
+
+    /**
+     * Build an error response from the template.
+     *
+     * @return ErrorResponse object.
+     */
+    public ErrorResponse build() {
+
+        return builder().build();
+    }
+
+    /**
+     * Build an error response from the template and log the given message at debug level.
+     *
+     * @param log     Logger.
+     * @param message Message to be logged.
+     * @return ErrorResponse object.
+     */
+    public ErrorResponse build(Log log, String message) {
+
+        return builder().build(log, message);
+    }
+
+    /**
+     * Build an error response from the template and log the given message with the cause.
+     *
+     * @param log     Logger.
+     * @param e       Cause of the error.
+     * @param message Message to be logged.
+     * @return ErrorResponse object.
+     */
+    public ErrorResponse build(Log log, Exception e, String message) {
+
+        return builder().build(log, e, message);
+    }
+
+    /**
+     * Build a stackless client error from the template. The message is logged at debug level only.
+     *
+     * @param status  HTTP status of the client error.
+     * @param log     Logger.
+     * @param message Message to be logged.
+     * @return ClientAPIError to be thrown.
+     */
+    public ClientAPIError toClientError(Response.Status status, Log log, String message) {
+
+        return new ClientAPIError(status, build(log, message));
+    }
+
+    private ErrorResponse.Builder builder() {
+
+        return new ErrorResponse.Builder().withCode(code).withMessage(message).withDescription(description);
+    }
+}
@@ -19,10 +19,13 @@ package org.wso2.carbon.identity.api.user.common.function;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.user.common.cache.UserExistenceCache;
+import org.wso2.carbon.identity.api.user.common.cache.UserResolutionCache;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.user.common.realm.UserStoreManagerResolver;
 import org.wso2.carbon.identity.application.common.model.User;
-import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UniqueIDUserStoreManager;
 import org.wso2.carbon.user.core.UserStoreException;
@@ -63,14 +66,26 @@ public class UniqueIdToUser implements BiFunction<RealmService, String[], User>
                 throw buildUserNotFoundError();
             }
 
+            int tenantId = UserStoreManagerResolver.getInstance().getTenantId(tenantDomain);
+            UserResolutionCache.ResolvedUser cachedUser = UserResolutionCache.getInstance().getUser(tenantId, userId);
+            if (cachedUser != null) {
+                return buildUser(cachedUser, tenantDomain);
+            }
+
             UniqueIDUserStoreManager uniqueIdEnabledUserStoreManager =
-                    getUniqueIdEnabledUserStoreManager(realmService, tenantDomain);
+                    getUniqueIdEnabledUserStoreManager(realmService, tenantId);
             org.wso2.carbon.user.core.common.User user =
                     uniqueIdEnabledUserStoreManager.getUserWithID(userId, null, null);
-            return getUser(user);
+            User resolvedUser = getUser(user);
+            UserResolutionCache.getInstance().addToCache(tenantId, resolvedUser.getUserStoreDomain(),
+                    resolvedUser.getUserName(), userId);
+            return resolvedUser;
         } catch (org.wso2.carbon.user.api.UserStoreException e) {
 
             if (isUserNotExistingError(e)) {
+                UserResolutionCache.getInstance().clearCacheEntryByUserId(
+                        UserStoreManagerResolver.getInstance().getTenantId(args[1]), userId);
+                UserExistenceCache.getInstance().clearCacheEntry(args[1], userId);
                 if (log.isDebugEnabled()) {
                     log.debug("Cannot retrieve user from userId: " + userId, e);
                 }
@@ -84,11 +99,20 @@ public class UniqueIdToUser implements BiFunction<RealmService, String[], User>
         }
     }
 
-    private UniqueIDUserStoreManager getUniqueIdEnabledUserStoreManager(RealmService realmService, String tenantDomain)
+    private User buildUser(UserResolutionCache.ResolvedUser resolvedUser, String tenantDomain) {
+
+        User user = new User();
+        user.setUserName(resolvedUser.getUsername());
+        user.setUserStoreDomain(resolvedUser.getUserStoreDomain());
+        user.setTenantDomain(tenantDomain);
+        return user;
+    }
+
+    private UniqueIDUserStoreManager getUniqueIdEnabledUserStoreManager(RealmService realmService, int tenantId)
             throws org.wso2.carbon.user.api.UserStoreException {
 
-        UserStoreManager userStoreManager = realmService.getTenantUserRealm(
-                IdentityTenantUtil.getTenantId(tenantDomain)).getUserStoreManager();
+        UserStoreManager userStoreManager = UserStoreManagerResolver.getInstance().getUserStoreManager(realmService,
+                tenantId);
         if (!(userStoreManager instanceof UniqueIDUserStoreManager)) {
             if (log.isDebugEnabled()) {
                 log.debug("Provided user store manager does not support unique user IDs.");
@@ -107,10 +131,6 @@ public class UniqueIdToUser implements BiFunction<RealmService, String[], User>
 
     private APIError buildUserNotFoundError() {
 
-        return new APIError(Response.Status.NOT_FOUND, new ErrorResponse.Builder()
-                .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
-                .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage())
-                .withDescription(ERROR_CODE_INVALID_USERNAME.getDescription())
-                .build());
+        return new ClientAPIError(Response.Status.NOT_FOUND, ERROR_CODE_INVALID_USERNAME.getTemplate().build());
     }
 }
@@ -19,8 +19,7 @@ package org.wso2.carbon.identity.api.user.common.function;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.api.user.common.error.APIError;
-import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
 import org.wso2.carbon.identity.application.common.model.User;
 
 import java.nio.charset.StandardCharsets;
@@ -59,10 +58,7 @@ public class UserIdToUser implements Function<String[], User> {
 
             return getUser(tenantDomain, decodedUsername);
         } catch (Exception e) {
-            throw new APIError(Response.Status.BAD_REQUEST, new ErrorResponse.Builder()
-                    .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
-                    .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage())
-                    .withDescription(ERROR_CODE_INVALID_USERNAME.getDescription())
+            throw new ClientAPIError(Response.Status.BAD_REQUEST, ERROR_CODE_INVALID_USERNAME.getTemplate()
                     .build(log, e, "Invalid userId: " + userId));
         }
     }
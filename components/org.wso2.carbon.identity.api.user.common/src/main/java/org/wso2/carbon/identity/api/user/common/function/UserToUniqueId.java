@@ -19,13 +19,15 @@ package org.wso2.carbon.identity.api.user.common.function;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.user.common.cache.UserResolutionCache;
+import org.wso2.carbon.identity.api.user.common.context.UserRequestContext;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
-import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.user.common.realm.UserStoreManagerResolver;
 import org.wso2.carbon.identity.application.common.model.User;
-import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.constants.UserCoreErrorConstants;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.function.BiFunction;
@@ -33,6 +35,7 @@ import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.user.common.Constants.ErrorMessage.ERROR_CODE_INVALID_USERNAME;
+import static org.wso2.carbon.identity.api.user.common.Constants.ErrorMessage.ERROR_CODE_SERVER_ERROR;
 
 /**
  * Build user object from the unique user id and tenant domain
@@ -54,57 +57,55 @@ public class UserToUniqueId implements BiFunction<RealmService, User, String> {
         if (StringUtils.isEmpty(user.getTenantDomain())) {
             throw new WebApplicationException("User tenant domain cannot be empty");
         }
-        String tenantDomain = user.getTenantDomain();
+        String userId;
         try {
-            UserStoreManager userStoreManager = getUserStoreManager(realmService, tenantDomain,
-                    user.getUserStoreDomain());
-            return getUniqueIdForUser(user, userStoreManager);
-        } catch (Exception e) {
-            throw new APIError(Response.Status.BAD_REQUEST, new ErrorResponse.Builder()
-                    .withCode(ERROR_CODE_INVALID_USERNAME.getCode())
-                    .withMessage(ERROR_CODE_INVALID_USERNAME.getMessage())
-                    .withDescription(ERROR_CODE_INVALID_USERNAME.getDescription())
-                    .build(log, e, "Invalid user: " + user.toFullQualifiedUsername()));
+            userId = UserRequestContext.getUserId(user, () -> resolveUserId(realmService, user));
+        } catch (org.wso2.carbon.user.api.UserStoreException e) {
+            if (isUserNotExistingError(e)) {
+                throw ERROR_CODE_INVALID_USERNAME.getTemplate().toClientError(Response.Status.BAD_REQUEST, log,
+                        "Invalid user: " + user.toFullQualifiedUsername());
+            }
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_SERVER_ERROR.getTemplate()
+                    .build(log, e, "Error occurred while retrieving the id of the user: "
+                            + user.toFullQualifiedUsername()));
+        }
+        if (StringUtils.isEmpty(userId)) {
+            throw ERROR_CODE_INVALID_USERNAME.getTemplate().toClientError(Response.Status.BAD_REQUEST, log,
+                    "Invalid user: " + user.toFullQualifiedUsername());
         }
+        return userId;
     }
 
-    private String getUniqueIdForUser(User user, UserStoreManager userStoreManager) {
+    private String resolveUserId(RealmService realmService, User user)
+            throws org.wso2.carbon.user.api.UserStoreException {
 
-        try {
-            if (userStoreManager instanceof AbstractUserStoreManager) {
-                return ((AbstractUserStoreManager) userStoreManager).getUserIDFromUserName(user.getUserName());
-            }
-            if (log.isDebugEnabled()) {
-                log.debug("Provided user store manager for the user: " + user.toFullQualifiedUsername() + ", is " +
-                        "not an instance of the AbstractUserStore manager");
-            }
-            throw new WebApplicationException("Unable to get the unique id of the user: "
-                    + user.toFullQualifiedUsername() + ".");
-        } catch (UserStoreException e) {
-            if (log.isDebugEnabled()) {
-                log.debug("Error occurred while retrieving Id for the user: " + user.toFullQualifiedUsername(), e);
-            }
-            throw new WebApplicationException("Unable to retrieve Id for the user: " + user.toFullQualifiedUsername());
+        int tenantId = UserRequestContext.getTenantId(user.getTenantDomain());
+        String userId = UserResolutionCache.getInstance().getUserId(tenantId, user.getUserStoreDomain(),
+                user.getUserName());
+        if (userId != null) {
+            return userId;
         }
+        UserStoreManager userStoreManager = UserStoreManagerResolver.getInstance().getUserStoreManager(realmService,
+                tenantId, user.getUserStoreDomain());
+        userId = getUniqueIdForUser(user, userStoreManager);
+        UserResolutionCache.getInstance().addToCache(tenantId, user.getUserStoreDomain(), user.getUserName(),
+                userId);
+        return userId;
     }
 
-    private org.wso2.carbon.user.api.UserStoreManager getUserStoreManager(RealmService realmService,
-                                                                          String tenantDomain,
-                                                                          String userStoreDomain)
-            throws org.wso2.carbon.user.api.UserStoreException {
+    private String getUniqueIdForUser(User user, UserStoreManager userStoreManager) throws UserStoreException {
 
-        UserStoreManager userStoreManager = realmService.getTenantUserRealm(IdentityTenantUtil
-                .getTenantId(tenantDomain)).getUserStoreManager();
-        if (userStoreManager instanceof org.wso2.carbon.user.core.UserStoreManager) {
-            return ((org.wso2.carbon.user.core.UserStoreManager) userStoreManager).getSecondaryUserStoreManager(
-                    userStoreDomain);
-        }
-        if (log.isDebugEnabled()) {
-            log.debug("Unable to resolve the corresponding user store manager for the domain: " + userStoreDomain
-                    + ", as the provided user store manager: " + userStoreManager.getClass() + ", is not an instance " +
-                    "of org.wso2.carbon.user.core.UserStoreManager. Therefore returning the user store " +
-                    "manager: " + userStoreManager.getClass() + ", from the realm.");
+        if (userStoreManager instanceof AbstractUserStoreManager) {
+            return ((AbstractUserStoreManager) userStoreManager).getUserIDFromUserName(user.getUserName());
         }
-        return userStoreManager;
+        throw new UserStoreException("Provided user store manager for the user: " + user.toFullQualifiedUsername()
+                + ", is not an instance of the AbstractUserStore manager.");
+    }
+
+    private boolean isUserNotExistingError(org.wso2.carbon.user.api.UserStoreException e) {
+
+        return e instanceof UserStoreException &&
+                UserCoreErrorConstants.ErrorMessages.ERROR_CODE_NON_EXISTING_USER.getCode().equals(
+                        ((UserStoreException) e).getErrorCode());
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.job;
+
+import java.util.UUID;
+
+/**
+ * State of an asynchronous job run by a {@link UserApiJobExecutor}. The state is updated by the job thread and read
+ * by the status requests without locking.
+ */
+public abstract class UserApiJob {
+
+    /**
+     * Status of a job.
+     */
+    public enum Status {
+        QUEUED, IN_PROGRESS, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final String tenantDomain;
+    private final long createdTime;
+    private volatile Status status = Status.QUEUED;
+    private volatile long startedTime;
+    private volatile long completedTime;
+
+    /**
+     * Create a job of the given tenant.
+     *
+     * @param tenantDomain Tenant domain of the job.
+     */
+    protected UserApiJob(String tenantDomain) {
+
+        this.id = UUID.randomUUID().toString();
+        this.tenantDomain = tenantDomain;
+        this.createdTime = System.currentTimeMillis();
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public Status getStatus() {
+
+        return status;
+    }
+
+    /**
+     * Whether the job is queued or in progress.
+     *
+     * @return Whether the job is not completed or failed yet.
+     */
+    public boolean isActive() {
+
+        Status currentStatus = status;
+        return currentStatus == Status.QUEUED || currentStatus == Status.IN_PROGRESS;
+    }
+
+    /**
+     * Get the time the job started at.
+     *
+     * @return Started time in epoch milliseconds or 0 if the job is still queued.
+     */
+    public long getStartedTime() {
+
+        return startedTime;
+    }
+
+    /**
+     * Get the time the job completed or failed at.
+     *
+     * @return Completed time in epoch milliseconds or 0 if the job is still queued or running.
+     */
+    public long getCompletedTime() {
+
+        return completedTime;
+    }
+
+    void start() {
+
+        startedTime = System.currentTimeMillis();
+        status = Status.IN_PROGRESS;
+    }
+
+    void complete() {
+
+        completedTime = System.currentTimeMillis();
+        status = Status.COMPLETED;
+    }
+
+    void fail() {
+
+        completedTime = System.currentTimeMillis();
+        status = Status.FAILED;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.job;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.cache.UserApiCache;
+import org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycle;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the asynchronous jobs of the user APIs in the background, outside of the HTTP requests. All the user APIs
+ * share one instance, hence a small pool runs the jobs of every API, the number of jobs running at a time stays
+ * bounded regardless of the number of requests, and the jobs beyond the pending limit are rejected. Each job runs in
+ * the tenant and on behalf of the user which submitted it. The pool size and the pending limit are configured with
+ * {@value #POOL_SIZE_PROPERTY} and {@value #MAX_PENDING_JOBS_PROPERTY} in identity.xml.
+ * <p>
+ * The queued and running jobs are kept in a map until they end, as their number is bounded by the pending limit, and
+ * are moved to the {@value #CACHE_NAME} cache when they end, so that their results can be read until the entry
+ * expires or is evicted. The jobs are kept in the memory of the node which accepted them, hence the status of a job
+ * can only be read from that node. The pool is shut down when the user APIs are shut down.
+ */
+public class UserApiJobExecutor {
+
+    public static final String POOL_SIZE_PROPERTY = "UserAPI.Job.PoolSize";
+    public static final String MAX_PENDING_JOBS_PROPERTY = "UserAPI.Job.MaxPendingJobs";
+    public static final String CACHE_NAME = "UserAPIJobCache";
+
+    private static final int DEFAULT_POOL_SIZE = 4;
+    private static final int DEFAULT_MAX_PENDING_JOBS = 200;
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final long DEFAULT_TIMEOUT = 86400;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final String KEY_SEPARATOR = ":";
+    private static final Log log = LogFactory.getLog(UserApiJobExecutor.class);
+
+    private final ThreadPoolExecutor jobPool;
+    private final UserApiCache<String, UserApiJob> finishedJobs;
+    private final ConcurrentHashMap<String, UserApiJob> activeJobs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UserApiJob> activeJobsByKey = new ConcurrentHashMap<>();
+
+    private UserApiJobExecutor() {
+
+        this((int) readProperty(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE),
+                (int) readProperty(MAX_PENDING_JOBS_PROPERTY, DEFAULT_MAX_PENDING_JOBS));
+        UserApiLifecycle.getInstance().register("User API job pool", jobPool::shutdownNow);
+    }
+
+    UserApiJobExecutor(int poolSize, int maxPendingJobs) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        jobPool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(maxPendingJobs), runnable -> {
+                    Thread thread = new Thread(runnable, "UserApiJob-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        jobPool.allowCoreThreadTimeOut(true);
+        finishedJobs = new UserApiCache<>(CACHE_NAME, DEFAULT_CAPACITY, DEFAULT_TIMEOUT);
+    }
+
+    public static UserApiJobExecutor getInstance() {
+
+        return UserApiJobExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * Queue a job to be run in the tenant and on behalf of the user of the current carbon context.
+     *
+     * @param job  Job.
+     * @param task Task of the job.
+     * @param <J>  Type of the job.
+     * @return Whether the job is accepted. A job is rejected when the maximum number of pending jobs is reached.
+     */
+    public <J extends UserApiJob> boolean submit(J job, JobTask<? super J> task) {
+
+        return execute(job, null, task);
+    }
+
+    /**
+     * Queue a job to be run in the tenant and on behalf of the user of the current carbon context, unless the tenant
+     * already has a queued or running job of the same type with the given key, such as a job on the same resource.
+     * In that case the existing job is returned and the given task is not run.
+     *
+     * @param job       Job.
+     * @param activeKey Key of the job, unique among the queued and running jobs of the same type of the tenant.
+     * @param task      Task of the job.
+     * @param <J>       Type of the job.
+     * @return Job, the queued or running job with the same key, or null if the job is rejected as the maximum number
+     * of pending jobs is reached.
+     */
+    @SuppressWarnings("unchecked")
+    public <J extends UserApiJob> J submit(J job, String activeKey, JobTask<? super J> task) {
+
+        String typedKey = buildTypedKey(job, activeKey);
+        // Only the jobs of the same class are kept under a typed key.
+        J activeJob = (J) activeJobsByKey.putIfAbsent(typedKey, job);
+        if (activeJob != null) {
+            return activeJob;
+        }
+        return execute(job, typedKey, task) ? job : null;
+    }
+
+    /**
+     * Get a job of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param jobId        Job id.
+     * @param jobType      Type of the job. A job of another type is not returned.
+     * @param <J>          Type of the job.
+     * @return Job or null if there is no such job on this node or the job has expired.
+     */
+    public <J extends UserApiJob> J getJob(String tenantDomain, String jobId, Class<J> jobType) {
+
+        String key = buildKey(tenantDomain, jobId);
+        UserApiJob job = activeJobs.get(key);
+        if (job == null) {
+            job = finishedJobs.getValueFromCache(key);
+        }
+        return jobType.isInstance(job) ? jobType.cast(job) : null;
+    }
+
+    private <J extends UserApiJob> boolean execute(J job, String typedKey, JobTask<? super J> task) {
+
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        String key = buildKey(job.getTenantDomain(), job.getId());
+        activeJobs.put(key, job);
+        try {
+            jobPool.execute(() -> run(job, key, typedKey, username, task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            removeActiveJob(job, key, typedKey);
+            return false;
+        }
+    }
+
+    private <J extends UserApiJob> void run(J job, String key, String typedKey, String username,
+                                            JobTask<? super J> task) {
+
+        String jobName = job.getClass().getSimpleName();
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(job.getTenantDomain(), true);
+            carbonContext.setUsername(username);
+            job.start();
+            task.run(job);
+            job.complete();
+            if (log.isDebugEnabled()) {
+                log.debug(jobName + ": " + job.getId() + " of the tenant: " + job.getTenantDomain()
+                        + " completed in " + (job.getCompletedTime() - job.getStartedTime()) + "ms.");
+            }
+        } catch (Exception e) {
+            log.error(jobName + ": " + job.getId() + " of the tenant: " + job.getTenantDomain() + " failed.", e);
+            job.fail();
+        } finally {
+            // The job is cached before it is removed, so that a status request does not miss it in between.
+            finishedJobs.addToCache(key, job);
+            removeActiveJob(job, key, typedKey);
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private void removeActiveJob(UserApiJob job, String key, String typedKey) {
+
+        activeJobs.remove(key, job);
+        if (typedKey != null) {
+            activeJobsByKey.remove(typedKey, job);
+        }
+    }
+
+    private static String buildTypedKey(UserApiJob job, String activeKey) {
+
+        return buildKey(job.getTenantDomain(), job.getClass().getName() + KEY_SEPARATOR + activeKey);
+    }
+
+    private static String buildKey(String tenantDomain, String id) {
+
+        return tenantDomain + KEY_SEPARATOR + id;
+    }
+
+    private static long readProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                long parsedValue = Long.parseLong(value.trim());
+                if (parsedValue > 0) {
+                    return parsedValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + property + ". Using the default value: "
+                        + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static class UserApiJobExecutorHolder {
+
+        private static final UserApiJobExecutor INSTANCE = new UserApiJobExecutor();
+    }
+
+    /**
+     * Task of a job.
+     *
+     * @param <T> Type of the job.
+     */
+    @FunctionalInterface
+    public interface JobTask<T extends UserApiJob> {
+
+        void run(T job) throws Exception;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.lifecycle;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.Bus;
+import org.apache.cxf.buslifecycle.BusLifeCycleListener;
+import org.apache.cxf.buslifecycle.BusLifeCycleManager;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Registry of the resources of the user APIs, such as thread pools and MBeans, which have to be released when the
+ * webapp hosting the APIs is undeployed. Otherwise the threads keep the classloader of the webapp alive.
+ * <p>
+ * The resources are released in the reverse order of their registration when a CXF bus bound to the registry is
+ * shut down, which happens when the CXF servlet of the webapp is destroyed. A bus is bound by the
+ * {@link UserApiLifecycleFeature}, or by any other user API feature added to the JAX-RS server of the webapp.
+ */
+public class UserApiLifecycle {
+
+    private static final Log log = LogFactory.getLog(UserApiLifecycle.class);
+
+    private static final UserApiLifecycle instance = new UserApiLifecycle();
+
+    private final Deque<ShutdownHook> shutdownHooks = new ArrayDeque<>();
+    private final Set<Bus> boundBuses = Collections.newSetFromMap(new WeakHashMap<Bus, Boolean>());
+
+    private UserApiLifecycle() {
+
+    }
+
+    public static UserApiLifecycle getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Register a resource to be released when the user APIs are shut down.
+     *
+     * @param name     Name of the resource, used in the logs.
+     * @param shutdown Releases the resource.
+     */
+    public synchronized void register(String name, Runnable shutdown) {
+
+        shutdownHooks.push(new ShutdownHook(name, shutdown));
+    }
+
+    /**
+     * Release the registered resources when the given bus is shut down. Binding a bus more than once has no effect.
+     *
+     * @param bus CXF bus of the webapp.
+     */
+    public void bind(Bus bus) {
+
+        synchronized (boundBuses) {
+            if (bus == null || !boundBuses.add(bus)) {
+                return;
+            }
+        }
+        BusLifeCycleManager lifeCycleManager = bus.getExtension(BusLifeCycleManager.class);
+        if (lifeCycleManager == null) {
+            log.warn("CXF bus: " + bus.getId() + " does not support lifecycle listeners. The resources of the user " +
+                    "APIs will not be released when the bus is shut down.");
+            return;
+        }
+        lifeCycleManager.registerLifeCycleListener(new BusLifeCycleListener() {
+
+            @Override
+            public void initComplete() {
+
+            }
+
+            @Override
+            public void preShutdown() {
+
+            }
+
+            @Override
+            public void postShutdown() {
+
+                shutdown();
+            }
+        });
+    }
+
+    /**
+     * Release all the registered resources. A failure to release a resource is logged and does not prevent the rest
+     * from being released.
+     */
+    public void shutdown() {
+
+        ShutdownHook shutdownHook;
+        while ((shutdownHook = poll()) != null) {
+            try {
+                shutdownHook.shutdown.run();
+                if (log.isDebugEnabled()) {
+                    log.debug("Released user API resource: " + shutdownHook.name);
+                }
+            } catch (RuntimeException e) {
+                log.error("Error while releasing user API resource: " + shutdownHook.name, e);
+            }
+        }
+    }
+
+    private synchronized ShutdownHook poll() {
+
+        return shutdownHooks.poll();
+    }
+
+    /**
+     * Named shutdown action of a resource.
+     */
+    private static final class ShutdownHook {
+
+        private final String name;
+        private final Runnable shutdown;
+
+        private ShutdownHook(String name, Runnable shutdown) {
+
+            this.name = name;
+            this.shutdown = shutdown;
+        }
+    }
+}
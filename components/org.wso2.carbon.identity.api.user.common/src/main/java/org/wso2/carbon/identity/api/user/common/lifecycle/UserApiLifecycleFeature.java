@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.lifecycle;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.feature.AbstractFeature;
+import org.apache.cxf.interceptor.InterceptorProvider;
+
+/**
+ * CXF feature releasing the thread pools and the MBeans of the user APIs when the webapp hosting the APIs is
+ * undeployed. The feature is enabled by adding it to the features of the JAX-RS server of a webapp.
+ * <pre>
+ * &lt;jaxrs:features&gt;
+ *     &lt;bean class="org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycleFeature"/&gt;
+ * &lt;/jaxrs:features&gt;
+ * </pre>
+ */
+public class UserApiLifecycleFeature extends AbstractFeature {
+
+    @Override
+    protected void initializeProvider(InterceptorProvider provider, Bus bus) {
+
+        UserApiLifecycle.getInstance().bind(bus);
+    }
+}
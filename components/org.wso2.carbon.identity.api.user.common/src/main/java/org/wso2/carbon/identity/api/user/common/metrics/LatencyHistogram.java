@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed size, log-linear histogram of latencies in microseconds. Every power of two range is split into
+ * {@value #SUB_BUCKET_COUNT} linear sub buckets, which bounds the relative error of a reported percentile to about
+ * 6% while covering latencies from a microsecond up to about 19 hours in {@value #BUCKET_COUNT} counters.
+ * <p>
+ * Recording a value only updates pre-allocated atomic counters, so the recording path does not allocate and does not
+ * take a lock. Reading a percentile walks the counters without stopping the writers, hence a value reported while
+ * requests are being recorded is an approximation, which is acceptable for monitoring.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos Latency in nanoseconds. Negative values are ignored.
+     */
+    public void recordNanos(long nanos) {
+
+        if (nanos < 0) {
+            return;
+        }
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_VALUE);
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    public long getCount() {
+
+        return totalCount.sum();
+    }
+
+    public long getMaxMicros() {
+
+        return maxMicros.get();
+    }
+
+    /**
+     * Get the mean of the recorded latencies.
+     *
+     * @return Mean latency in microseconds, or 0 if nothing is recorded.
+     */
+    public double getMeanMicros() {
+
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalMicros.sum() / count;
+    }
+
+    /**
+     * Get the latency at the given percentile. The upper bound of the bucket holding the percentile is reported, so
+     * the value is never lower than the actual latency.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return Latency in microseconds, or 0 if nothing is recorded.
+     */
+    public long getPercentileMicros(double percentile) {
+
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * Clear all the recorded latencies.
+     */
+    public void reset() {
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalMicros.reset();
+        maxMicros.set(0);
+    }
+
+    static int bucketIndex(long micros) {
+
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
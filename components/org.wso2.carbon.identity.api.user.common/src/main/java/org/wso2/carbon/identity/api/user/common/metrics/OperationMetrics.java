@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and counters of an operation of a user API invoked by a tenant.
+ * <p>
+ * The total latency is split into the time spent in the API implementation, which is dominated by the calls to the
+ * backend OSGi services, and the time spent in writing the response, which is dominated by the serialization of the
+ * response body.
+ */
+public final class OperationMetrics {
+
+    private final String api;
+    private final String operation;
+    private final String tenant;
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+    private final LatencyHistogram invocationLatency = new LatencyHistogram();
+    private final LatencyHistogram serializationLatency = new LatencyHistogram();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+
+    OperationMetrics(String api, String operation, String tenant) {
+
+        this.api = api;
+        this.operation = operation;
+        this.tenant = tenant;
+    }
+
+    void requestStarted() {
+
+        inFlight.increment();
+    }
+
+    void requestCompleted(long invocationNanos, long serializationNanos, long totalNanos, int responseCode) {
+
+        inFlight.decrement();
+        invocationLatency.recordNanos(invocationNanos);
+        serializationLatency.recordNanos(serializationNanos);
+        totalLatency.recordNanos(totalNanos);
+        if (responseCode >= 500) {
+            serverErrors.increment();
+        } else if (responseCode >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    void reset() {
+
+        totalLatency.reset();
+        invocationLatency.reset();
+        serializationLatency.reset();
+        clientErrors.reset();
+        serverErrors.reset();
+    }
+
+    public String getApi() {
+
+        return api;
+    }
+
+    public String getOperation() {
+
+        return operation;
+    }
+
+    public String getTenant() {
+
+        return tenant;
+    }
+
+    public LatencyHistogram getTotalLatency() {
+
+        return totalLatency;
+    }
+
+    public LatencyHistogram getInvocationLatency() {
+
+        return invocationLatency;
+    }
+
+    public LatencyHistogram getSerializationLatency() {
+
+        return serializationLatency;
+    }
+
+    public long getInFlightCount() {
+
+        return inFlight.sum();
+    }
+
+    public long getClientErrorCount() {
+
+        return clientErrors.sum();
+    }
+
+    public long getServerErrorCount() {
+
+        return serverErrors.sum();
+    }
+}
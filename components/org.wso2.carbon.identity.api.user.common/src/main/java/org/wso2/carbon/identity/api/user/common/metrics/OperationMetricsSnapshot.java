@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Point in time view of the {@link OperationMetrics} of an operation, exposed over JMX. Latencies are in
+ * microseconds.
+ */
+public class OperationMetricsSnapshot {
+
+    private final String api;
+    private final String operation;
+    private final String tenant;
+    private final long requestCount;
+    private final long inFlightCount;
+    private final long clientErrorCount;
+    private final long serverErrorCount;
+    private final double meanMicros;
+    private final long p50Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+    private final long invocationP50Micros;
+    private final long invocationP99Micros;
+    private final long serializationP50Micros;
+    private final long serializationP99Micros;
+
+    @ConstructorProperties({"api", "operation", "tenant", "requestCount", "inFlightCount", "clientErrorCount",
+            "serverErrorCount", "meanMicros", "p50Micros", "p99Micros", "maxMicros", "invocationP50Micros",
+            "invocationP99Micros", "serializationP50Micros", "serializationP99Micros"})
+    public OperationMetricsSnapshot(String api, String operation, String tenant, long requestCount,
+                                    long inFlightCount, long clientErrorCount, long serverErrorCount,
+                                    double meanMicros, long p50Micros, long p99Micros, long maxMicros,
+                                    long invocationP50Micros, long invocationP99Micros, long serializationP50Micros,
+                                    long serializationP99Micros) {
+
+        this.api = api;
+        this.operation = operation;
+        this.tenant = tenant;
+        this.requestCount = requestCount;
+        this.inFlightCount = inFlightCount;
+        this.clientErrorCount = clientErrorCount;
+        this.serverErrorCount = serverErrorCount;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+        this.invocationP50Micros = invocationP50Micros;
+        this.invocationP99Micros = invocationP99Micros;
+        this.serializationP50Micros = serializationP50Micros;
+        this.serializationP99Micros = serializationP99Micros;
+    }
+
+    static OperationMetricsSnapshot of(OperationMetrics metrics) {
+
+        LatencyHistogram total = metrics.getTotalLatency();
+        LatencyHistogram invocation = metrics.getInvocationLatency();
+        LatencyHistogram serialization = metrics.getSerializationLatency();
+        return new OperationMetricsSnapshot(metrics.getApi(), metrics.getOperation(), metrics.getTenant(),
+                total.getCount(), metrics.getInFlightCount(), metrics.getClientErrorCount(),
+                metrics.getServerErrorCount(), total.getMeanMicros(), total.getPercentileMicros(50),
+                total.getPercentileMicros(99), total.getMaxMicros(), invocation.getPercentileMicros(50),
+                invocation.getPercentileMicros(99), serialization.getPercentileMicros(50),
+                serialization.getPercentileMicros(99));
+    }
+
+    public String getApi() {
+
+        return api;
+    }
+
+    public String getOperation() {
+
+        return operation;
+    }
+
+    public String getTenant() {
+
+        return tenant;
+    }
+
+    public long getRequestCount() {
+
+        return requestCount;
+    }
+
+    public long getInFlightCount() {
+
+        return inFlightCount;
+    }
+
+    public long getClientErrorCount() {
+
+        return clientErrorCount;
+    }
+
+    public long getServerErrorCount() {
+
+        return serverErrorCount;
+    }
+
+    public double getMeanMicros() {
+
+        return meanMicros;
+    }
+
+    public long getP50Micros() {
+
+        return p50Micros;
+    }
+
+    public long getP99Micros() {
+
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+
+        return maxMicros;
+    }
+
+    public long getInvocationP50Micros() {
+
+        return invocationP50Micros;
+    }
+
+    public long getInvocationP99Micros() {
+
+        return invocationP99Micros;
+    }
+
+    public long getSerializationP50Micros() {
+
+        return serializationP50Micros;
+    }
+
+    public long getSerializationP99Micros() {
+
+        return serializationP99Micros;
+    }
+}
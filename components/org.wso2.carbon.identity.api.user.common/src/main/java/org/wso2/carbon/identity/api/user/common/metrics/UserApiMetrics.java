@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.user.common.error.ErrorLogAggregator;
+import org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycle;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the {@link OperationMetrics} of the user APIs, keyed by the API, the operation and the tenant. The
+ * registry is populated by the {@link UserApiMetricsFeature}, which also exposes it over JMX as
+ * {@value #OBJECT_NAME},context=&lt;context of the webapp&gt; and unregisters the MBean when the webapp is undeployed.
+ * <p>
+ * Looking up the metrics of an already seen operation only reads nested concurrent maps with the existing keys, so
+ * it does not allocate. The number of tracked operation and tenant pairs is capped, since the tenants are not
+ * bounded; beyond the cap the requests are aggregated under the {@value #OTHER_TENANTS} tenant. Every pair holds
+ * three latency histograms of about 4KB each, hence the metrics take at most about
+ * {@value #MAX_TRACKED_METRICS} x 13KB of memory.
+ */
+public class UserApiMetrics implements UserApiMetricsMXBean {
+
+    public static final String OBJECT_NAME = "org.wso2.carbon.identity.api.user:type=UserApiMetrics";
+
+    private static final Log log = LogFactory.getLog(UserApiMetrics.class);
+    private static final int MAX_TRACKED_METRICS = 1000;
+    private static final String OTHER_TENANTS = "OTHER";
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String CONTEXT_KEY = ",context=";
+
+    private static final UserApiMetrics instance = new UserApiMetrics();
+
+    private final Map<String, Map<String, Map<String, OperationMetrics>>> metrics = new ConcurrentHashMap<>();
+    private final AtomicInteger trackedMetrics = new AtomicInteger();
+    private ObjectName objectName;
+
+    UserApiMetrics() {
+
+    }
+
+    public static UserApiMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the metrics of the given operation of the given API invoked by the given tenant.
+     *
+     * @param api       API name. Ex: session.v1
+     * @param operation Operation name.
+     * @param tenant    Tenant domain of the request.
+     * @return Operation metrics.
+     */
+    public OperationMetrics getOperationMetrics(String api, String operation, String tenant) {
+
+        Map<String, OperationMetrics> tenantMetrics = getOrCreate(getOrCreate(metrics, normalize(api)),
+                normalize(operation));
+        String tenantKey = normalize(tenant);
+        OperationMetrics operationMetrics = tenantMetrics.get(tenantKey);
+        if (operationMetrics != null) {
+            return operationMetrics;
+        }
+        if (trackedMetrics.get() >= MAX_TRACKED_METRICS) {
+            tenantKey = OTHER_TENANTS;
+        }
+        return tenantMetrics.computeIfAbsent(tenantKey, key -> {
+            trackedMetrics.incrementAndGet();
+            return new OperationMetrics(normalize(api), normalize(operation), key);
+        });
+    }
+
+    @Override
+    public List<OperationMetricsSnapshot> getOperationMetrics() {
+
+        List<OperationMetricsSnapshot> snapshots = new ArrayList<>();
+        metrics.values().forEach(operations -> operations.values().forEach(tenants -> tenants.values()
+                .forEach(operationMetrics -> snapshots.add(OperationMetricsSnapshot.of(operationMetrics)))));
+        return snapshots;
+    }
+
+    @Override
+    public long getInFlightCount() {
+
+        long inFlight = 0;
+        for (Map<String, Map<String, OperationMetrics>> operations : metrics.values()) {
+            for (Map<String, OperationMetrics> tenants : operations.values()) {
+                for (OperationMetrics operationMetrics : tenants.values()) {
+                    inFlight += operationMetrics.getInFlightCount();
+                }
+            }
+        }
+        return inFlight;
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+
+        return ErrorLogAggregator.getInstance().getErrorCounts();
+    }
+
+    @Override
+    public Map<String, Long> getSuppressedErrorCounts() {
+
+        return ErrorLogAggregator.getInstance().getSuppressedCounts();
+    }
+
+    @Override
+    public void reset() {
+
+        metrics.values().forEach(operations -> operations.values().forEach(tenants -> tenants.values()
+                .forEach(OperationMetrics::reset)));
+    }
+
+    private static <V> Map<String, V> getOrCreate(Map<String, Map<String, V>> map, String key) {
+
+        // Check with get first, since computeIfAbsent may lock the bin even if the key is present.
+        Map<String, V> value = map.get(key);
+        return value != null ? value : map.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    }
+
+    private static String normalize(String value) {
+
+        return StringUtils.isEmpty(value) ? UNKNOWN : value;
+    }
+
+    /**
+     * Register the metrics MBean of the webapp, unless it is already registered. A stale MBean with the same name,
+     * left behind by a previous deployment of the webapp, is replaced.
+     *
+     * @param context Context of the webapp, which distinguishes the MBeans of the webapps sharing the MBean server.
+     */
+    synchronized void registerMBean(String context) {
+
+        if (objectName != null) {
+            return;
+        }
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME + CONTEXT_KEY + ObjectName.quote(normalize(context)));
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            try {
+                mBeanServer.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                log.warn("Replacing the stale user API metrics MBean: " + name);
+                mBeanServer.unregisterMBean(name);
+                mBeanServer.registerMBean(this, name);
+            }
+            objectName = name;
+            UserApiLifecycle.getInstance().register("User API metrics MBean", this::unregisterMBean);
+        } catch (JMException e) {
+            log.warn("Error while registering the user API metrics MBean of the context: " + context, e);
+        }
+    }
+
+    synchronized void unregisterMBean() {
+
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            log.warn("Error while unregistering the user API metrics MBean: " + objectName, e);
+        }
+        objectName = null;
+    }
+}
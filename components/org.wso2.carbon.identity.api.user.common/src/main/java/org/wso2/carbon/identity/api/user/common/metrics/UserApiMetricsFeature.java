@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.cxf.Bus;
+import org.apache.cxf.feature.AbstractFeature;
+import org.apache.cxf.interceptor.InterceptorProvider;
+import org.apache.cxf.interceptor.OutgoingChainInterceptor;
+import org.apache.cxf.jaxrs.model.OperationResourceInfo;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycle;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CXF feature recording the latency, the in flight count and the error count of every operation of a user API into
+ * the {@link UserApiMetrics}. The feature is shared by all the user API webapps and is enabled by adding it to the
+ * features of the JAX-RS server of a webapp.
+ * <pre>
+ * &lt;jaxrs:features&gt;
+ *     &lt;bean class="org.wso2.carbon.identity.api.user.common.metrics.UserApiMetricsFeature"&gt;
+ *         &lt;property name="context" value="/api/users"/&gt;
+ *     &lt;/bean&gt;
+ * &lt;/jaxrs:features&gt;
+ * </pre>
+ * The metrics are exposed over JMX by an MBean named after the context of the webapp, which defaults to the id of
+ * the CXF bus of the webapp, and the MBean is unregistered when the bus is shut down as the webapp is undeployed.
+ * The time from the start of the invocation of the API implementation to its return is recorded as the invocation
+ * latency, which covers the calls to the backend OSGi services. The time from there to the completion of the
+ * outgoing chain is recorded as the serialization latency. The API is named after the package of the resource class
+ * (Ex: session.v1) and the operation after the resource class and the resource method (Ex: MeApi.getSessions).
+ */
+public class UserApiMetricsFeature extends AbstractFeature {
+
+    private static final String[] API_PACKAGE_PREFIXES = {"org.wso2.carbon.identity.rest.api.user.",
+            "org.wso2.carbon.identity.api.user."};
+
+    private static final ClassValue<String> API_NAMES = new ClassValue<String>() {
+
+        @Override
+        protected String computeValue(Class<?> type) {
+
+            String packageName = type.getPackage() != null ? type.getPackage().getName() : StringUtils.EMPTY;
+            for (String prefix : API_PACKAGE_PREFIXES) {
+                if (packageName.startsWith(prefix)) {
+                    return packageName.substring(prefix.length());
+                }
+            }
+            return packageName;
+        }
+    };
+
+    private static final Map<Method, String> OPERATION_NAMES = new ConcurrentHashMap<>();
+
+    private final UserApiMetrics metrics;
+    private String context;
+
+    public UserApiMetricsFeature() {
+
+        this(UserApiMetrics.getInstance());
+    }
+
+    UserApiMetricsFeature(UserApiMetrics metrics) {
+
+        this.metrics = metrics;
+    }
+
+    /**
+     * Set the context of the webapp, which is used in the name of the metrics MBean.
+     *
+     * @param context Context of the webapp. Ex: /api/users
+     */
+    public void setContext(String context) {
+
+        this.context = context;
+    }
+
+    @Override
+    protected void initializeProvider(InterceptorProvider provider, Bus bus) {
+
+        UserApiLifecycle.getInstance().bind(bus);
+        metrics.registerMBean(StringUtils.isNotBlank(context) ? context : bus.getId());
+
+        provider.getInInterceptors().add(new RequestReceivedInterceptor());
+        provider.getInInterceptors().add(new InvocationStartedInterceptor(metrics));
+        provider.getInInterceptors().add(new InvocationCompletedInterceptor());
+        RequestCompletedInterceptor requestCompletedInterceptor = new RequestCompletedInterceptor();
+        provider.getOutInterceptors().add(requestCompletedInterceptor);
+        provider.getOutFaultInterceptors().add(requestCompletedInterceptor);
+    }
+
+    private static String operationName(Method method) {
+
+        String operationName = OPERATION_NAMES.get(method);
+        if (operationName == null) {
+            operationName = OPERATION_NAMES.computeIfAbsent(method,
+                    key -> key.getDeclaringClass().getSimpleName() + "." + key.getName());
+        }
+        return operationName;
+    }
+
+    /**
+     * Timestamps of a request, kept in the exchange of the request.
+     */
+    private static final class RequestTimer {
+
+        private final long received;
+        private long invocationStarted;
+        private long invocationCompleted;
+        private OperationMetrics operationMetrics;
+
+        private RequestTimer(long received) {
+
+            this.received = received;
+        }
+    }
+
+    /**
+     * Marks the time the request was received.
+     */
+    private static final class RequestReceivedInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        private RequestReceivedInterceptor() {
+
+            super(Phase.RECEIVE);
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+
+            message.getExchange().put(RequestTimer.class, new RequestTimer(System.nanoTime()));
+        }
+    }
+
+    /**
+     * Resolves the metrics of the matched operation and marks the start of the invocation.
+     */
+    private static final class InvocationStartedInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        private final UserApiMetrics metrics;
+
+        private InvocationStartedInterceptor(UserApiMetrics metrics) {
+
+            super(Phase.PRE_INVOKE);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+
+            Exchange exchange = message.getExchange();
+            RequestTimer timer = exchange.get(RequestTimer.class);
+            OperationResourceInfo operation = exchange.get(OperationResourceInfo.class);
+            if (timer == null || operation == null || operation.getAnnotatedMethod() == null) {
+                return;
+            }
+            String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            timer.operationMetrics = metrics.getOperationMetrics(
+                    API_NAMES.get(operation.getClassResourceInfo().getServiceClass()),
+                    operationName(operation.getAnnotatedMethod()), tenantDomain);
+            timer.operationMetrics.requestStarted();
+            timer.invocationStarted = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the completion of the invocation, before the outgoing chain is started.
+     */
+    private static final class InvocationCompletedInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        private InvocationCompletedInterceptor() {
+
+            super(Phase.POST_INVOKE);
+            addBefore(OutgoingChainInterceptor.class.getName());
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+
+            RequestTimer timer = message.getExchange().get(RequestTimer.class);
+            if (timer != null) {
+                timer.invocationCompleted = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Records the metrics of the request once the response is written.
+     */
+    private static final class RequestCompletedInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        private static final int OK = 200;
+        private static final int INTERNAL_SERVER_ERROR = 500;
+
+        private RequestCompletedInterceptor() {
+
+            super(Phase.SETUP_ENDING);
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+
+            Exchange exchange = message.getExchange();
+            RequestTimer timer = exchange.get(RequestTimer.class);
+            if (timer == null || timer.operationMetrics == null) {
+                return;
+            }
+            // Clear the metrics of the timer, so that a request is recorded once even if both chains are run.
+            OperationMetrics operationMetrics = timer.operationMetrics;
+            timer.operationMetrics = null;
+
+            long completed = System.nanoTime();
+            long invocationCompleted = timer.invocationCompleted != 0 ? timer.invocationCompleted : completed;
+            Object code = message.get(Message.RESPONSE_CODE);
+            int responseCode;
+            if (code instanceof Integer) {
+                responseCode = (Integer) code;
+            } else {
+                responseCode = message == exchange.getOutFaultMessage() ? INTERNAL_SERVER_ERROR : OK;
+            }
+            operationMetrics.requestCompleted(invocationCompleted - timer.invocationStarted,
+                    completed - invocationCompleted, completed - timer.received, responseCode);
+        }
+    }
+}
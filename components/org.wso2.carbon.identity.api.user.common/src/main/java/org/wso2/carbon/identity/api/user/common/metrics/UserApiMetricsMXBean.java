@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of the latency and throughput metrics of the user APIs.
+ */
+public interface UserApiMetricsMXBean {
+
+    /**
+     * Get the metrics of every API operation invoked by every tenant since the last reset.
+     *
+     * @return Snapshots of the operation metrics.
+     */
+    List<OperationMetricsSnapshot> getOperationMetrics();
+
+    /**
+     * Get the number of requests currently being served across all the user APIs.
+     *
+     * @return In flight request count.
+     */
+    long getInFlightCount();
+
+    /**
+     * Get the number of logged errors of the user APIs by the error code.
+     *
+     * @return Error counts by the error code.
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * Get the number of errors of the user APIs which were not logged in full, by the error code.
+     *
+     * @return Suppressed error counts by the error code.
+     */
+    Map<String, Long> getSuppressedErrorCounts();
+
+    /**
+     * Clear the recorded latencies and error counts. In flight counts are not affected.
+     */
+    void reset();
+}
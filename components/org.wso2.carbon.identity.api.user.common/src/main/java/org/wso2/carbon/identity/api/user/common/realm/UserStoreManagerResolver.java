@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.realm;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.user.common.cache.UserApiCache;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.user.api.UserRealm;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.api.UserStoreManager;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Resolves the tenant id of a tenant domain, the user realm of a tenant and the user store managers of a tenant.
+ * The tenant id is cached, since it is otherwise resolved through the tenant manager on every request, and a tenant
+ * domain is only mapped to another id if the tenant is deleted and re-created. The staleness after such a change is
+ * bounded by the cache timeout, which can be configured in identity.xml through the cache name, unless
+ * {@link #clearTenant(String)} is called.
+ * <p>
+ * The user realm and the user store managers are not cached here, since the realm service already caches the
+ * realms and replaces them when a tenant or a user store configuration is changed, and caching them would keep a
+ * reloaded realm in use.
+ */
+public class UserStoreManagerResolver {
+
+    public static final String TENANT_ID_CACHE_NAME = "UserAPITenantIdCache";
+
+    private static final Log log = LogFactory.getLog(UserStoreManagerResolver.class);
+    private static final int DEFAULT_TENANT_CAPACITY = 1000;
+    private static final long DEFAULT_TENANT_ID_TIMEOUT = 900;
+
+    private static final UserStoreManagerResolver instance = new UserStoreManagerResolver();
+
+    private final UserApiCache<String, Integer> tenantIds;
+
+    private UserStoreManagerResolver() {
+
+        tenantIds = new UserApiCache<>(TENANT_ID_CACHE_NAME, DEFAULT_TENANT_CAPACITY, DEFAULT_TENANT_ID_TIMEOUT);
+    }
+
+    public static UserStoreManagerResolver getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the tenant id of the given tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Tenant id.
+     */
+    public int getTenantId(String tenantDomain) {
+
+        if (StringUtils.isEmpty(tenantDomain)) {
+            return IdentityTenantUtil.getTenantId(tenantDomain);
+        }
+        Integer tenantId = tenantIds.getValueFromCache(tenantDomain);
+        if (tenantId == null) {
+            tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+            if (tenantId != MultitenantConstants.INVALID_TENANT_ID) {
+                tenantIds.addToCache(tenantDomain, tenantId);
+            }
+        }
+        return tenantId;
+    }
+
+    /**
+     * Get the user realm of the given tenant.
+     *
+     * @param realmService Realm service.
+     * @param tenantId     Tenant id.
+     * @return User realm or null if the realm service does not return a realm for the tenant.
+     * @throws UserStoreException If an error occurs while loading the realm.
+     */
+    public UserRealm getUserRealm(RealmService realmService, int tenantId) throws UserStoreException {
+
+        return realmService.getTenantUserRealm(tenantId);
+    }
+
+    /**
+     * Get the realm user store manager of the given tenant.
+     *
+     * @param realmService Realm service.
+     * @param tenantDomain Tenant domain.
+     * @return User store manager or null if the realm service does not return a realm for the tenant.
+     * @throws UserStoreException If an error occurs while loading the realm.
+     */
+    public UserStoreManager getUserStoreManager(RealmService realmService, String tenantDomain)
+            throws UserStoreException {
+
+        return getUserStoreManager(realmService, getTenantId(tenantDomain));
+    }
+
+    /**
+     * Get the realm user store manager of the given tenant.
+     *
+     * @param realmService Realm service.
+     * @param tenantId     Tenant id.
+     * @return User store manager or null if the realm service does not return a realm for the tenant.
+     * @throws UserStoreException If an error occurs while loading the realm.
+     */
+    public UserStoreManager getUserStoreManager(RealmService realmService, int tenantId) throws UserStoreException {
+
+        UserRealm userRealm = getUserRealm(realmService, tenantId);
+        return userRealm != null ? userRealm.getUserStoreManager() : null;
+    }
+
+    /**
+     * Get the user store manager of the given user store domain of the given tenant. The realm user store manager
+     * is returned if the domain is empty, or if the realm user store manager cannot resolve secondary user store
+     * managers.
+     *
+     * @param realmService    Realm service.
+     * @param tenantId        Tenant id.
+     * @param userStoreDomain User store domain.
+     * @return User store manager or null if the realm service does not return a realm for the tenant.
+     * @throws UserStoreException If an error occurs while loading the realm.
+     */
+    public UserStoreManager getUserStoreManager(RealmService realmService, int tenantId, String userStoreDomain)
+            throws UserStoreException {
+
+        UserStoreManager realmUserStoreManager = getUserStoreManager(realmService, tenantId);
+        if (StringUtils.isEmpty(userStoreDomain) || realmUserStoreManager == null) {
+            return realmUserStoreManager;
+        }
+        if (!(realmUserStoreManager instanceof org.wso2.carbon.user.core.UserStoreManager)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to resolve the corresponding user store manager for the domain: " + userStoreDomain
+                        + ", as the provided user store manager: " + realmUserStoreManager.getClass() + ", is not an " +
+                        "instance of org.wso2.carbon.user.core.UserStoreManager. Therefore returning the user store " +
+                        "manager: " + realmUserStoreManager.getClass() + ", from the realm.");
+            }
+            return realmUserStoreManager;
+        }
+        return ((org.wso2.carbon.user.core.UserStoreManager) realmUserStoreManager)
+                .getSecondaryUserStoreManager(userStoreDomain);
+    }
+
+    /**
+     * Invalidate the cached tenant id of the given tenant domain. Should be called when the tenant is deleted.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearTenant(String tenantDomain) {
+
+        tenantIds.clearCacheEntry(tenantDomain);
+    }
+
+    /**
+     * Invalidate all the cached entries.
+     */
+    public void clear() {
+
+        tenantIds.clear();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class UserApiCacheTest {
+
+    private static final long TIMEOUT = TimeUnit.MINUTES.toNanos(5);
+
+    @Test
+    public void testGetValueFromCache() {
+
+        UserApiCache<String, String> cache = new UserApiCache<>("TestCache", true, 10, TIMEOUT);
+        cache.addToCache("key", "value");
+
+        Assert.assertEquals(cache.getValueFromCache("key"), "value");
+        Assert.assertNull(cache.getValueFromCache("other"));
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() throws InterruptedException {
+
+        UserApiCache<String, String> cache = new UserApiCache<>("TestCache", true, 10, TIMEOUT);
+        cache.addToCache("key", "value", 1, TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+
+        Assert.assertNull(cache.peek("key"));
+        Assert.assertNull(cache.getValueFromCache("key"));
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        UserApiCache<String, String> cache = new UserApiCache<>("TestCache", false, 10, TIMEOUT);
+        cache.addToCache("key", "value");
+
+        Assert.assertNull(cache.getValueFromCache("key"));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testCapacityIsEnforced() {
+
+        UserApiCache<Integer, Integer> cache = new UserApiCache<>("TestCache", true, 100, TIMEOUT);
+        for (int i = 0; i < 1000; i++) {
+            cache.addToCache(i, i);
+        }
+
+        Assert.assertEquals(cache.size(), 100);
+        Assert.assertEquals(cache.getEvictionCount(), 900);
+    }
+
+    @Test
+    public void testReferencedEntriesAreEvictedLast() {
+
+        UserApiCache<Integer, Integer> cache = new UserApiCache<>("TestCache", true, 10, TIMEOUT);
+        for (int i = 0; i < 10; i++) {
+            cache.addToCache(i, i);
+        }
+        for (int i = 0; i < 5; i++) {
+            cache.getValueFromCache(i);
+        }
+        for (int i = 10; i < 15; i++) {
+            cache.addToCache(i, i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(cache.peek(i), Integer.valueOf(i));
+        }
+        for (int i = 5; i < 10; i++) {
+            Assert.assertNull(cache.peek(i));
+        }
+    }
+
+    @Test
+    public void testPeekDoesNotAffectCounters() {
+
+        UserApiCache<String, String> cache = new UserApiCache<>("TestCache", true, 10, TIMEOUT);
+        cache.addToCache("key", "value");
+
+        Assert.assertEquals(cache.peek("key"), "value");
+        Assert.assertNull(cache.peek("other"));
+        Assert.assertEquals(cache.getHitCount(), 0);
+        Assert.assertEquals(cache.getMissCount(), 0);
+    }
+
+    @Test
+    public void testClearCacheEntries() {
+
+        UserApiCache<String, String> cache = new UserApiCache<>("TestCache", true, 10, TIMEOUT);
+        cache.addToCache("1:a", "a");
+        cache.addToCache("1:b", "b");
+        cache.addToCache("2:a", "a");
+
+        cache.clearCacheEntries(key -> key.startsWith("1:"));
+        Assert.assertNull(cache.peek("1:a"));
+        Assert.assertNull(cache.peek("1:b"));
+        Assert.assertEquals(cache.peek("2:a"), "a");
+
+        cache.clearCacheEntry("2:a");
+        Assert.assertEquals(cache.size(), 0);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class UserExistenceCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private UserApiCache<String, Boolean> existingUsers;
+    private UserApiCache<String, Boolean> nonExistingUsers;
+    private UserExistenceCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        existingUsers = new UserApiCache<>("ExistingUsers", true, 100, TimeUnit.MINUTES.toNanos(1));
+        nonExistingUsers = new UserApiCache<>("NonExistingUsers", true, 100, TimeUnit.SECONDS.toNanos(30));
+        cache = new UserExistenceCache(existingUsers, nonExistingUsers);
+    }
+
+    @Test
+    public void testMissesAreCountedOnce() {
+
+        Assert.assertNull(cache.isExistingUser(TENANT_DOMAIN, "id-1"));
+
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(existingUsers.getMissCount(), 0);
+        Assert.assertEquals(nonExistingUsers.getMissCount(), 0);
+    }
+
+    @Test
+    public void testNegativeHitIsNotAPositiveMiss() {
+
+        cache.addToCache(TENANT_DOMAIN, "id-1", false);
+
+        Assert.assertEquals(cache.isExistingUser(TENANT_DOMAIN, "id-1"), Boolean.FALSE);
+        Assert.assertEquals(cache.getNegativeHitCount(), 1);
+        Assert.assertEquals(cache.getPositiveHitCount(), 0);
+        Assert.assertEquals(cache.getMissCount(), 0);
+        Assert.assertEquals(existingUsers.getMissCount(), 0);
+    }
+
+    @Test
+    public void testExistenceChangeReplacesTheEntry() {
+
+        cache.addToCache(TENANT_DOMAIN, "id-1", true);
+        cache.addToCache(TENANT_DOMAIN, "id-1", false);
+        Assert.assertEquals(cache.isExistingUser(TENANT_DOMAIN, "id-1"), Boolean.FALSE);
+
+        cache.clearCacheEntry(TENANT_DOMAIN, "id-1");
+        Assert.assertNull(cache.isExistingUser(TENANT_DOMAIN, "id-1"));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class UserResolutionCacheTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String USER_STORE_DOMAIN = "PRIMARY";
+
+    private UserResolutionCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        long timeout = TimeUnit.MINUTES.toNanos(5);
+        cache = new UserResolutionCache(new UserApiCache<>("UserIdByUsername", true, 100, timeout),
+                new UserApiCache<>("UserByUserId", true, 100, timeout));
+    }
+
+    @Test
+    public void testBothDirectionsAreCached() {
+
+        cache.addToCache(TENANT_ID, USER_STORE_DOMAIN, "alice", "id-1");
+
+        Assert.assertEquals(cache.getUserId(TENANT_ID, USER_STORE_DOMAIN, "alice"), "id-1");
+        Assert.assertEquals(cache.getUserId(TENANT_ID, "primary", "alice"), "id-1");
+        Assert.assertEquals(cache.getUser(TENANT_ID, "id-1").getUsername(), "alice");
+        Assert.assertNull(cache.getUserId(2, USER_STORE_DOMAIN, "alice"));
+    }
+
+    @Test
+    public void testRenamedUserClearsOldUsername() {
+
+        cache.addToCache(TENANT_ID, USER_STORE_DOMAIN, "alice", "id-1");
+        cache.addToCache(TENANT_ID, USER_STORE_DOMAIN, "alice.smith", "id-1");
+
+        Assert.assertNull(cache.getUserId(TENANT_ID, USER_STORE_DOMAIN, "alice"));
+        Assert.assertEquals(cache.getUserId(TENANT_ID, USER_STORE_DOMAIN, "alice.smith"), "id-1");
+        Assert.assertEquals(cache.getUser(TENANT_ID, "id-1").getUsername(), "alice.smith");
+    }
+
+    @Test
+    public void testRecreatedUserClearsOldUserId() {
+
+        cache.addToCache(TENANT_ID, USER_STORE_DOMAIN, "alice", "id-1");
+        cache.addToCache(TENANT_ID, USER_STORE_DOMAIN, "alice", "id-2");
+
+        Assert.assertNull(cache.getUser(TENANT_ID, "id-1"));
+        Assert.assertEquals(cache.getUserId(TENANT_ID, USER_STORE_DOMAIN, "alice"), "id-2");
+    }
+
+    @Test
+    public void testClearCacheEntryByUserIdClearsBothDirections() {
+
+        cache.addToCache(TENANT_ID, USER_STORE_DOMAIN, "alice", "id-1");
+        cache.clearCacheEntryByUserId(TENANT_ID, "id-1");
+
+        Assert.assertNull(cache.getUser(TENANT_ID, "id-1"));
+        Assert.assertNull(cache.getUserId(TENANT_ID, USER_STORE_DOMAIN, "alice"));
+    }
+
+    @Test
+    public void testClearTenant() {
+
+        cache.addToCache(TENANT_ID, USER_STORE_DOMAIN, "alice", "id-1");
+        cache.addToCache(2, USER_STORE_DOMAIN, "alice", "id-2");
+        cache.clear(TENANT_ID);
+
+        Assert.assertNull(cache.getUserId(TENANT_ID, USER_STORE_DOMAIN, "alice"));
+        Assert.assertEquals(cache.getUserId(2, USER_STORE_DOMAIN, "alice"), "id-2");
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.error;
+
+import org.apache.commons.logging.Log;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ErrorLogAggregatorTest {
+
+    private static final String ERROR_CODE = "USR-15001";
+
+    @Test
+    public void testOccurrencesBeyondTheLimitAreSuppressed() {
+
+        ErrorLogAggregator aggregator = new ErrorLogAggregator(TimeUnit.MINUTES.toNanos(1), 2);
+        RecordingLog errorLog = new RecordingLog();
+        for (int i = 0; i < 5; i++) {
+            aggregator.error(errorLog, ERROR_CODE, () -> "error", new Exception());
+        }
+
+        Assert.assertEquals(errorLog.errors.size(), 2);
+        Assert.assertEquals(aggregator.getErrorCount(ERROR_CODE), 5);
+        Assert.assertEquals(aggregator.getSuppressedCount(ERROR_CODE), 3);
+        Assert.assertEquals(aggregator.getSuppressedCounts().get(ERROR_CODE), Long.valueOf(3));
+        Assert.assertEquals(aggregator.getErrorCounts().get(ERROR_CODE), Long.valueOf(5));
+    }
+
+    @Test
+    public void testFlushLogsTheSuppressedCountOfAnEndedWindow() throws InterruptedException {
+
+        ErrorLogAggregator aggregator = new ErrorLogAggregator(TimeUnit.MILLISECONDS.toNanos(1), 1);
+        RecordingLog errorLog = new RecordingLog();
+        aggregator.error(errorLog, ERROR_CODE, () -> "error", new Exception());
+        aggregator.error(errorLog, ERROR_CODE, () -> "error", new Exception());
+        Thread.sleep(5);
+
+        aggregator.flush();
+        Assert.assertEquals(errorLog.errors.size(), 2);
+        Assert.assertTrue(errorLog.errors.get(1).contains("1 similar errors were suppressed"));
+
+        aggregator.flush();
+        Assert.assertEquals(errorLog.errors.size(), 2);
+    }
+
+    @Test
+    public void testFlushKeepsTheCurrentWindow() {
+
+        ErrorLogAggregator aggregator = new ErrorLogAggregator(TimeUnit.MINUTES.toNanos(1), 1);
+        RecordingLog errorLog = new RecordingLog();
+        aggregator.error(errorLog, ERROR_CODE, () -> "error", new Exception());
+        aggregator.error(errorLog, ERROR_CODE, () -> "error", new Exception());
+
+        aggregator.flush();
+        Assert.assertEquals(errorLog.errors.size(), 1);
+    }
+
+    /**
+     * Log recording the error messages.
+     */
+    private static final class RecordingLog implements Log {
+
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void error(Object message) {
+
+            errors.add(String.valueOf(message));
+        }
+
+        @Override
+        public void error(Object message, Throwable t) {
+
+            errors.add(String.valueOf(message));
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+
+            return false;
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+
+            return true;
+        }
+
+        @Override
+        public boolean isFatalEnabled() {
+
+            return true;
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+
+            return false;
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+
+            return false;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+
+            return true;
+        }
+
+        @Override
+        public void trace(Object message) {
+
+        }
+
+        @Override
+        public void trace(Object message, Throwable t) {
+
+        }
+
+        @Override
+        public void debug(Object message) {
+
+        }
+
+        @Override
+        public void debug(Object message, Throwable t) {
+
+        }
+
+        @Override
+        public void info(Object message) {
+
+        }
+
+        @Override
+        public void info(Object message, Throwable t) {
+
+        }
+
+        @Override
+        public void warn(Object message) {
+
+        }
+
+        @Override
+        public void warn(Object message, Throwable t) {
+
+        }
+
+        @Override
+        public void fatal(Object message) {
+
+        }
+
+        @Override
+        public void fatal(Object message, Throwable t) {
+
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.job;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class UserApiJobExecutorTest {
+
+    private static final String TENANT_DOMAIN = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+    private static final String USERNAME = "admin";
+    private static final String RESOURCE_ID = "resource-1";
+
+    @BeforeMethod
+    public void setUp() {
+
+        System.setProperty("carbon.home", Paths.get(System.getProperty("user.dir"), "src", "test", "resources")
+                .toString());
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(TENANT_DOMAIN);
+        carbonContext.setUsername(USERNAME);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    @Test
+    public void testJobRunsInTenantFlowOfSubmitter() throws InterruptedException {
+
+        UserApiJobExecutor executor = new UserApiJobExecutor(1, 10);
+        TestJob job = new TestJob();
+        StringBuilder context = new StringBuilder();
+
+        Assert.assertTrue(executor.submit(job, testJob -> {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            context.append(carbonContext.getTenantDomain()).append('/').append(carbonContext.getUsername());
+        }));
+        waitUntilFinished(job);
+
+        Assert.assertEquals(job.getStatus(), UserApiJob.Status.COMPLETED);
+        Assert.assertEquals(context.toString(), TENANT_DOMAIN + "/" + USERNAME);
+        Assert.assertTrue(job.getStartedTime() > 0);
+        Assert.assertTrue(job.getCompletedTime() >= job.getStartedTime());
+    }
+
+    @Test
+    public void testFailedJob() throws InterruptedException {
+
+        UserApiJobExecutor executor = new UserApiJobExecutor(1, 10);
+        TestJob job = new TestJob();
+
+        Assert.assertTrue(executor.submit(job, testJob -> {
+            throw new IllegalStateException("Job failed.");
+        }));
+        waitUntilFinished(job);
+
+        Assert.assertEquals(job.getStatus(), UserApiJob.Status.FAILED);
+    }
+
+    @Test
+    public void testActiveJobIsReadFromExecutor() throws InterruptedException {
+
+        UserApiJobExecutor executor = new UserApiJobExecutor(1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestJob job = new TestJob();
+        try {
+            Assert.assertTrue(executor.submit(job, testJob -> {
+                started.countDown();
+                release.await();
+            }));
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Assert.assertSame(executor.getJob(TENANT_DOMAIN, job.getId(), TestJob.class), job);
+            Assert.assertEquals(job.getStatus(), UserApiJob.Status.IN_PROGRESS);
+            Assert.assertNull(executor.getJob("other.com", job.getId(), TestJob.class));
+        } finally {
+            release.countDown();
+        }
+        waitUntilFinished(job);
+    }
+
+    @Test
+    public void testActiveJobWithSameKeyIsReturned() throws InterruptedException {
+
+        UserApiJobExecutor executor = new UserApiJobExecutor(1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        TestJob job = new TestJob();
+        try {
+            Assert.assertSame(executor.submit(job, RESOURCE_ID, testJob -> release.await()), job);
+            TestJob duplicateJob = new TestJob();
+            Assert.assertSame(executor.submit(duplicateJob, RESOURCE_ID, testJob -> Assert.fail("Duplicate job ran.")),
+                    job);
+        } finally {
+            release.countDown();
+        }
+        waitUntilFinished(job);
+
+        TestJob nextJob = new TestJob();
+        Assert.assertSame(executor.submit(nextJob, RESOURCE_ID, testJob -> {
+        }), nextJob);
+        waitUntilFinished(nextJob);
+    }
+
+    @Test
+    public void testJobIsRejectedWhenQueueIsFull() throws InterruptedException {
+
+        UserApiJobExecutor executor = new UserApiJobExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestJob runningJob = new TestJob();
+        TestJob queuedJob = new TestJob();
+        TestJob rejectedJob = new TestJob();
+        try {
+            Assert.assertTrue(executor.submit(runningJob, testJob -> release.await()));
+            Assert.assertTrue(executor.submit(queuedJob, testJob -> release.await()));
+            Assert.assertNull(executor.submit(rejectedJob, RESOURCE_ID, testJob -> {
+            }));
+
+            Assert.assertNull(executor.getJob(TENANT_DOMAIN, rejectedJob.getId(), TestJob.class));
+            Assert.assertEquals(queuedJob.getStatus(), UserApiJob.Status.QUEUED);
+        } finally {
+            release.countDown();
+        }
+        waitUntilFinished(runningJob);
+        waitUntilFinished(queuedJob);
+    }
+
+    @Test
+    public void testJobsOfOtherTypesAreKeptApart() throws InterruptedException {
+
+        UserApiJobExecutor executor = new UserApiJobExecutor(2, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        TestJob job = new TestJob();
+        OtherTestJob otherJob = new OtherTestJob();
+        try {
+            Assert.assertSame(executor.submit(job, RESOURCE_ID, testJob -> release.await()), job);
+            Assert.assertSame(executor.submit(otherJob, RESOURCE_ID, testJob -> release.await()), otherJob);
+
+            Assert.assertNull(executor.getJob(TENANT_DOMAIN, job.getId(), OtherTestJob.class));
+            Assert.assertSame(executor.getJob(TENANT_DOMAIN, otherJob.getId(), OtherTestJob.class), otherJob);
+        } finally {
+            release.countDown();
+        }
+        waitUntilFinished(job);
+        waitUntilFinished(otherJob);
+
+        Assert.assertNull(executor.getJob(TENANT_DOMAIN, otherJob.getId(), TestJob.class));
+        Assert.assertSame(executor.getJob(TENANT_DOMAIN, job.getId(), TestJob.class), job);
+    }
+
+    private static void waitUntilFinished(UserApiJob job) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (job.isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertFalse(job.isActive());
+    }
+
+    private static class TestJob extends UserApiJob {
+
+        TestJob() {
+
+            super(TENANT_DOMAIN);
+        }
+    }
+
+    private static class OtherTestJob extends UserApiJob {
+
+        OtherTestJob() {
+
+            super(TENANT_DOMAIN);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTest {
+
+    private static final int SUB_BUCKET_COUNT = 16;
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int LAST_BUCKET = (MAX_EXPONENT - 2) * SUB_BUCKET_COUNT - 1;
+
+    @Test
+    public void testValuesBelowSubBucketCountHaveTheirOwnBucket() {
+
+        for (long micros = 0; micros < SUB_BUCKET_COUNT; micros++) {
+            Assert.assertEquals(LatencyHistogram.bucketIndex(micros), micros);
+            Assert.assertEquals(LatencyHistogram.bucketUpperBound((int) micros), micros);
+        }
+        Assert.assertEquals(LatencyHistogram.bucketIndex(15), 15);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(16), 16);
+        Assert.assertEquals(LatencyHistogram.bucketUpperBound(16), 16);
+    }
+
+    @Test
+    public void testPowersOfTwoStartANewBucket() {
+
+        for (int exponent = 4; exponent <= MAX_EXPONENT; exponent++) {
+            long micros = 1L << exponent;
+            int index = LatencyHistogram.bucketIndex(micros);
+
+            Assert.assertEquals(index, (exponent - 3) * SUB_BUCKET_COUNT, "Bucket of 2^" + exponent);
+            Assert.assertEquals(LatencyHistogram.bucketUpperBound(index - 1), micros - 1, "Bucket of 2^" + exponent);
+            Assert.assertEquals(LatencyHistogram.bucketIndex(micros - 1), index - 1, "Bucket of 2^" + exponent);
+        }
+    }
+
+    @Test
+    public void testLargestValueIsInTheLastBucket() {
+
+        Assert.assertEquals(LatencyHistogram.bucketIndex(MAX_MICROS), LAST_BUCKET);
+        Assert.assertEquals(LatencyHistogram.bucketUpperBound(LAST_BUCKET), MAX_MICROS);
+    }
+
+    @Test
+    public void testEachValueIsInTheBucketHoldingIt() {
+
+        for (long micros : sampleValues()) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            long previousUpperBound = index == 0 ? -1 : LatencyHistogram.bucketUpperBound(index - 1);
+
+            Assert.assertTrue(previousUpperBound < micros && micros <= upperBound, "Bucket of " + micros);
+            Assert.assertTrue(upperBound - micros <= micros / SUB_BUCKET_COUNT, "Error of " + micros);
+        }
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getMeanMicros(), 0.0);
+        Assert.assertEquals(histogram.getPercentileMicros(50), 0);
+        Assert.assertEquals(histogram.getMaxMicros(), 0);
+    }
+
+    @Test
+    public void testBoundaryValuesAreRecorded() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(-1);
+        histogram.recordNanos(0);
+        histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(15));
+        histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(16));
+        histogram.recordNanos(Long.MAX_VALUE);
+
+        Assert.assertEquals(histogram.getCount(), 4);
+        Assert.assertEquals(histogram.getMaxMicros(), MAX_MICROS);
+        Assert.assertEquals(histogram.getPercentileMicros(0), 0);
+        Assert.assertEquals(histogram.getPercentileMicros(25), 0);
+        Assert.assertEquals(histogram.getPercentileMicros(50), 15);
+        Assert.assertEquals(histogram.getPercentileMicros(75), 16);
+        Assert.assertEquals(histogram.getPercentileMicros(100), MAX_MICROS);
+    }
+
+    @Test
+    public void testPercentilesAreWithinTheRelativeError() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Long> values = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            long micros = (long) Math.exp(random.nextDouble() * Math.log(TimeUnit.SECONDS.toMicros(60)));
+            values.add(micros);
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+        values.sort(null);
+
+        for (double percentile : new double[]{1, 10, 50, 90, 99, 99.9, 100}) {
+            long actual = values.get((int) Math.ceil(percentile / 100 * values.size()) - 1);
+            long reported = histogram.getPercentileMicros(percentile);
+
+            Assert.assertTrue(reported >= actual, "p" + percentile + " " + reported + " < " + actual);
+            Assert.assertTrue(reported <= actual + actual / SUB_BUCKET_COUNT,
+                    "p" + percentile + " " + reported + " exceeds " + actual + " by more than 6.25%");
+        }
+        Assert.assertEquals(histogram.getPercentileMicros(100), values.get(values.size() - 1).longValue());
+    }
+
+    @Test
+    public void testMean() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100; micros++) {
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getMeanMicros(), 50.5);
+        Assert.assertEquals(histogram.getMaxMicros(), 100);
+    }
+
+    @Test
+    public void testReset() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        histogram.reset();
+
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getMaxMicros(), 0);
+        Assert.assertEquals(histogram.getPercentileMicros(99), 0);
+    }
+
+    private static List<Long> sampleValues() {
+
+        List<Long> values = new ArrayList<>();
+        for (int exponent = 0; exponent <= MAX_EXPONENT; exponent++) {
+            long power = 1L << exponent;
+            values.add(power - 1);
+            values.add(power);
+            values.add(power + 1);
+            values.add(power + power / 2);
+        }
+        values.add(MAX_MICROS);
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            values.add((random.nextLong() >>> 1) % MAX_MICROS);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class UserApiMetricsTest {
+
+    private static final int MAX_TRACKED_METRICS = 1000;
+    private static final String API = "session.v1";
+    private static final String OPERATION = "getSessions";
+
+    @Test
+    public void testMetricsAreKeptPerOperationAndTenant() {
+
+        UserApiMetrics userApiMetrics = new UserApiMetrics();
+        OperationMetrics metrics = userApiMetrics.getOperationMetrics(API, OPERATION, "wso2.com");
+
+        Assert.assertSame(userApiMetrics.getOperationMetrics(API, OPERATION, "wso2.com"), metrics);
+        Assert.assertNotSame(userApiMetrics.getOperationMetrics(API, OPERATION, "abc.com"), metrics);
+        Assert.assertNotSame(userApiMetrics.getOperationMetrics(API, "deleteSessions", "wso2.com"), metrics);
+        Assert.assertEquals(metrics.getApi(), API);
+        Assert.assertEquals(metrics.getOperation(), OPERATION);
+        Assert.assertEquals(metrics.getTenant(), "wso2.com");
+        Assert.assertEquals(userApiMetrics.getOperationMetrics(null, OPERATION, "").getTenant(), "UNKNOWN");
+    }
+
+    @Test
+    public void testTenantsBeyondTheCapAreAggregated() {
+
+        UserApiMetrics userApiMetrics = new UserApiMetrics();
+        for (int i = 0; i < MAX_TRACKED_METRICS; i++) {
+            Assert.assertEquals(userApiMetrics.getOperationMetrics(API, OPERATION, "tenant" + i).getTenant(),
+                    "tenant" + i);
+        }
+
+        OperationMetrics otherMetrics = userApiMetrics.getOperationMetrics(API, OPERATION, "new.com");
+        Assert.assertEquals(otherMetrics.getTenant(), "OTHER");
+        Assert.assertSame(userApiMetrics.getOperationMetrics(API, OPERATION, "another.com"), otherMetrics);
+        Assert.assertEquals(userApiMetrics.getOperationMetrics(API, OPERATION, "tenant0").getTenant(), "tenant0");
+        Assert.assertEquals(userApiMetrics.getOperationMetrics(API, "deleteSessions", "tenant0").getTenant(),
+                "OTHER");
+        Assert.assertEquals(userApiMetrics.getOperationMetrics().size(), MAX_TRACKED_METRICS + 2);
+    }
+
+    @Test
+    public void testReset() {
+
+        UserApiMetrics userApiMetrics = new UserApiMetrics();
+        OperationMetrics metrics = userApiMetrics.getOperationMetrics(API, OPERATION, "wso2.com");
+        metrics.requestStarted();
+        metrics.requestCompleted(1000, 1000, 2000, 500);
+        Assert.assertEquals(metrics.getServerErrorCount(), 1);
+
+        userApiMetrics.reset();
+
+        Assert.assertEquals(metrics.getServerErrorCount(), 0);
+        Assert.assertEquals(metrics.getTotalLatency().getCount(), 0);
+    }
+}
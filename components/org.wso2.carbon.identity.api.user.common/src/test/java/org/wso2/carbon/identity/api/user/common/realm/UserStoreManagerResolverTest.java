@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.common.realm;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.user.api.UserStoreManager;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.service.RealmService;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class UserStoreManagerResolverTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String SECONDARY_DOMAIN = "SECONDARY";
+
+    @Test
+    public void testReloadedRealmIsUsed() throws Exception {
+
+        UserStoreManager oldSecondaryUserStoreManager = mock(org.wso2.carbon.user.core.UserStoreManager.class,
+                Collections.emptyMap());
+        UserStoreManager newSecondaryUserStoreManager = mock(org.wso2.carbon.user.core.UserStoreManager.class,
+                Collections.emptyMap());
+        UserRealm oldRealm = buildRealm(oldSecondaryUserStoreManager);
+        UserRealm newRealm = buildRealm(newSecondaryUserStoreManager);
+        AtomicReference<UserRealm> currentRealm = new AtomicReference<>(oldRealm);
+        RealmService realmService = (RealmService) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RealmService.class}, (proxy, method, args) ->
+                        "getTenantUserRealm".equals(method.getName()) ? currentRealm.get() : null);
+
+        UserStoreManagerResolver resolver = UserStoreManagerResolver.getInstance();
+        Assert.assertSame(resolver.getUserStoreManager(realmService, TENANT_ID, SECONDARY_DOMAIN),
+                oldSecondaryUserStoreManager);
+
+        currentRealm.set(newRealm);
+        Assert.assertSame(resolver.getUserRealm(realmService, TENANT_ID), newRealm);
+        Assert.assertSame(resolver.getUserStoreManager(realmService, TENANT_ID), newRealm.getUserStoreManager());
+        Assert.assertSame(resolver.getUserStoreManager(realmService, TENANT_ID, SECONDARY_DOMAIN),
+                newSecondaryUserStoreManager);
+    }
+
+    @Test
+    public void testRealmUserStoreManagerIsReturnedForEmptyDomain() throws Exception {
+
+        UserRealm realm = buildRealm(mock(org.wso2.carbon.user.core.UserStoreManager.class, Collections.emptyMap()));
+        RealmService realmService = mock(RealmService.class, Collections.singletonMap("getTenantUserRealm", realm));
+
+        Assert.assertSame(UserStoreManagerResolver.getInstance().getUserStoreManager(realmService, TENANT_ID, null),
+                realm.getUserStoreManager());
+    }
+
+    private static UserRealm buildRealm(UserStoreManager secondaryUserStoreManager) {
+
+        UserStoreManager realmUserStoreManager = mock(org.wso2.carbon.user.core.UserStoreManager.class,
+                Collections.singletonMap("getSecondaryUserStoreManager", secondaryUserStoreManager));
+        return mock(UserRealm.class, Collections.singletonMap("getUserStoreManager", realmUserStoreManager));
+    }
+
+    /**
+     * Create a proxy of the given interface which returns the given results by the method name, and null for the
+     * rest of the methods.
+     */
+    private static <T> T mock(Class<T> type, Map<String, Object> results) {
+
+        return type.cast(Proxy.newProxyInstance(UserStoreManagerResolverTest.class.getClassLoader(),
+                new Class<?>[]{type}, (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("toString".equals(method.getName())) {
+                        return type.getSimpleName();
+                    }
+                    return results.get(method.getName());
+                }));
+    }
+}
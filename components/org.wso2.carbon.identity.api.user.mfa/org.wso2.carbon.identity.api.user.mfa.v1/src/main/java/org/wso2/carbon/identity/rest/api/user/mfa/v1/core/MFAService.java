@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.user.common.ContextLoader;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.user.common.realm.UserStoreManagerResolver;
 import org.wso2.carbon.identity.api.user.mfa.common.MFAConstants;
 import org.wso2.carbon.identity.application.authentication.framework.exception.AuthenticationFailedException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -76,8 +77,8 @@ public class MFAService {
             throw handleError(Response.Status.FORBIDDEN, USER_ERROR_ACCESS_DENIED_FOR_BASIC_AUTH);
         }
         try {
-            UserStoreManager userStoreManager = realmService.getTenantUserRealm(IdentityTenantUtil
-                    .getTenantId(getTenantDomain())).getUserStoreManager();
+            UserStoreManager userStoreManager = UserStoreManagerResolver.getInstance().getUserStoreManager(realmService,
+                    getTenantDomain());
             if (userStoreManager == null) {
                 if (log.isDebugEnabled()) {
                     log.debug("Unable to retrieve userstore manager.");
@@ -109,8 +110,8 @@ public class MFAService {
             validateAuthenticatorList(enabledAuthenticators);
         }
         try {
-            UserStoreManager userStoreManager = realmService.getTenantUserRealm(IdentityTenantUtil
-                    .getTenantId(getTenantDomain())).getUserStoreManager();
+            UserStoreManager userStoreManager = UserStoreManagerResolver.getInstance().getUserStoreManager(realmService,
+                    getTenantDomain());
             Map<String, String> claims = new HashMap<>();
             if (userStoreManager == null) {
                 if (log.isDebugEnabled()) {
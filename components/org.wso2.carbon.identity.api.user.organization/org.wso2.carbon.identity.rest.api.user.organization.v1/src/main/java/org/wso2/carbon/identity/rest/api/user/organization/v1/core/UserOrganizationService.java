@@ -23,10 +23,10 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.cache.ServiceURLPrefixCache;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
-import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -277,7 +277,8 @@ public class UserOrganizationService {
     private String buildURIForPagination(String paginationURL) {
 
         try {
-            return ServiceURLBuilder.create().addPath(getContext(paginationURL)).build().getRelativePublicURL();
+            return ServiceURLPrefixCache.getInstance().getRelativePublicURL(getContext(StringUtils.EMPTY),
+                    paginationURL);
         } catch (URLBuilderException e) {
             LOG.error("Server encountered an error while building paginated URL for the response.", e);
             throw handleError(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL);
@@ -58,4 +58,14 @@ public class BadRequestException extends WebApplicationException {
     public String getMessage() {
         return message;
     }
+
+    /**
+     * A bad request is caused by the request itself, hence the stack trace is not captured.
+     *
+     * @return This exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
@@ -61,4 +61,14 @@ public class ConflictException extends WebApplicationException {
 
         return message;
     }
+
+    /**
+     * A conflict response is caused by the request itself, hence the stack trace is not captured.
+     *
+     * @return This exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
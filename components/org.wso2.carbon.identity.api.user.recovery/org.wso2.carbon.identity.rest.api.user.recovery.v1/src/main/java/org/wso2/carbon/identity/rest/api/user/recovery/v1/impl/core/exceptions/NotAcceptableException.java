@@ -59,4 +59,14 @@ public class NotAcceptableException extends WebApplicationException {
     public String getMessage() {
         return message;
     }
+
+    /**
+     * A not acceptable response is caused by the request itself, hence the stack trace is not captured.
+     *
+     * @return This exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
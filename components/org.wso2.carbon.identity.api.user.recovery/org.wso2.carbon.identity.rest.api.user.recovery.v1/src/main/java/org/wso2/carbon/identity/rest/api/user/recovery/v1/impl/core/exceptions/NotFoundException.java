@@ -59,4 +59,14 @@ public class NotFoundException extends WebApplicationException {
     public String getMessage() {
         return message;
     }
+
+    /**
+     * A not found response is caused by the request itself, hence the stack trace is not captured.
+     *
+     * @return This exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
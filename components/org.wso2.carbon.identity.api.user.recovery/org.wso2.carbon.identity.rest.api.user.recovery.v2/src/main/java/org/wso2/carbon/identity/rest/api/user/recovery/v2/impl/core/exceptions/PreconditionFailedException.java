@@ -65,4 +65,14 @@ public class PreconditionFailedException extends WebApplicationException {
 
         return message;
     }
+
+    /**
+     * A precondition failure is caused by the request itself, hence the stack trace is not captured.
+     *
+     * @return This exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
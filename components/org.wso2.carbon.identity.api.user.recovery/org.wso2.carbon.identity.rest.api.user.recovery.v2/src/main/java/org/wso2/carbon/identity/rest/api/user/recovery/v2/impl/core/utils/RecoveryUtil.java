@@ -22,9 +22,10 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.wso2.carbon.identity.api.user.common.cache.ServiceURLPrefixCache;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
-import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -148,10 +149,10 @@ public class RecoveryUtil {
     public static String buildURIForBody(String tenantDomain, String endpoint, String baseUrl) {
 
         String url;
-        String context = getContext(tenantDomain, endpoint, baseUrl);
+        String basePath = getContext(tenantDomain, StringUtils.EMPTY, baseUrl);
 
         try {
-            url = ServiceURLBuilder.create().addPath(context).build().getRelativePublicURL();
+            url = ServiceURLPrefixCache.getInstance().getRelativePublicURL(basePath, endpoint);
         } catch (URLBuilderException e) {
             String errorDescription = "Server encountered an error while building URL for response body.";
             ErrorResponse errorResponse =
@@ -281,7 +282,7 @@ public class RecoveryUtil {
                                            Response.Status status) {
 
         ErrorResponse errorResponse = buildErrorResponse(errorCode, errorMessage, errorDescription);
-        return new APIError(status, errorResponse);
+        return new ClientAPIError(status, errorResponse);
     }
 
     /**
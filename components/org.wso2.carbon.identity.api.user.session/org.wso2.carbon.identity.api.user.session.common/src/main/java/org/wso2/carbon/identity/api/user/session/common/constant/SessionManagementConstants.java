@@ -45,7 +45,23 @@ public class SessionManagementConstants {
                 "User is not authorized to terminate the session/s."),
         ERROR_CODE_UNABLE_TO_RETRIEVE_FEDERATED_USERID("10011",
                 "Unable to retrieve federated userId",
-                "Error occurred while retrieving federated userId of the user: %s in the tenant domain: %s.");
+                "Error occurred while retrieving federated userId of the user: %s in the tenant domain: %s."),
+        ERROR_CODE_SESSION_TERMINATION_JOB_NOT_FOUND("10012",
+                "Session termination job not found",
+                "Unable to find a session termination job with the id: %s."),
+        ERROR_CODE_SESSION_TERMINATION_JOB_REJECTED("10013",
+                "Session termination job rejected",
+                "Unable to accept the session termination job as the maximum number of pending jobs is reached."),
+        ERROR_CODE_SESSION_CHANGES_REJECTED("10014",
+                "Session changes request rejected",
+                "Unable to wait for the session changes as the maximum number of users waiting for changes is " +
+                        "reached."),
+        ERROR_CODE_SESSION_SEARCH_LIMIT_EXCEEDED("10015",
+                "Session search limit exceeded",
+                "Unable to read the sessions in order, as more than %s sessions share the creation time: %s."),
+        ERROR_CODE_SESSION_AGGREGATION_LIMIT_EXCEEDED("10016",
+                "Session aggregation limit exceeded",
+                "Unable to count the sessions, as %s. Narrow down the filter and retry.");
 
         private final String code;
         private final String message;
@@ -23,6 +23,7 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionChangesDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionsDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.factories.MeApiServiceFactory;
 
@@ -33,6 +34,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 
 @Path("/me")
@@ -55,16 +58,40 @@ public class MeApi {
             response = SessionsDTO.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully retrieved session information"),
+            @ApiResponse(code = 400, message = "Invalid input request"),
             @ApiResponse(code = 401, message = "Unauthorized"),
             @ApiResponse(code = 403, message = "Resource Forbidden"),
             @ApiResponse(code = 404, message = "Resource Not Found"),
             @ApiResponse(code = 500, message = "Internal Server Error")})
-    public Response getSessionsOfLoggedInUser(@ApiParam(value = "Maximum number of records to return.\n_This parameter is not supported yet._\n") @QueryParam("limit") Integer limit,
-                                              @ApiParam(value = "Number of records to skip for pagination.\n_This parameter is not supported yet._\n") @QueryParam("offset") Integer offset,
-                                              @ApiParam(value = "Condition to filter the retrieval of records.\n_This parameter is not supported yet._\n") @QueryParam("filter") String filter,
-                                              @ApiParam(value = "Define the order in which the retrieved records should be sorted.\n_This parameter is not supported yet._\n") @QueryParam("sort") String sort) {
+    public Response getSessionsOfLoggedInUser(@ApiParam(value = "Maximum number of records to return.\n_If not specified, all the remaining records are returned._\n") @QueryParam("limit") Integer limit,
+                                              @ApiParam(value = "Number of records to skip for pagination.\n") @QueryParam("offset") Integer offset,
+                                              @ApiParam(value = "Condition to filter the retrieval of records.\nThe filter parameter must contain at least one valid expression (for multiple expressions they must be combined using the 'and' logical operator).\nEach expression must contain an attribute name followed by an attribute operator and a value (attribute names, operators and values used in filters are case insensitive).\n\nThe operators supported in the expression are listed next\n| Operator | Description | Behavior |\n|----------|-------------|----------|\n| eq | equal | The attribute and operator values must be identical for a match. |\n| sw | starts with | The entire operator value must be a substring of the attribute value, starting at the beginning of the attribute value. |\n| ew | ends with | The entire operator value must be a substring of the attribute value, matching at the end of the attribute value. |\n| co | contains | The entire operator value must be a substring of the attribute value for a match. |\n| le | less than or equal to | If the attribute value is less than or equal to the operator value, there is a match. |\n| ge | greater than or equal to | If the attribute value is greater than or equal to the operator value, there is a match. |\n\nThe attributes supported in the expression are listed next\n| Name | Operators | Description |\n|------|-----------|-------------|\n| loginId | eq, sw, ew, co | Filter results by the login identifier of the user who owns the session. |\n| sessionId | eq, sw, ew, co | Filter results by the ID of the session. |\n| appName | eq, sw, ew, co | Filter results by the name of the application related to the session. |\n| ipAddress | eq | Filter results by the IP address of the session. |\n| userAgent | eq, sw, ew, co | Filter results by the user agent of the session. |\n| loginTime | le, ge | Filter results by the login time of the session. |\n| lastAccessTime | le, ge | Filter results by the last access time of the session. |\n\n_Example, filter=loginId eq john and userAgent co Chrome_\n") @QueryParam("filter") String filter,
+                                              @ApiParam(value = "Define the order in which the retrieved records should be sorted.\nThe records can be sorted by loginTime or lastAccessTime, optionally followed by the asc (default) or desc order.\n\n_Example, sort=lastAccessTime desc_\n") @QueryParam("sort") String sort,
+                                              @ApiParam(value = "Comma separated attributes of the sessions to be returned. The id of a session is always returned.\nThe attributes which are not returned are omitted from the sessions, while the sessions of a request\nwithout attributes or excludedAttributes return the attributes without a value as null.\nCannot be used with excludedAttributes.\n\n_Example, attributes=loginTime,lastAccessTime_\n") @QueryParam("attributes") String attributes,
+                                              @ApiParam(value = "Comma separated attributes of the sessions not to be returned, which are omitted from the sessions.\nCannot be used with attributes.\n\n_Example, excludedAttributes=applications_\n") @QueryParam("excludedAttributes") String excludedAttributes) {
+
+        return delegate.getSessionsOfLoggedInUser(limit, offset, filter, sort, attributes, excludedAttributes);
+    }
+
+    @Valid
+    @GET
+    @Path("/sessions/changes")
+    @Produces({"application/json"})
+    @ApiOperation(value = "Wait for the changes of the active sessions of the authenticated user",
+            notes = "This API returns the sessions of the authenticated user terminated through this API after the given cursor. If there are no changes yet, the request waits until a change is recorded or the timeout elapses, and then returns the changes recorded, if any, with the cursor to use in the next request. A request without a cursor returns the current cursor at once, which should be obtained before loading the sessions. Only the terminations done through this API on the node serving the request are returned. The sessions created, and the sessions ended by logouts or expiry, are not, and are found only when the sessions are reloaded. If the changes after the cursor are no longer available, or all the sessions of the user were terminated, reset is returned and the sessions should be reloaded. If the server is waiting for the changes of too many users, the request is rejected with 503 and should be retried later. <br> <b>Permission required:</b> <br> * None <br> <b>Scope required:</b> <br> * internal_login\n",
+            response = SessionChangesDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully retrieved the session changes"),
+            @ApiResponse(code = 400, message = "Invalid input request"),
+            @ApiResponse(code = 401, message = "Unauthorized"),
+            @ApiResponse(code = 403, message = "Resource Forbidden"),
+            @ApiResponse(code = 500, message = "Internal Server Error"),
+            @ApiResponse(code = 503, message = "Service Unavailable")})
+    public void getSessionChangesOfLoggedInUser(@ApiParam(value = "Cursor returned with the last changes read.\n_If not specified, only the current cursor is returned._\n") @QueryParam("cursor") String cursor,
+                                                @ApiParam(value = "Maximum time to wait for a change, in seconds.\n_Defaults to 30 seconds, and cannot exceed 60 seconds._\n") @QueryParam("timeout") Integer timeout,
+                                                @Suspended AsyncResponse asyncResponse) {
 
-        return delegate.getSessionsOfLoggedInUser(limit, offset, filter, sort);
+        delegate.getSessionChangesOfLoggedInUser(cursor, timeout, asyncResponse);
     }
 
     @Valid
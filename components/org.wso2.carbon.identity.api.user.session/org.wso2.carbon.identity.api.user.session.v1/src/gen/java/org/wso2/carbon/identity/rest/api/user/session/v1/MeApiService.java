@@ -16,11 +16,16 @@
 
 package org.wso2.carbon.identity.rest.api.user.session.v1;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 public abstract class MeApiService {
 
-    public abstract Response getSessionsOfLoggedInUser(Integer limit, Integer offset, String filter, String sort);
+    public abstract Response getSessionsOfLoggedInUser(Integer limit, Integer offset, String filter, String sort,
+                                                       String attributes, String excludedAttributes);
+
+    public abstract void getSessionChangesOfLoggedInUser(String cursor, Integer timeout,
+                                                         AsyncResponse asyncResponse);
 
     public abstract Response terminateSessionByLoggedInUser(String sessionId);
 
@@ -24,11 +24,18 @@ import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SearchResponseDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionAggregationDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionTerminationJobDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionTerminationRequestDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.factories.SessionsApiServiceFactory;
 
 import javax.validation.Valid;
+import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Response;
@@ -59,9 +66,91 @@ public class SessionsApi {
     public Response getSessions(@ApiParam(value = "Condition to filter the retrieval of records.\nThe filter parameter must contain at least one valid expression (for multiple expressions they must be combined using the 'and' logical operator).\nEach expression must contain an attribute name followed by an attribute operator and a value (attribute names, operators and values used in filters are case insensitive).\n\nThe operators supported in the expression are listed next\n| Operator | Description | Behavior |\n|----------|-------------|----------|\n| eq | equal | The attribute and operator values must be identical for a match. |\n| sw | starts with | The entire operator value must be a substring of the attribute value, starting at the beginning of the attribute value. |\n| ew | ends with | The entire operator value must be a substring of the attribute value, matching at the end of the attribute value. |\n| co | contains | The entire operator value must be a substring of the attribute value for a match. |\n| le | less than or equal to | If the attribute value is less than or equal to the operator value, there is a match. |\n| ge | greater than or equal to | If the attribute value is greater than or equal to the operator value, there is a match. |\n\nThe attributes supported in the expression are listed next\n| Name | Operators | Description |\n|------|-----------|-------------|\n| loginId | eq, sw, ew, co | Filter results by the login identifier of the user who owns the session. |\n| sessionId | eq, sw, ew, co | Filter results by the ID of the session. |\n| appName | eq, sw, ew, co | Filter results by the name of the application related to the session. |\n| ipAddress | eq | Filter results by the IP address of the session. |\n| userAgent | eq, sw, ew, co | Filter results by the user agent of the session. |\n| loginTime | le, ge | Filter results by the login time of the session. |\n| lastAccessTime | le, ge | Filter results by the last access time of the session. |\n\n_Example, filter=loginId eq john and userAgent co Chrome_\n") @QueryParam("filter") String filter,
                                 @ApiParam(value = "Maximum number of records to return.\n_Default value: 20_\n") @QueryParam("limit") Integer limit,
                                 @ApiParam(value = "Unix timestamp data value that points to the start of the range of data to be returned.\n_Note: As results are ordered by more recent first this will provide previous page of results._\n") @QueryParam("since") Long since,
-                                @ApiParam(value = "Unix timestamp data value that points to the end of the range of data to be returned.\n_Note: As results are ordered by more recent first this will provide next page of results._\n") @QueryParam("until") Long until) {
+                                @ApiParam(value = "Unix timestamp data value that points to the end of the range of data to be returned.\n_Note: As results are ordered by more recent first this will provide next page of results._\n") @QueryParam("until") Long until,
+                                @ApiParam(value = "Opaque cursor that points to the start of the range of data to be returned. Takes precedence over since.\n_Note: Use the cursor of the previous page link._\n") @QueryParam("before") String before,
+                                @ApiParam(value = "Opaque cursor that points to the end of the range of data to be returned. Takes precedence over until.\n_Note: Use the cursor of the next page link._\n") @QueryParam("after") String after,
+                                @ApiParam(value = "Comma separated attributes of the sessions to be returned. The id of a session is always returned.\nThe attributes which are not returned are omitted from the sessions, while the sessions of a request\nwithout attributes or excludedAttributes return the attributes without a value as null.\nCannot be used with excludedAttributes.\n\n_Example, attributes=loginTime,lastAccessTime_\n") @QueryParam("attributes") String attributes,
+                                @ApiParam(value = "Comma separated attributes of the sessions not to be returned, which are omitted from the sessions.\nCannot be used with attributes.\n\n_Example, excludedAttributes=applications_\n") @QueryParam("excludedAttributes") String excludedAttributes) {
 
-        return delegate.getSessions(filter, limit, since, until);
+        return delegate.getSessions(filter, limit, since, until, before, after, attributes, excludedAttributes);
+    }
+
+    @Valid
+    @GET
+    @Produces({"application/x-ndjson;qs=0.5"})
+    @ApiOperation(value = "Export all active sessions",
+            notes = "Exports the active sessions on the system which match the filter as newline delimited JSON, one session per line, most recent first. The sessions are streamed in a single response without pagination. If the export fails after it started, it ends with a line holding the error under the error field. <br> <b>Permission required:</b> <br> * /permission/admin/manage/identity/authentication/session/view <br> <b>Scope required:</b> <br> * internal_session_view",
+            response = SessionDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully exported the sessions."),
+            @ApiResponse(code = 400, message = "Invalid input request"),
+            @ApiResponse(code = 401, message = "Unauthorized"),
+            @ApiResponse(code = 403, message = "Resource Forbidden"),
+            @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response exportSessions(@ApiParam(value = "Condition to filter the retrieval of records.\nThe filter parameter must contain at least one valid expression (for multiple expressions they must be combined using the 'and' logical operator).\nEach expression must contain an attribute name followed by an attribute operator and a value (attribute names, operators and values used in filters are case insensitive).\n\nThe operators supported in the expression are listed next\n| Operator | Description | Behavior |\n|----------|-------------|----------|\n| eq | equal | The attribute and operator values must be identical for a match. |\n| sw | starts with | The entire operator value must be a substring of the attribute value, starting at the beginning of the attribute value. |\n| ew | ends with | The entire operator value must be a substring of the attribute value, matching at the end of the attribute value. |\n| co | contains | The entire operator value must be a substring of the attribute value for a match. |\n| le | less than or equal to | If the attribute value is less than or equal to the operator value, there is a match. |\n| ge | greater than or equal to | If the attribute value is greater than or equal to the operator value, there is a match. |\n\nThe attributes supported in the expression are listed next\n| Name | Operators | Description |\n|------|-----------|-------------|\n| loginId | eq, sw, ew, co | Filter results by the login identifier of the user who owns the session. |\n| sessionId | eq, sw, ew, co | Filter results by the ID of the session. |\n| appName | eq, sw, ew, co | Filter results by the name of the application related to the session. |\n| ipAddress | eq | Filter results by the IP address of the session. |\n| userAgent | eq, sw, ew, co | Filter results by the user agent of the session. |\n| loginTime | le, ge | Filter results by the login time of the session. |\n| lastAccessTime | le, ge | Filter results by the last access time of the session. |\n\n_Example, filter=loginId eq john and userAgent co Chrome_\n") @QueryParam("filter") String filter,
+                                   @ApiParam(value = "Comma separated attributes of the sessions to be returned. The id of a session is always returned.\nThe attributes which are not returned are omitted from the sessions, while the sessions of a request\nwithout attributes or excludedAttributes return the attributes without a value as null.\nCannot be used with excludedAttributes.\n\n_Example, attributes=loginTime,lastAccessTime_\n") @QueryParam("attributes") String attributes,
+                                   @ApiParam(value = "Comma separated attributes of the sessions not to be returned, which are omitted from the sessions.\nCannot be used with attributes.\n\n_Example, excludedAttributes=applications_\n") @QueryParam("excludedAttributes") String excludedAttributes) {
+
+        return delegate.exportSessions(filter, attributes, excludedAttributes);
+    }
+
+    @Valid
+    @GET
+    @Path("/aggregate")
+    @Produces({"application/json"})
+    @ApiOperation(value = "Count active sessions grouped by an attribute",
+            notes = "Counts the active sessions on the system which match the filter, grouped by the application, the IP address or the user agent. Only the groups with the most sessions are returned. A session with many applications is counted once for each application. Up to 1000 distinct values are counted, and the sessions of the further values are counted under the OTHER group. If more than 100000 sessions match the filter, or if counting them takes longer than 30 seconds, the request is rejected with 503 and the filter should be narrowed down. <br> <b>Permission required:</b> <br> * /permission/admin/manage/identity/authentication/session/view <br> <b>Scope required:</b> <br> * internal_session_view",
+            response = SessionAggregationDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully counted the sessions."),
+            @ApiResponse(code = 400, message = "Invalid input request"),
+            @ApiResponse(code = 401, message = "Unauthorized"),
+            @ApiResponse(code = 403, message = "Resource Forbidden"),
+            @ApiResponse(code = 500, message = "Internal Server Error"),
+            @ApiResponse(code = 503, message = "Service Unavailable")})
+    public Response getSessionAggregation(@ApiParam(value = "Attribute to group the sessions by. One of appName, ipAddress or userAgent.", required = true) @QueryParam("groupBy") String groupBy,
+                                          @ApiParam(value = "Condition to filter the retrieval of records.\nThe filter parameter must contain at least one valid expression (for multiple expressions they must be combined using the 'and' logical operator).\nEach expression must contain an attribute name followed by an attribute operator and a value (attribute names, operators and values used in filters are case insensitive).\n\nThe operators supported in the expression are listed next\n| Operator | Description | Behavior |\n|----------|-------------|----------|\n| eq | equal | The attribute and operator values must be identical for a match. |\n| sw | starts with | The entire operator value must be a substring of the attribute value, starting at the beginning of the attribute value. |\n| ew | ends with | The entire operator value must be a substring of the attribute value, matching at the end of the attribute value. |\n| co | contains | The entire operator value must be a substring of the attribute value for a match. |\n| le | less than or equal to | If the attribute value is less than or equal to the operator value, there is a match. |\n| ge | greater than or equal to | If the attribute value is greater than or equal to the operator value, there is a match. |\n\nThe attributes supported in the expression are listed next\n| Name | Operators | Description |\n|------|-----------|-------------|\n| loginId | eq, sw, ew, co | Filter results by the login identifier of the user who owns the session. |\n| sessionId | eq, sw, ew, co | Filter results by the ID of the session. |\n| appName | eq, sw, ew, co | Filter results by the name of the application related to the session. |\n| ipAddress | eq | Filter results by the IP address of the session. |\n| userAgent | eq, sw, ew, co | Filter results by the user agent of the session. |\n| loginTime | le, ge | Filter results by the login time of the session. |\n| lastAccessTime | le, ge | Filter results by the last access time of the session. |\n\n_Example, filter=loginId eq john and userAgent co Chrome_\n") @QueryParam("filter") String filter,
+                                          @ApiParam(value = "Maximum number of groups to return.\n_Default value: 20_\n") @QueryParam("limit") Integer limit) {
+
+        return delegate.getSessionAggregation(groupBy, filter, limit);
+    }
+
+    @Valid
+    @POST
+    @Path("/terminations")
+    @Consumes({"application/json"})
+    @Produces({"application/json"})
+    @ApiOperation(value = "Terminate all active sessions matching a filter or of a list of users",
+            notes = "Starts a job to terminate either all the active sessions on the system which match the filter, or all the active sessions of the given users. The progress of the job can be retrieved from the location of the response. <br> <b>Permission required:</b> <br> * /permission/admin/manage/identity/authentication/session/delete <br> <b>Scope required:</b> <br> * internal_session_delete",
+            response = SessionTerminationJobDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "Session termination job accepted."),
+            @ApiResponse(code = 400, message = "Invalid input request"),
+            @ApiResponse(code = 401, message = "Unauthorized"),
+            @ApiResponse(code = 403, message = "Resource Forbidden"),
+            @ApiResponse(code = 500, message = "Internal Server Error"),
+            @ApiResponse(code = 503, message = "Service Unavailable")})
+    public Response createSessionTerminationJob(@ApiParam(value = "Condition or users to select the sessions to be terminated.", required = true) @Valid SessionTerminationRequestDTO body) {
+
+        return delegate.createSessionTerminationJob(body);
+    }
+
+    @Valid
+    @GET
+    @Path("/terminations/{job-id}")
+    @Produces({"application/json"})
+    @ApiOperation(value = "Retrieve a session termination job",
+            notes = "Retrieves the progress and the result counts of a session termination job. The jobs are kept in the memory of the node which accepted them, hence the status of a job is only available on that node, and only until a while after the job ends. <br> <b>Permission required:</b> <br> * /permission/admin/manage/identity/authentication/session/delete <br> <b>Scope required:</b> <br> * internal_session_delete",
+            response = SessionTerminationJobDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully retrieved the session termination job."),
+            @ApiResponse(code = 401, message = "Unauthorized"),
+            @ApiResponse(code = 403, message = "Resource Forbidden"),
+            @ApiResponse(code = 404, message = "Resource Not Found"),
+            @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response getSessionTerminationJob(@ApiParam(value = "ID of the session termination job.", required = true) @PathParam("job-id") String jobId) {
+
+        return delegate.getSessionTerminationJob(jobId);
     }
 
 }
@@ -16,10 +16,21 @@
 
 package org.wso2.carbon.identity.rest.api.user.session.v1;
 
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionTerminationRequestDTO;
+
 import javax.ws.rs.core.Response;
 
 public abstract class SessionsApiService {
 
-    public abstract Response getSessions(String filter, Integer limit, Long since, Long until);
+    public abstract Response getSessions(String filter, Integer limit, Long since, Long until, String before,
+                                         String after, String attributes, String excludedAttributes);
+
+    public abstract Response exportSessions(String filter, String attributes, String excludedAttributes);
+
+    public abstract Response getSessionAggregation(String groupBy, String filter, Integer limit);
+
+    public abstract Response createSessionTerminationJob(SessionTerminationRequestDTO body);
+
+    public abstract Response getSessionTerminationJob(String jobId);
 
 }
@@ -81,12 +81,14 @@ public class UserIdApi {
             @ApiResponse(code = 404, message = "Resource Not Found"),
             @ApiResponse(code = 500, message = "Internal Server Error")})
     public Response getSessionsByUserId(@ApiParam(value = "ID of the user.", required = true) @PathParam("user-id") String userId,
-                                        @ApiParam(value = "Maximum number of records to return.\n_This parameter is not supported yet._\n") @QueryParam("limit") Integer limit,
-                                        @ApiParam(value = "Number of records to skip for pagination.\n_This parameter is not supported yet._\n") @QueryParam("offset") Integer offset,
-                                        @ApiParam(value = "Condition to filter the retrieval of records.\n_This parameter is not supported yet._\n") @QueryParam("filter") String filter,
-                                        @ApiParam(value = "Define the order in which the retrieved records should be sorted.\n_This parameter is not supported yet._\n") @QueryParam("sort") String sort) {
-
-        return delegate.getSessionsByUserId(userId, limit, offset, filter, sort);
+                                        @ApiParam(value = "Maximum number of records to return.\n_If not specified, all the remaining records are returned._\n") @QueryParam("limit") Integer limit,
+                                        @ApiParam(value = "Number of records to skip for pagination.\n") @QueryParam("offset") Integer offset,
+                                        @ApiParam(value = "Condition to filter the retrieval of records.\nThe filter parameter must contain at least one valid expression (for multiple expressions they must be combined using the 'and' logical operator).\nEach expression must contain an attribute name followed by an attribute operator and a value (attribute names, operators and values used in filters are case insensitive).\n\nThe operators supported in the expression are listed next\n| Operator | Description | Behavior |\n|----------|-------------|----------|\n| eq | equal | The attribute and operator values must be identical for a match. |\n| sw | starts with | The entire operator value must be a substring of the attribute value, starting at the beginning of the attribute value. |\n| ew | ends with | The entire operator value must be a substring of the attribute value, matching at the end of the attribute value. |\n| co | contains | The entire operator value must be a substring of the attribute value for a match. |\n| le | less than or equal to | If the attribute value is less than or equal to the operator value, there is a match. |\n| ge | greater than or equal to | If the attribute value is greater than or equal to the operator value, there is a match. |\n\nThe attributes supported in the expression are listed next\n| Name | Operators | Description |\n|------|-----------|-------------|\n| loginId | eq, sw, ew, co | Filter results by the login identifier of the user who owns the session. |\n| sessionId | eq, sw, ew, co | Filter results by the ID of the session. |\n| appName | eq, sw, ew, co | Filter results by the name of the application related to the session. |\n| ipAddress | eq | Filter results by the IP address of the session. |\n| userAgent | eq, sw, ew, co | Filter results by the user agent of the session. |\n| loginTime | le, ge | Filter results by the login time of the session. |\n| lastAccessTime | le, ge | Filter results by the last access time of the session. |\n\n_Example, filter=loginId eq john and userAgent co Chrome_\n") @QueryParam("filter") String filter,
+                                        @ApiParam(value = "Define the order in which the retrieved records should be sorted.\nThe records can be sorted by loginTime or lastAccessTime, optionally followed by the asc (default) or desc order.\n\n_Example, sort=lastAccessTime desc_\n") @QueryParam("sort") String sort,
+                                        @ApiParam(value = "Comma separated attributes of the sessions to be returned. The id of a session is always returned.\nThe attributes which are not returned are omitted from the sessions, while the sessions of a request\nwithout attributes or excludedAttributes return the attributes without a value as null.\nCannot be used with excludedAttributes.\n\n_Example, attributes=loginTime,lastAccessTime_\n") @QueryParam("attributes") String attributes,
+                                        @ApiParam(value = "Comma separated attributes of the sessions not to be returned, which are omitted from the sessions.\nCannot be used with attributes.\n\n_Example, excludedAttributes=applications_\n") @QueryParam("excludedAttributes") String excludedAttributes) {
+
+        return delegate.getSessionsByUserId(userId, limit, offset, filter, sort, attributes, excludedAttributes);
     }
 
     @Valid
@@ -22,7 +22,8 @@ public abstract class UserIdApiService {
 
     public abstract Response getSessionBySessionId(String userId, String sessionId);
 
-    public abstract Response getSessionsByUserId(String userId, Integer limit, Integer offset, String filter, String sort);
+    public abstract Response getSessionsByUserId(String userId, Integer limit, Integer offset, String filter, String sort,
+                                                 String attributes, String excludedAttributes);
 
     public abstract Response terminateSessionBySessionId(String userId, String sessionId);
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+
+@ApiModel(description = "")
+public class SessionAggregationDTO {
+
+    @Valid
+    private String groupBy = null;
+
+    @Valid
+    private Long totalSessions = null;
+
+    @Valid
+    private List<SessionGroupDTO> groups = new ArrayList<>();
+
+    /**
+     * Attribute the sessions are grouped by.
+     **/
+    @ApiModelProperty(value = "Attribute the sessions are grouped by.")
+    @JsonProperty("groupBy")
+    public String getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(String groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    /**
+     * Number of active sessions matching the filter.
+     **/
+    @ApiModelProperty(value = "Number of active sessions matching the filter.")
+    @JsonProperty("totalSessions")
+    public Long getTotalSessions() {
+        return totalSessions;
+    }
+
+    public void setTotalSessions(Long totalSessions) {
+        this.totalSessions = totalSessions;
+    }
+
+    /**
+     * Groups with the most sessions, in the descending order of the count.
+     **/
+    @ApiModelProperty(value = "Groups with the most sessions, in the descending order of the count.")
+    @JsonProperty("groups")
+    public List<SessionGroupDTO> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<SessionGroupDTO> groups) {
+        this.groups = groups;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class SessionAggregationDTO {\n");
+
+        sb.append("    groupBy: ").append(groupBy).append("\n");
+        sb.append("    totalSessions: ").append(totalSessions).append("\n");
+        sb.append("    groups: ").append(groups).append("\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import javax.validation.Valid;
+
+@ApiModel(description = "")
+public class SessionChangeDTO {
+
+    public enum TypeEnum {
+        SESSION_TERMINATED
+    };
+
+    @Valid
+    private TypeEnum type = null;
+
+    @Valid
+    private String sessionId = null;
+
+    /**
+     * Type of the change.
+     **/
+    @ApiModelProperty(value = "Type of the change.")
+    @JsonProperty("type")
+    public TypeEnum getType() {
+        return type;
+    }
+
+    public void setType(TypeEnum type) {
+        this.type = type;
+    }
+
+    /**
+     * ID of the changed session.
+     **/
+    @ApiModelProperty(value = "ID of the changed session.")
+    @JsonProperty("sessionId")
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class SessionChangeDTO {\n");
+
+        sb.append("    type: ").append(type).append("\n");
+        sb.append("    sessionId: ").append(sessionId).append("\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
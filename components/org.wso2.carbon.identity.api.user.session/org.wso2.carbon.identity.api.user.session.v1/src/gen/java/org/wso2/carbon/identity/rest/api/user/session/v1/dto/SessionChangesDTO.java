@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+
+@ApiModel(description = "")
+public class SessionChangesDTO {
+
+    @Valid
+    private String cursor = null;
+
+    @Valid
+    private Boolean reset = null;
+
+    @Valid
+    private List<SessionChangeDTO> changes = new ArrayList<>();
+
+    /**
+     * Cursor to read the next changes with.
+     **/
+    @ApiModelProperty(value = "Cursor to read the next changes with.")
+    @JsonProperty("cursor")
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Whether the changes after the given cursor are no longer available, in which case the sessions should be
+     * reloaded.
+     **/
+    @ApiModelProperty(value = "Whether the changes after the given cursor are no longer available, in which case the sessions should be reloaded.")
+    @JsonProperty("reset")
+    public Boolean getReset() {
+        return reset;
+    }
+
+    public void setReset(Boolean reset) {
+        this.reset = reset;
+    }
+
+    /**
+     * Changes of the sessions after the given cursor, in the order they were recorded.
+     **/
+    @ApiModelProperty(value = "Changes of the sessions after the given cursor, in the order they were recorded.")
+    @JsonProperty("changes")
+    public List<SessionChangeDTO> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<SessionChangeDTO> changes) {
+        this.changes = changes;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class SessionChangesDTO {\n");
+
+        sb.append("    cursor: ").append(cursor).append("\n");
+        sb.append("    reset: ").append(reset).append("\n");
+        sb.append("    changes: ").append(changes).append("\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
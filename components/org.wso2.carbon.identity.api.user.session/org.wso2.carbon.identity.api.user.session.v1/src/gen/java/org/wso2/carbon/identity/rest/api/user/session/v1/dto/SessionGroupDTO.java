@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import javax.validation.Valid;
+
+@ApiModel(description = "")
+public class SessionGroupDTO {
+
+    @Valid
+    private String value = null;
+
+    @Valid
+    private Long count = null;
+
+    /**
+     * Value of the grouped attribute.
+     **/
+    @ApiModelProperty(value = "Value of the grouped attribute.")
+    @JsonProperty("value")
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Number of active sessions with the value.
+     **/
+    @ApiModelProperty(value = "Number of active sessions with the value.")
+    @JsonProperty("count")
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class SessionGroupDTO {\n");
+
+        sb.append("    value: ").append(value).append("\n");
+        sb.append("    count: ").append(count).append("\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+
+@ApiModel(description = "")
+public class SessionTerminationJobDTO {
+
+    public enum StatusEnum {
+        QUEUED, IN_PROGRESS, COMPLETED, FAILED
+    };
+
+    @Valid
+    private String id = null;
+
+    @Valid
+    private StatusEnum status = null;
+
+    @Valid
+    private String filter = null;
+
+    @Valid
+    private Long matchedSessions = null;
+
+    @Valid
+    private Long terminatedSessions = null;
+
+    @Valid
+    private Long failedSessions = null;
+
+    @Valid
+    private List<UserSessionTerminationResultDTO> results = new ArrayList<>();
+
+    @Valid
+    private Long createdTime = null;
+
+    @Valid
+    private Long completedTime = null;
+
+    /**
+     * ID of the job.
+     **/
+    @ApiModelProperty(value = "ID of the job.")
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Status of the job.
+     **/
+    @ApiModelProperty(value = "Status of the job.")
+    @JsonProperty("status")
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+     * Condition used to select the sessions to be terminated.
+     **/
+    @ApiModelProperty(value = "Condition used to select the sessions to be terminated.")
+    @JsonProperty("filter")
+    public String getFilter() {
+        return filter;
+    }
+
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Number of sessions matched so far, if the job terminates the sessions matching a filter.
+     **/
+    @ApiModelProperty(value = "Number of sessions matched so far, if the job terminates the sessions matching a filter.")
+    @JsonProperty("matchedSessions")
+    public Long getMatchedSessions() {
+        return matchedSessions;
+    }
+
+    public void setMatchedSessions(Long matchedSessions) {
+        this.matchedSessions = matchedSessions;
+    }
+
+    /**
+     * Number of sessions terminated so far, if the job terminates the sessions matching a filter.
+     **/
+    @ApiModelProperty(value = "Number of sessions terminated so far, if the job terminates the sessions matching a filter.")
+    @JsonProperty("terminatedSessions")
+    public Long getTerminatedSessions() {
+        return terminatedSessions;
+    }
+
+    public void setTerminatedSessions(Long terminatedSessions) {
+        this.terminatedSessions = terminatedSessions;
+    }
+
+    /**
+     * Number of sessions which could not be terminated, if the job terminates the sessions matching a filter.
+     **/
+    @ApiModelProperty(value = "Number of sessions which could not be terminated, if the job terminates the sessions matching a filter.")
+    @JsonProperty("failedSessions")
+    public Long getFailedSessions() {
+        return failedSessions;
+    }
+
+    public void setFailedSessions(Long failedSessions) {
+        this.failedSessions = failedSessions;
+    }
+
+    /**
+     * Results of the users processed so far, if the job terminates the sessions of a list of users.
+     **/
+    @ApiModelProperty(value = "Results of the users processed so far, if the job terminates the sessions of a list of users.")
+    @JsonProperty("results")
+    public List<UserSessionTerminationResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<UserSessionTerminationResultDTO> results) {
+        this.results = results;
+    }
+
+    /**
+     * Time the job was created at, in epoch milliseconds.
+     **/
+    @ApiModelProperty(value = "Time the job was created at, in epoch milliseconds.")
+    @JsonProperty("createdTime")
+    public Long getCreatedTime() {
+        return createdTime;
+    }
+
+    public void setCreatedTime(Long createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+     * Time the job completed or failed at, in epoch milliseconds. Not set while the job is running.
+     **/
+    @ApiModelProperty(value = "Time the job completed or failed at, in epoch milliseconds. Not set while the job is running.")
+    @JsonProperty("completedTime")
+    public Long getCompletedTime() {
+        return completedTime;
+    }
+
+    public void setCompletedTime(Long completedTime) {
+        this.completedTime = completedTime;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class SessionTerminationJobDTO {\n");
+
+        sb.append("    id: ").append(id).append("\n");
+        sb.append("    status: ").append(status).append("\n");
+        sb.append("    filter: ").append(filter).append("\n");
+        sb.append("    matchedSessions: ").append(matchedSessions).append("\n");
+        sb.append("    terminatedSessions: ").append(terminatedSessions).append("\n");
+        sb.append("    failedSessions: ").append(failedSessions).append("\n");
+        sb.append("    results: ").append(results).append("\n");
+        sb.append("    createdTime: ").append(createdTime).append("\n");
+        sb.append("    completedTime: ").append(completedTime).append("\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
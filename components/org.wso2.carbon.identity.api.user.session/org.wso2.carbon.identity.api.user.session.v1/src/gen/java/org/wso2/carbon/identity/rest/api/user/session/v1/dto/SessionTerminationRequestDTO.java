@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+
+@ApiModel(description = "")
+public class SessionTerminationRequestDTO {
+
+    @Valid
+    private String filter = null;
+
+    @Valid
+    private List<String> userIds = new ArrayList<>();
+
+    /**
+     * Condition to select the sessions to be terminated, in the filter grammar of the session search. Cannot be used with userIds.
+     **/
+    @ApiModelProperty(value = "Condition to select the sessions to be terminated, in the filter grammar of the session search. Cannot be used with userIds.")
+    @JsonProperty("filter")
+    public String getFilter() {
+        return filter;
+    }
+
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * IDs of the users whose sessions are to be terminated. Cannot be used with filter.
+     **/
+    @ApiModelProperty(value = "IDs of the users whose sessions are to be terminated. Cannot be used with filter.")
+    @JsonProperty("userIds")
+    public List<String> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<String> userIds) {
+        this.userIds = userIds;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class SessionTerminationRequestDTO {\n");
+
+        sb.append("    filter: ").append(filter).append("\n");
+        sb.append("    userIds: ").append(userIds).append("\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
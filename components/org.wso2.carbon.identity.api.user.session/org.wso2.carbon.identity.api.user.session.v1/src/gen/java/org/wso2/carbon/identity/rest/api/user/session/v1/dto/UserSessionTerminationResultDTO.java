@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import javax.validation.Valid;
+
+@ApiModel(description = "")
+public class UserSessionTerminationResultDTO {
+
+    public enum StatusEnum {
+        TERMINATED, NOT_FOUND, FORBIDDEN, FAILED
+    };
+
+    @Valid
+    private String userId = null;
+
+    @Valid
+    private StatusEnum status = null;
+
+    /**
+     * ID of the user.
+     **/
+    @ApiModelProperty(value = "ID of the user.")
+    @JsonProperty("userId")
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Result of terminating the sessions of the user.
+     **/
+    @ApiModelProperty(value = "Result of terminating the sessions of the user.")
+    @JsonProperty("status")
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class UserSessionTerminationResultDTO {\n");
+
+        sb.append("    userId: ").append(userId).append("\n");
+        sb.append("    status: ").append(status).append("\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.wso2.carbon.identity.api.user.common.cache.UserApiCache;
+import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
+import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
+
+/**
+ * Resolves the unique ids of the federated users from the session store, with a per tenant cache of the identity
+ * provider ids and a short lived cache of the federated user ids, so that the sessions of a federated user are
+ * listed and terminated without two extra queries per request.
+ * <p>
+ * Identity provider updates are not notified to the user APIs. Hence, when a federated user cannot be found with a
+ * cached identity provider id, the id is resolved again, as the identity provider may have been deleted and added
+ * again with a new id. A federated user id is only cached for a short time, as it is keyed by the identity provider
+ * id which it was found with.
+ */
+public class FederatedUserResolver {
+
+    public static final String IDP_ID_CACHE_NAME = "UserAPIIdPIdCache";
+    public static final String FEDERATED_USER_ID_CACHE_NAME = "UserAPIFederatedUserIdCache";
+
+    private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
+    private static final int DEFAULT_IDP_ID_CAPACITY = 1000;
+    private static final long DEFAULT_IDP_ID_TIMEOUT = 900;
+    private static final int DEFAULT_FEDERATED_USER_ID_CAPACITY = 10000;
+    private static final long DEFAULT_FEDERATED_USER_ID_TIMEOUT = 60;
+    private static final int INVALID_IDP_ID = -1;
+    private static final String KEY_SEPARATOR = ":";
+
+    private static final FederatedUserResolver instance = new FederatedUserResolver();
+
+    private final UserSessionStore userSessionStore;
+    private final UserApiCache<String, Integer> idpIds;
+    private final UserApiCache<String, String> federatedUserIds;
+
+    private FederatedUserResolver() {
+
+        this(UserSessionStore.getInstance(),
+                new UserApiCache<>(IDP_ID_CACHE_NAME, DEFAULT_IDP_ID_CAPACITY, DEFAULT_IDP_ID_TIMEOUT),
+                new UserApiCache<>(FEDERATED_USER_ID_CACHE_NAME, DEFAULT_FEDERATED_USER_ID_CAPACITY,
+                        DEFAULT_FEDERATED_USER_ID_TIMEOUT));
+    }
+
+    FederatedUserResolver(UserSessionStore userSessionStore, UserApiCache<String, Integer> idpIds,
+                          UserApiCache<String, String> federatedUserIds) {
+
+        this.userSessionStore = userSessionStore;
+        this.idpIds = idpIds;
+        this.federatedUserIds = federatedUserIds;
+    }
+
+    public static FederatedUserResolver getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the unique id of a federated user.
+     *
+     * @param username Username of the federated user.
+     * @param tenantId Tenant id.
+     * @param idpName  Name of the identity provider the user is federated from.
+     * @return Unique id of the user or null if the user is not found.
+     * @throws UserSessionException If an error occurs while reading the session store.
+     */
+    public String getUserId(String username, int tenantId, String idpName) throws UserSessionException {
+
+        String idpKey = buildIdPKey(tenantId, idpName);
+        Integer cachedIdPId = idpIds.getValueFromCache(idpKey);
+        int idpId = cachedIdPId != null ? cachedIdPId : resolveIdPId(idpKey, idpName, tenantId);
+
+        String userKey = buildUserKey(tenantId, idpId, username);
+        String userId = federatedUserIds.getValueFromCache(userKey);
+        if (userId != null) {
+            return userId;
+        }
+        userId = userSessionStore.getUserId(username, tenantId, FEDERATED_USER_DOMAIN, idpId);
+        if (userId == null && cachedIdPId != null) {
+            idpIds.clearCacheEntry(idpKey);
+            int currentIdPId = resolveIdPId(idpKey, idpName, tenantId);
+            if (currentIdPId != idpId) {
+                userKey = buildUserKey(tenantId, currentIdPId, username);
+                userId = userSessionStore.getUserId(username, tenantId, FEDERATED_USER_DOMAIN, currentIdPId);
+            }
+        }
+        if (userId != null) {
+            federatedUserIds.addToCache(userKey, userId);
+        }
+        return userId;
+    }
+
+    private int resolveIdPId(String idpKey, String idpName, int tenantId) throws UserSessionException {
+
+        int idpId = userSessionStore.getIdPId(idpName, tenantId);
+        if (idpId != INVALID_IDP_ID) {
+            idpIds.addToCache(idpKey, idpId);
+        }
+        return idpId;
+    }
+
+    private static String buildIdPKey(int tenantId, String idpName) {
+
+        return tenantId + KEY_SEPARATOR + idpName;
+    }
+
+    private static String buildUserKey(int tenantId, int idpId, String username) {
+
+        return tenantId + KEY_SEPARATOR + idpId + KEY_SEPARATOR + username;
+    }
+}
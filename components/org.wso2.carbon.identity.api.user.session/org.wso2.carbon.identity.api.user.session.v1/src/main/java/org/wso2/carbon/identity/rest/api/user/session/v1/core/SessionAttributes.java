@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_DATA;
+
+/**
+ * Attributes of a session to be returned, selected with either the attributes or the excluded attributes
+ * parameter. The projection is applied while mapping a session, so the attributes which are not returned, such as the
+ * applications of the session, are neither built nor serialized. The id of a session is always returned.
+ */
+public final class SessionAttributes {
+
+    /**
+     * Attributes of a session, by their names in the response.
+     */
+    public enum Attribute {
+        ID("id"), USER_ID("userId"), IDP_NAME("idpName"), APPLICATIONS("applications"), USER_AGENT("userAgent"),
+        IP("ip"), LOGIN_TIME("loginTime"), LAST_ACCESS_TIME("lastAccessTime");
+
+        private final String name;
+
+        Attribute(String name) {
+
+            this.name = name;
+        }
+
+        public String getName() {
+
+            return name;
+        }
+    }
+
+    /**
+     * All the attributes of a session.
+     */
+    public static final SessionAttributes ALL = new SessionAttributes(EnumSet.allOf(Attribute.class));
+
+    private static final String ATTRIBUTE_SEPARATOR = ",";
+
+    private final Set<Attribute> attributes;
+
+    private SessionAttributes(Set<Attribute> attributes) {
+
+        this.attributes = Collections.unmodifiableSet(attributes);
+    }
+
+    /**
+     * Get the attributes to be returned from the comma separated attributes or excluded attributes.
+     *
+     * @param attributes         Attributes to be returned (optional).
+     * @param excludedAttributes Attributes not to be returned (optional).
+     * @return Attributes to be returned.
+     * @throws SessionManagementClientException If both are given or an attribute is not known.
+     */
+    public static SessionAttributes compile(String attributes, String excludedAttributes)
+            throws SessionManagementClientException {
+
+        if (StringUtils.isNotBlank(attributes) && StringUtils.isNotBlank(excludedAttributes)) {
+            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    String.format(ERROR_CODE_INVALID_DATA.getDescription(),
+                            "attributes and excludedAttributes cannot be used together"));
+        }
+        if (StringUtils.isNotBlank(attributes)) {
+            Set<Attribute> included = parse(attributes);
+            included.add(Attribute.ID);
+            return new SessionAttributes(included);
+        }
+        if (StringUtils.isNotBlank(excludedAttributes)) {
+            Set<Attribute> included = EnumSet.complementOf(parse(excludedAttributes));
+            included.add(Attribute.ID);
+            return new SessionAttributes(included);
+        }
+        return ALL;
+    }
+
+    /**
+     * Whether only some of the attributes are to be returned.
+     *
+     * @return Whether an attribute is not to be returned.
+     */
+    public boolean isProjected() {
+
+        return attributes.size() < Attribute.values().length;
+    }
+
+    /**
+     * Whether the given attribute is to be returned.
+     *
+     * @param attribute Attribute.
+     * @return Whether the attribute is to be returned.
+     */
+    public boolean contains(Attribute attribute) {
+
+        return attributes.contains(attribute);
+    }
+
+    private static EnumSet<Attribute> parse(String attributes) throws SessionManagementClientException {
+
+        EnumSet<Attribute> parsed = EnumSet.noneOf(Attribute.class);
+        for (String name : attributes.split(ATTRIBUTE_SEPARATOR)) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            parsed.add(valueOf(name));
+        }
+        return parsed;
+    }
+
+    private static Attribute valueOf(String name) throws SessionManagementClientException {
+
+        String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+        for (Attribute attribute : Attribute.values()) {
+            if (attribute.name.toLowerCase(Locale.ENGLISH).equals(lowerCaseName)) {
+                return attribute;
+            }
+        }
+        throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                String.format(ERROR_CODE_INVALID_DATA.getDescription(), name + " is not a session attribute"));
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.user.common.cache.UserApiCache;
+import org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycle;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_DATA;
+
+/**
+ * Tracks the terminations of the sessions of the users, so that a client can long poll for the sessions terminated
+ * instead of reloading all the sessions periodically.
+ * <p>
+ * Only the terminations done through this API on this node are tracked, as the session store publishes no session
+ * lifecycle events to listen to. The sessions created, and the sessions terminated by logouts, expiry or other nodes
+ * are not reported, and are found only when the client reloads the sessions. Since the changes are recorded as the
+ * terminations happen, a waiting client costs no session store reads.
+ * <p>
+ * The changes of a user are kept in a bounded buffer, each numbered with a version. A client reads the changes after
+ * the version of its cursor, and waits without holding a thread if there are none. A single thread ends the waits at
+ * their timeout. A cursor which is not covered by the buffer, or which belongs to an expired or evicted tracking of
+ * the user, asks the client to reload. The termination of all the sessions of a user asks the clients of the user to
+ * reload as well, since the ids of the terminated sessions are not known.
+ */
+public class SessionChangeTracker {
+
+    public static final String CACHE_NAME = "UserAPISessionChangeCache";
+
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final long DEFAULT_TIMEOUT = 300;
+    private static final int BUFFER_SIZE = 64;
+    private static final long TICK_INTERVAL = 1;
+    private static final int MAX_WATCHED_USERS = 1000;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Log log = LogFactory.getLog(SessionChangeTracker.class);
+
+    private final UserApiCache<String, UserSessionChanges> userSessionChanges;
+    private final Set<UserSessionChanges> watchedUserSessionChanges = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SessionChangeTracker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SessionChangeTracker() {
+
+        this.userSessionChanges = new UserApiCache<>(CACHE_NAME, DEFAULT_CAPACITY, DEFAULT_TIMEOUT);
+        UserApiLifecycle.getInstance().register("Session change tracker scheduler", scheduler::shutdownNow);
+    }
+
+    /**
+     * Get the changes of the sessions of a user after the cursor. The listener is called at once if there are
+     * changes, or if no cursor is given, in which case only the current cursor is returned. Otherwise, the listener
+     * is called when a change is recorded or when the timeout elapses.
+     *
+     * @param userId   Unique id of the user.
+     * @param cursor   Cursor of the last changes read by the client (optional).
+     * @param timeout  Maximum time to wait for a change, in seconds.
+     * @param listener Receives the changes.
+     * @return Whether the client is accepted. A client which has to wait is rejected when the maximum number of users
+     * with waiting clients is reached, and the listener is not called.
+     * @throws SessionManagementClientException If the cursor is not valid.
+     */
+    public boolean watch(String userId, String cursor, int timeout, Listener listener)
+            throws SessionManagementClientException {
+
+        ByteBuffer buffer = cursor != null ? decode(cursor) : null;
+        UserSessionChanges changes = userSessionChanges.getValueFromCache(userId);
+        if (changes == null) {
+            changes = new UserSessionChanges(userId);
+        }
+        // Re-added on each request so that the changes of a user with an active client do not expire.
+        userSessionChanges.addToCache(userId, changes);
+
+        SessionChanges result;
+        synchronized (changes) {
+            if (buffer == null) {
+                result = changes.current();
+            } else {
+                long epoch = buffer.getLong();
+                long version = buffer.getLong();
+                result = epoch == changes.epoch ? changes.getChangesAfter(version) : changes.reset();
+                if (result == null) {
+                    if (changes.waiters.isEmpty() && watchedUserSessionChanges.size() >= MAX_WATCHED_USERS) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Rejected a client waiting for the session changes of the user: " + userId
+                                    + ", as the maximum number of watched users is reached.");
+                        }
+                        return false;
+                    }
+                    changes.waiters.add(new Waiter(version, System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout),
+                            listener));
+                    watchedUserSessionChanges.add(changes);
+                }
+            }
+        }
+        if (result != null) {
+            listener.onChanges(result);
+        } else if (started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(this::tick, TICK_INTERVAL, TICK_INTERVAL, TimeUnit.SECONDS);
+        }
+        return true;
+    }
+
+    /**
+     * Record the termination of a session of a user, if the changes of the user are tracked.
+     *
+     * @param userId    Unique id of the user.
+     * @param sessionId Id of the terminated session.
+     */
+    public void onSessionTerminated(String userId, String sessionId) {
+
+        UserSessionChanges changes = userSessionChanges.getValueFromCache(userId);
+        if (changes != null) {
+            synchronized (changes) {
+                changes.append(ChangeType.SESSION_TERMINATED, sessionId);
+            }
+            notifyWaiters(changes, false);
+        }
+    }
+
+    /**
+     * Record the termination of all the sessions of a user, if the changes of the user are tracked. The clients of
+     * the user are asked to reload the sessions.
+     *
+     * @param userId Unique id of the user.
+     */
+    public void onSessionsTerminated(String userId) {
+
+        UserSessionChanges changes = userSessionChanges.getValueFromCache(userId);
+        if (changes != null) {
+            synchronized (changes) {
+                changes.clear();
+            }
+            notifyWaiters(changes, false);
+        }
+    }
+
+    private void tick() {
+
+        for (UserSessionChanges changes : watchedUserSessionChanges) {
+            notifyWaiters(changes, true);
+        }
+    }
+
+    private void notifyWaiters(UserSessionChanges changes, boolean expire) {
+
+        Map<Listener, SessionChanges> results = new HashMap<>();
+        synchronized (changes) {
+            long now = System.nanoTime();
+            Iterator<Waiter> iterator = changes.waiters.iterator();
+            while (iterator.hasNext()) {
+                Waiter waiter = iterator.next();
+                SessionChanges result = changes.getChangesAfter(waiter.version);
+                if (result == null && expire && now - waiter.deadline >= 0) {
+                    result = changes.current();
+                }
+                if (result != null) {
+                    results.put(waiter.listener, result);
+                    iterator.remove();
+                }
+            }
+            if (changes.waiters.isEmpty()) {
+                watchedUserSessionChanges.remove(changes);
+            }
+        }
+        for (Map.Entry<Listener, SessionChanges> result : results.entrySet()) {
+            try {
+                result.getKey().onChanges(result.getValue());
+            } catch (RuntimeException e) {
+                log.error("Error occurred while sending the session changes of the user: " + changes.userId, e);
+            }
+        }
+    }
+
+    private static ByteBuffer decode(String cursor) throws SessionManagementClientException {
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(cursor));
+            if (buffer.remaining() != 2 * Long.BYTES) {
+                throw new BufferUnderflowException();
+            }
+            return buffer;
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    String.format(ERROR_CODE_INVALID_DATA.getDescription(), cursor + " is not a valid cursor"));
+        }
+    }
+
+    private static String encode(long epoch, long version) {
+
+        return ENCODER.encodeToString(ByteBuffer.allocate(2 * Long.BYTES).putLong(epoch).putLong(version).array());
+    }
+
+    /**
+     * Receives the changes of the sessions of a user.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        void onChanges(SessionChanges changes);
+    }
+
+    /**
+     * Type of a session change.
+     */
+    public enum ChangeType {
+        SESSION_TERMINATED
+    }
+
+    /**
+     * Change of a session of a user.
+     */
+    public static final class SessionChange {
+
+        private final ChangeType type;
+        private final String sessionId;
+        private final long version;
+
+        private SessionChange(ChangeType type, String sessionId, long version) {
+
+            this.type = type;
+            this.sessionId = sessionId;
+            this.version = version;
+        }
+
+        public ChangeType getType() {
+
+            return type;
+        }
+
+        public String getSessionId() {
+
+            return sessionId;
+        }
+    }
+
+    /**
+     * Changes of the sessions of a user after a cursor.
+     */
+    public static final class SessionChanges {
+
+        private final String cursor;
+        private final boolean reset;
+        private final List<SessionChange> changes;
+
+        private SessionChanges(String cursor, boolean reset, List<SessionChange> changes) {
+
+            this.cursor = cursor;
+            this.reset = reset;
+            this.changes = changes;
+        }
+
+        /**
+         * Get the cursor to read the next changes with.
+         *
+         * @return Cursor.
+         */
+        public String getCursor() {
+
+            return cursor;
+        }
+
+        /**
+         * Whether the changes after the given cursor are no longer known, and the client should reload the sessions.
+         *
+         * @return Whether the client should reload the sessions.
+         */
+        public boolean isReset() {
+
+            return reset;
+        }
+
+        public List<SessionChange> getChanges() {
+
+            return changes;
+        }
+    }
+
+    /**
+     * Latest changes of the sessions of a user. Guarded by its own monitor.
+     */
+    private static final class UserSessionChanges {
+
+        private final long epoch = RANDOM.nextLong();
+        private final String userId;
+        private final ArrayDeque<SessionChange> buffer = new ArrayDeque<>(BUFFER_SIZE);
+        private final List<Waiter> waiters = new ArrayList<>();
+        private long version;
+
+        private UserSessionChanges(String userId) {
+
+            this.userId = userId;
+        }
+
+        /**
+         * Get the changes after the given version.
+         *
+         * @return Changes, a reset if the version is not covered by the buffer, or null if there are no changes yet.
+         */
+        private SessionChanges getChangesAfter(long after) {
+
+            if (after == version) {
+                return null;
+            }
+            if (after > version || buffer.isEmpty() || buffer.peekFirst().version > after + 1) {
+                return reset();
+            }
+            List<SessionChange> changes = new ArrayList<>();
+            for (SessionChange change : buffer) {
+                if (change.version > after) {
+                    changes.add(change);
+                }
+            }
+            return new SessionChanges(encode(epoch, version), false, changes);
+        }
+
+        private SessionChanges current() {
+
+            return new SessionChanges(encode(epoch, version), false, Collections.emptyList());
+        }
+
+        private SessionChanges reset() {
+
+            return new SessionChanges(encode(epoch, version), true, Collections.emptyList());
+        }
+
+        private void append(ChangeType type, String sessionId) {
+
+            if (buffer.size() == BUFFER_SIZE) {
+                buffer.removeFirst();
+            }
+            buffer.addLast(new SessionChange(type, sessionId, ++version));
+        }
+
+        /**
+         * Drop the buffered changes with a new version, so that the clients at an earlier version are reset.
+         */
+        private void clear() {
+
+            buffer.clear();
+            version++;
+        }
+    }
+
+    /**
+     * Client waiting for the changes after a version.
+     */
+    private static final class Waiter {
+
+        private final long version;
+        private final long deadline;
+        private final Listener listener;
+
+        private Waiter(long version, long deadline, Listener listener) {
+
+            this.version = version;
+            this.deadline = deadline;
+            this.listener = listener;
+        }
+    }
+}
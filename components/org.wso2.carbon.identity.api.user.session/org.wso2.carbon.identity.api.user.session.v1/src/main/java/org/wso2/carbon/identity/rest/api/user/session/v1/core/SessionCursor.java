@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_DATA;
+
+/**
+ * Position of a session in the session search results, which are ordered by the creation time and then by the
+ * session id. Since the session id breaks the ties between the sessions with the same creation time, a page
+ * starting after a cursor neither skips nor repeats a session.
+ * <p>
+ * A cursor is encoded as an opaque, URL safe string of the creation time and the session id. Session ids in lower
+ * case hex are packed into bytes to keep the page links short. A cursor without a session id points to the boundary
+ * of a creation time, which is used for the legacy since and until parameters.
+ */
+public final class SessionCursor {
+
+    /**
+     * Ascending order of the session search results.
+     */
+    public static final Comparator<UserSession> ORDER = Comparator
+            .comparingLong(SessionCursor::creationTimeOf)
+            .thenComparing(SessionCursor::sessionIdOf);
+
+    private static final byte TEXT_SESSION_ID = 0;
+    private static final byte HEX_SESSION_ID = 1;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long creationTime;
+    private final String sessionId;
+
+    private SessionCursor(long creationTime, String sessionId) {
+
+        this.creationTime = creationTime;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Get the cursor pointing to the given session.
+     *
+     * @param userSession Session.
+     * @return Cursor.
+     */
+    public static SessionCursor of(UserSession userSession) {
+
+        return new SessionCursor(creationTimeOf(userSession), sessionIdOf(userSession));
+    }
+
+    /**
+     * Get the cursor pointing to the boundary of the given creation time.
+     *
+     * @param creationTime Creation time as kept in the session store.
+     * @return Cursor.
+     */
+    public static SessionCursor of(long creationTime) {
+
+        return new SessionCursor(creationTime, null);
+    }
+
+    /**
+     * Decode a cursor.
+     *
+     * @param cursor Encoded cursor.
+     * @return Cursor.
+     * @throws SessionManagementClientException If the cursor is not valid.
+     */
+    public static SessionCursor decode(String cursor) throws SessionManagementClientException {
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(cursor));
+            byte format = buffer.get();
+            long creationTime = buffer.getLong();
+            byte[] sessionId = new byte[buffer.remaining()];
+            buffer.get(sessionId);
+            if (format == HEX_SESSION_ID) {
+                return new SessionCursor(creationTime, toHex(sessionId));
+            } else if (format == TEXT_SESSION_ID) {
+                return new SessionCursor(creationTime, new String(sessionId, StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw buildInvalidCursorException(cursor, e);
+        }
+        throw buildInvalidCursorException(cursor, null);
+    }
+
+    /**
+     * Encode the cursor. Cursors without a session id are not encoded, as they are only built from the legacy
+     * parameters.
+     *
+     * @return Encoded cursor.
+     */
+    public String encode() {
+
+        byte[] sessionIdBytes;
+        byte format;
+        if (isLowerCaseHex(sessionId)) {
+            format = HEX_SESSION_ID;
+            sessionIdBytes = fromHex(sessionId);
+        } else {
+            format = TEXT_SESSION_ID;
+            sessionIdBytes = StringUtils.defaultString(sessionId).getBytes(StandardCharsets.UTF_8);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES + sessionIdBytes.length);
+        buffer.put(format).putLong(creationTime).put(sessionIdBytes);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * Check whether the given session is strictly after the cursor in the given order.
+     *
+     * @param userSession Session.
+     * @param descending  Whether the order is descending.
+     * @return True if the session is after the cursor.
+     */
+    public boolean isAfter(UserSession userSession, boolean descending) {
+
+        long sessionCreationTime = creationTimeOf(userSession);
+        int comparison;
+        if (sessionCreationTime != creationTime) {
+            comparison = Long.compare(sessionCreationTime, creationTime);
+        } else if (sessionId == null) {
+            return false;
+        } else {
+            comparison = sessionIdOf(userSession).compareTo(sessionId);
+        }
+        return descending ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Get the creation time bound of the sessions after the cursor, which is exclusive. Since the sessions with the
+     * same creation time as the cursor may be after it, the creation time of the cursor is included unless the
+     * cursor points to the boundary of the creation time.
+     *
+     * @param descending Whether the order is descending.
+     * @return Exclusive creation time bound.
+     */
+    public long getCreationTimeBound(boolean descending) {
+
+        if (sessionId == null) {
+            return creationTime;
+        }
+        return descending ? creationTime + 1 : creationTime - 1;
+    }
+
+    public long getCreationTime() {
+
+        return creationTime;
+    }
+
+    /**
+     * Get the number of leading sessions of an ordered batch which do not share the creation time of the last
+     * session. When the batch is cut at its size, the rest of the sessions with the last creation time may be beyond
+     * the batch, hence only the leading sessions are certain to be in order with the sessions after the batch.
+     *
+     * @param sessions Sessions ordered by the creation time.
+     * @return Number of sessions before the sessions with the last creation time.
+     */
+    static int countBeforeLastCreationTime(List<UserSession> sessions) {
+
+        int count = sessions.size();
+        if (count == 0) {
+            return 0;
+        }
+        long lastCreationTime = creationTimeOf(sessions.get(count - 1));
+        while (count > 0 && creationTimeOf(sessions.get(count - 1)) == lastCreationTime) {
+            count--;
+        }
+        return count;
+    }
+
+    static long creationTimeOf(UserSession userSession) {
+
+        return userSession.getCreationTime() != null ? userSession.getCreationTime() : 0L;
+    }
+
+    private static String sessionIdOf(UserSession userSession) {
+
+        return StringUtils.defaultString(userSession.getSessionId());
+    }
+
+    private static boolean isLowerCaseHex(String value) {
+
+        if (StringUtils.isEmpty(value) || value.length() % 2 != 0) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] fromHex(String value) {
+
+        byte[] bytes = new byte[value.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(value.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+
+    private static String toHex(byte[] bytes) {
+
+        StringBuilder value = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            value.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return value.toString();
+    }
+
+    private static SessionManagementClientException buildInvalidCursorException(String cursor, Throwable e) {
+
+        String message = String.format(ERROR_CODE_INVALID_DATA.getDescription(), cursor + " is not a valid cursor");
+        return e != null ? new SessionManagementClientException(ERROR_CODE_INVALID_DATA, message, e) :
+                new SessionManagementClientException(ERROR_CODE_INVALID_DATA, message);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.user.common.cache.UserApiCache;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+import org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.function.ExpressionNodesToSessionPredicate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_DATA;
+
+/**
+ * Validated and immutable form of a session search filter. A filter string is parsed and validated once and the
+ * result is kept in a bounded cache keyed by the filter string, so that paging through the results of the same
+ * filter does not parse the filter again.
+ * <p>
+ * The supported attributes and their operators are resolved through a precomputed, case insensitive table. Fresh
+ * expression nodes are handed out for every search, since the nodes are mutable.
+ */
+public final class SessionFilter {
+
+    public static final String CACHE_NAME = "UserAPISessionFilterCache";
+
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final long DEFAULT_TIMEOUT = 3600;
+    private static final List<String> STRING_OPERATIONS = Arrays.asList(SessionMgtConstants.EQ,
+            SessionMgtConstants.SW, SessionMgtConstants.EW, SessionMgtConstants.CO);
+    private static final List<String> TIME_OPERATIONS = Arrays.asList(SessionMgtConstants.LE,
+            SessionMgtConstants.GE);
+    // Supported operations by the attribute. A null value allows any operation.
+    private static final Map<String, Set<String>> SUPPORTED_OPERATIONS = new HashMap<>();
+    private static final Set<String> TIME_ATTRIBUTES = new HashSet<>();
+    private static final SessionFilter EMPTY_FILTER = new SessionFilter(Collections.emptyList());
+    private static final UserApiCache<String, SessionFilter> filterCache = new UserApiCache<>(CACHE_NAME,
+            DEFAULT_CAPACITY, DEFAULT_TIMEOUT);
+
+    static {
+        addSupportedOperations(SessionMgtConstants.FLD_APPLICATION, STRING_OPERATIONS);
+        addSupportedOperations(SessionMgtConstants.FLD_LOGIN_ID, STRING_OPERATIONS);
+        addSupportedOperations(SessionMgtConstants.FLD_SESSION_ID, STRING_OPERATIONS);
+        addSupportedOperations(SessionMgtConstants.FLD_USER_AGENT, STRING_OPERATIONS);
+        addSupportedOperations(SessionMgtConstants.FLD_IP_ADDRESS,
+                Collections.singletonList(SessionMgtConstants.EQ));
+        addSupportedOperations(SessionMgtConstants.FLD_LAST_ACCESS_TIME, TIME_OPERATIONS);
+        addSupportedOperations(SessionMgtConstants.FLD_LOGIN_TIME, TIME_OPERATIONS);
+        addSupportedOperations(SessionMgtConstants.FLD_TIME_CREATED_SINCE, null);
+        addSupportedOperations(SessionMgtConstants.FLD_TIME_CREATED_UNTIL, null);
+        TIME_ATTRIBUTES.add(SessionMgtConstants.FLD_LAST_ACCESS_TIME.toLowerCase(Locale.ENGLISH));
+        TIME_ATTRIBUTES.add(SessionMgtConstants.FLD_LOGIN_TIME.toLowerCase(Locale.ENGLISH));
+    }
+
+    private final List<Expression> expressions;
+    private final Predicate<UserSession> predicate;
+
+    private SessionFilter(List<Expression> expressions) {
+
+        this.expressions = Collections.unmodifiableList(expressions);
+        this.predicate = new ExpressionNodesToSessionPredicate().apply(toExpressionNodes());
+    }
+
+    /**
+     * Get the compiled form of the given filter.
+     *
+     * @param filter Filter string (optional).
+     * @return Compiled filter.
+     * @throws SessionManagementClientException If the filter cannot be parsed or is not valid.
+     */
+    public static SessionFilter compile(String filter) throws SessionManagementClientException {
+
+        if (StringUtils.isBlank(filter)) {
+            return EMPTY_FILTER;
+        }
+        SessionFilter sessionFilter = filterCache.getValueFromCache(filter);
+        if (sessionFilter == null) {
+            List<ExpressionNode> expressionNodes = parse(filter);
+            validate(expressionNodes);
+            List<Expression> expressions = new ArrayList<>(expressionNodes.size());
+            for (ExpressionNode expressionNode : expressionNodes) {
+                expressions.add(new Expression(expressionNode.getAttributeValue(), expressionNode.getOperation(),
+                        expressionNode.getValue()));
+            }
+            sessionFilter = new SessionFilter(expressions);
+            filterCache.addToCache(filter, sessionFilter);
+        }
+        return sessionFilter;
+    }
+
+    /**
+     * Validate the attributes, the operations and the values of the given filter expressions.
+     *
+     * @param expressionNodes Filter expressions.
+     * @throws SessionManagementClientException If an expression is not valid.
+     */
+    public static void validate(List<ExpressionNode> expressionNodes) throws SessionManagementClientException {
+
+        for (ExpressionNode expressionNode : expressionNodes) {
+            String operation = expressionNode.getOperation();
+            String value = expressionNode.getValue();
+            String attribute = expressionNode.getAttributeValue();
+
+            if (StringUtils.isBlank(attribute) || StringUtils.isBlank(operation) || StringUtils.isBlank(value)) {
+                String message = String.format("'%s %s %s' is not a valid filter", attribute, operation, value);
+                throw buildInvalidDataException(message);
+            }
+            String attributeKey = attribute.toLowerCase(Locale.ENGLISH);
+            if (!SUPPORTED_OPERATIONS.containsKey(attributeKey)) {
+                throw buildInvalidDataException(attribute + " is not a valid filter attribute name");
+            }
+            Set<String> supportedOperations = SUPPORTED_OPERATIONS.get(attributeKey);
+            if (supportedOperations != null && !supportedOperations.contains(operation.toLowerCase(Locale.ENGLISH))) {
+                throw buildInvalidDataException(operation + " is not a supported operation for " + attribute);
+            }
+            if (TIME_ATTRIBUTES.contains(attributeKey) && !StringUtils.isNumeric(value)) {
+                throw buildInvalidDataException(attribute + "'s value is not a valid number: " + value);
+            }
+        }
+    }
+
+    /**
+     * Get a new list of expression nodes of the filter.
+     *
+     * @return Modifiable list of new expression nodes.
+     */
+    public List<ExpressionNode> toExpressionNodes() {
+
+        List<ExpressionNode> expressionNodes = new ArrayList<>(expressions.size() + 1);
+        for (Expression expression : expressions) {
+            expressionNodes.add(buildExpressionNode(expression.attribute, expression.operation, expression.value));
+        }
+        return expressionNodes;
+    }
+
+    /**
+     * Get the predicate evaluating the filter against a session.
+     *
+     * @return Predicate of the filter.
+     */
+    public Predicate<UserSession> getPredicate() {
+
+        return predicate;
+    }
+
+    public boolean isEmpty() {
+
+        return expressions.isEmpty();
+    }
+
+    /**
+     * Build an expression node.
+     *
+     * @param attribute Attribute name.
+     * @param operation Operation.
+     * @param value     Value.
+     * @return Expression node.
+     */
+    public static ExpressionNode buildExpressionNode(String attribute, String operation, String value) {
+
+        ExpressionNode expressionNode = new ExpressionNode();
+        expressionNode.setAttributeValue(attribute);
+        expressionNode.setOperation(operation);
+        expressionNode.setValue(value);
+        return expressionNode;
+    }
+
+    private static List<ExpressionNode> parse(String filter) throws SessionManagementClientException {
+
+        List<ExpressionNode> expressionNodes = new ArrayList<>();
+        try {
+            Node rootNode = new FilterTreeBuilder(filter).buildTree();
+            setExpressionNodeList(rootNode, expressionNodes);
+        } catch (IOException | IdentityException e) {
+            String message = "check filter parameter syntax";
+            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    String.format(ERROR_CODE_INVALID_DATA.getDescription(), message), e);
+        }
+        return expressionNodes;
+    }
+
+    private static void setExpressionNodeList(Node node, List<ExpressionNode> expression) {
+
+        if (node instanceof ExpressionNode) {
+            expression.add((ExpressionNode) node);
+        } else if (node instanceof OperationNode) {
+            setExpressionNodeList(node.getLeftNode(), expression);
+            setExpressionNodeList(node.getRightNode(), expression);
+        }
+    }
+
+    private static SessionManagementClientException buildInvalidDataException(String message) {
+
+        return new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
+    }
+
+    private static void addSupportedOperations(String attribute, List<String> operations) {
+
+        Set<String> supportedOperations = null;
+        if (operations != null) {
+            supportedOperations = new HashSet<>();
+            for (String operation : operations) {
+                supportedOperations.add(operation.toLowerCase(Locale.ENGLISH));
+            }
+        }
+        SUPPORTED_OPERATIONS.put(attribute.toLowerCase(Locale.ENGLISH), supportedOperations);
+    }
+
+    /**
+     * Immutable attribute, operation and value of a filter expression.
+     */
+    private static final class Expression {
+
+        private final String attribute;
+        private final String operation;
+        private final String value;
+
+        private Expression(String attribute, String operation, String value) {
+
+            this.attribute = attribute;
+            this.operation = operation;
+            this.value = value;
+        }
+    }
+}
@@ -18,52 +18,83 @@
 
 package org.wso2.carbon.identity.rest.api.user.session.v1.core;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.Util;
 import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.api.user.common.error.ClientAPIError;
+import org.wso2.carbon.identity.api.user.common.error.ErrorDTO;
 import org.wso2.carbon.identity.api.user.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.user.common.error.ErrorTemplate;
 import org.wso2.carbon.identity.api.user.common.function.UserToUniqueId;
+import org.wso2.carbon.identity.api.user.common.realm.UserStoreManagerResolver;
 import org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants;
 import org.wso2.carbon.identity.application.authentication.framework.UserSessionManagementService;
 import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementException;
+import org.wso2.carbon.identity.application.authentication.framework.model.Application;
 import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
-import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
 import org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants;
 import org.wso2.carbon.identity.application.common.model.User;
-import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
-import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
-import org.wso2.carbon.identity.core.model.Node;
-import org.wso2.carbon.identity.core.model.OperationNode;
-import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.function.ExpressionNodesToSessionPredicate;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.function.SessionChangesToExternal;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.function.SessionTerminationJobToExternal;
 import org.wso2.carbon.identity.rest.api.user.session.v1.core.function.UserSessionToExternal;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SearchResponseDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionAggregationDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionChangesDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionGroupDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionTerminationJobDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionsDTO;
+import org.wso2.carbon.user.api.UserRealm;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URLEncoder;
-import java.text.Collator;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.user.common.Constants.ERROR_CODE_DELIMITER;
+import static org.wso2.carbon.identity.api.user.common.Constants.ErrorMessage.ERROR_CODE_SERVER_ERROR;
 import static org.wso2.carbon.identity.api.user.common.ContextLoader.buildURIForBody;
-import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
+import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_SESSION_AGGREGATION_LIMIT_EXCEEDED;
+import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_SESSION_CHANGES_REJECTED;
+import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_SESSION_SEARCH_LIMIT_EXCEEDED;
 import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_SESSION_TERMINATE_FORBIDDEN;
-import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
+import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_SESSION_TERMINATION_JOB_NOT_FOUND;
+import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_SESSION_TERMINATION_JOB_REJECTED;
 import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.ErrorMessage.ERROR_CODE_UNABLE_TO_RETRIEVE_FEDERATED_USERID;
 import static org.wso2.carbon.identity.api.user.session.common.constant.SessionManagementConstants.USER_SESSION_MANAGEMENT_PREFIX;
 import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_DATA;
@@ -77,19 +108,46 @@ public class SessionManagementService {
 
     private final UserSessionManagementService userSessionManagementService;
     private final RealmService realmService;
+    private final SessionChangeTracker sessionChangeTracker;
 
-    private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
     private static final String IS_FEDERATED_USER = "isFederatedUser";
     private static final String IDP_NAME = "idpName";
     private static final Log log = LogFactory.getLog(SessionManagementService.class);
     private static final String SESSIONS_SEARCH_ENDPOINT = "/v1/sessions";
     private static final Integer SESSIONS_SEARCH_DEFAULT_LIMIT = 20;
+    private static final String PAGE_POINTER_SINCE_OPERATION = "gt";
+    private static final String PAGE_POINTER_UNTIL_OPERATION = "lt";
+    private static final int MAX_FETCH_SIZE = 10000;
+    private static final int TERMINATION_BATCH_SIZE = 100;
+    private static final int AGGREGATION_BATCH_SIZE = 1000;
+    private static final int MAX_AGGREGATED_SESSIONS = 100000;
+    private static final long AGGREGATION_TIMEOUT = 30;
+    private static final int MAX_AGGREGATION_GROUPS = 1000;
+    private static final String OTHER_GROUP = "OTHER";
+    private static final int EXPORT_BATCH_SIZE = 1000;
+    private static final ObjectWriter SESSION_WRITER = new ObjectMapper(new JsonFactory().setRootValueSeparator(null))
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .writerFor(SessionDTO.class);
+    private static final ObjectWriter PROJECTED_SESSION_WRITER =
+            SESSION_WRITER.forType(UserSessionToExternal.ProjectedSessionDTO.class);
+    private static final ObjectWriter ERROR_WRITER = SESSION_WRITER.forType(ErrorDTO.class);
+    private static final String EXPORT_ERROR_FIELD = "error";
+    private static final int MAX_TERMINATION_USER_IDS = 100000;
+    private static final int SESSION_CHANGES_DEFAULT_TIMEOUT = 30;
+    private static final int SESSION_CHANGES_MAX_TIMEOUT = 60;
+    private static final Map<SessionManagementConstants.ErrorMessage, ErrorTemplate> ERROR_TEMPLATES =
+            ErrorTemplate.forEnum(SessionManagementConstants.ErrorMessage.class,
+                    SessionManagementConstants.ErrorMessage::getCode,
+                    SessionManagementConstants.ErrorMessage::getMessage,
+                    SessionManagementConstants.ErrorMessage::getDescription);
 
     public SessionManagementService(UserSessionManagementService userSessionManagementService,
                                     RealmService realmService) {
 
         this.userSessionManagementService = userSessionManagementService;
         this.realmService = realmService;
+        this.sessionChangeTracker = new SessionChangeTracker();
     }
 
     /**
@@ -104,13 +162,31 @@ public class SessionManagementService {
      */
     public SessionsDTO getSessionsBySessionId(User user, Integer limit, Integer offset, String filter, String sort) {
 
+        return getSessionsBySessionId(user, limit, offset, filter, sort, null, null);
+    }
+
+    /**
+     * Get all the active sessions of a given user, with only the requested attributes.
+     *
+     * @param user               user
+     * @param limit              limit (optional)
+     * @param offset             offset (optional)
+     * @param filter             filter (optional)
+     * @param sort               sort (optional)
+     * @param attributes         attributes to be returned (optional)
+     * @param excludedAttributes attributes not to be returned (optional)
+     * @return SessionsDTO
+     */
+    public SessionsDTO getSessionsBySessionId(User user, Integer limit, Integer offset, String filter, String sort,
+                                              String attributes, String excludedAttributes) {
+
         String userId;
         if (isFederatedUser() && !isOrganizationUser()) {
             userId = getFederatedUserIdFromUser(user);
         } else {
             userId = getUserIdFromUser(user);
         }
-        return getSessionsByUserId(userId, limit, offset, filter, sort);
+        return getSessionsByUserId(userId, limit, offset, filter, sort, attributes, excludedAttributes);
     }
 
     /**
@@ -146,6 +222,43 @@ public class SessionManagementService {
         terminateSessionsByUserId(userId);
     }
 
+    /**
+     * Wait for the terminations of the sessions of the given user done through this API after the cursor. The
+     * consumer is called at once if there are changes or if no cursor is given, otherwise when a change is recorded
+     * or the timeout elapses, from another thread.
+     *
+     * @param user     user
+     * @param cursor   cursor of the last changes read (optional)
+     * @param timeout  maximum time to wait for a change in seconds (optional)
+     * @param consumer consumer of the changes
+     */
+    public void watchSessionsOfUser(User user, String cursor, Integer timeout, Consumer<SessionChangesDTO> consumer) {
+
+        String userId;
+        if (isFederatedUser() && !isOrganizationUser()) {
+            userId = getFederatedUserIdFromUser(user);
+        } else {
+            userId = getUserIdFromUser(user);
+        }
+        timeout = timeout == null || timeout <= 0 ? SESSION_CHANGES_DEFAULT_TIMEOUT :
+                Math.min(timeout, SESSION_CHANGES_MAX_TIMEOUT);
+        try {
+            if (StringUtils.isBlank(userId)) {
+                throw new SessionManagementClientException(ERROR_CODE_INVALID_USER,
+                        ERROR_CODE_INVALID_USER.getDescription());
+            }
+            boolean accepted = sessionChangeTracker.watch(userId, StringUtils.trimToNull(cursor), timeout,
+                    changes -> consumer.accept(new SessionChangesToExternal().apply(changes)));
+            if (!accepted) {
+                ErrorTemplate errorTemplate = ERROR_TEMPLATES.get(ERROR_CODE_SESSION_CHANGES_REJECTED);
+                throw new APIError(Response.Status.SERVICE_UNAVAILABLE,
+                        errorTemplate.build(log, errorTemplate.getDescription()));
+            }
+        } catch (SessionManagementException e) {
+            throw handleSessionManagementException(e);
+        }
+    }
+
     /**
      * Get all the active sessions of a given user.
      *
@@ -158,16 +271,38 @@ public class SessionManagementService {
      */
     public SessionsDTO getSessionsByUserId(String userId, Integer limit, Integer offset, String filter, String sort) {
 
-        handleNotImplementedCapabilities(limit, offset, filter, sort);
+        return getSessionsByUserId(userId, limit, offset, filter, sort, null, null);
+    }
+
+    /**
+     * Get all the active sessions of a given user, with only the requested attributes.
+     *
+     * @param userId             unique id of the user
+     * @param limit              limit (optional)
+     * @param offset             offset (optional)
+     * @param filter             filter (optional)
+     * @param sort               sort (optional)
+     * @param attributes         attributes to be returned (optional)
+     * @param excludedAttributes attributes not to be returned (optional)
+     * @return SessionsDTO
+     */
+    public SessionsDTO getSessionsByUserId(String userId, Integer limit, Integer offset, String filter, String sort,
+                                           String attributes, String excludedAttributes) {
 
         List<UserSession> sessionsForUser;
         SessionsDTO sessions = null;
         try {
+            validatePagination(limit, offset);
+            SessionFilter sessionFilter = SessionFilter.compile(filter);
+            Comparator<UserSession> comparator = getSessionComparator(sort);
+            SessionAttributes sessionAttributes = SessionAttributes.compile(attributes, excludedAttributes);
+
             if (!StringUtils.isBlank(userId)) {
                 sessions = new SessionsDTO();
                 sessionsForUser = userSessionManagementService.getSessionsByUserId(userId);
                 sessions.setUserId(userId);
-                sessions.setSessions(buildSessionDTOs(sessionsForUser));
+                sessions.setSessions(buildSessionDTOs(sessionsForUser, sessionFilter, comparator, limit, offset,
+                        sessionAttributes));
             }
             return sessions;
 
@@ -213,43 +348,85 @@ public class SessionManagementService {
      */
     public SearchResponseDTO getSessions(String tenantDomain, String filter, Integer limit, Long since, Long until) {
 
+        return getSessions(tenantDomain, filter, limit, since, until, null, null, null, null);
+    }
+
+    /**
+     * Search active sessions on the system. The sessions are ordered by the creation time and then by the session id,
+     * most recent first, and are paged with the opaque cursors of the previous and next page links. Only the requested
+     * attributes of the sessions are returned.
+     *
+     * @param tenantDomain       context tenant domain
+     * @param filter             filter (optional)
+     * @param limit              limit (optional)
+     * @param since              creation time pointer to previous page of results (optional)
+     * @param until              creation time pointer to next page of results (optional)
+     * @param before             cursor pointer to previous page of results (optional)
+     * @param after              cursor pointer to next page of results (optional)
+     * @param attributes         attributes to be returned (optional)
+     * @param excludedAttributes attributes not to be returned (optional)
+     * @return SearchResponseDTO
+     */
+    public SearchResponseDTO getSessions(String tenantDomain, String filter, Integer limit, Long since, Long until,
+                                         String before, String after, String attributes,
+                                         String excludedAttributes) {
+
         try {
-            List<ExpressionNode> filterNodes = getExpressionNodes(filter, since, until);
-            validateSearchFilter(filterNodes);
+            SessionFilter sessionFilter = SessionFilter.compile(filter);
+            SessionAttributes sessionAttributes = SessionAttributes.compile(attributes, excludedAttributes);
+            limit = resolveLimit(limit);
+
+            SessionCursor cursor = null;
+            boolean isPreviousPage = false;
+            if (StringUtils.isNotBlank(before)) {
+                cursor = SessionCursor.decode(before);
+                isPreviousPage = true;
+            } else if (since != null) {
+                cursor = SessionCursor.of(since);
+                isPreviousPage = true;
+            } else if (StringUtils.isNotBlank(after)) {
+                cursor = SessionCursor.decode(after);
+            } else if (until != null) {
+                cursor = SessionCursor.of(until);
+            }
 
-            limit = limit == null || limit <= 0 ? SESSIONS_SEARCH_DEFAULT_LIMIT : limit;
-            String sortOrder = since != null ? SessionMgtConstants.ASC : SessionMgtConstants.DESC;
+            // A previous page is read in the ascending order starting from the cursor, and reversed.
+            List<UserSession> results = getSessionsAfter(tenantDomain, sessionFilter, cursor, !isPreviousPage,
+                    limit);
             SearchResponseDTO response = new SearchResponseDTO();
 
-            List<UserSession> results =
-                    userSessionManagementService.getSessions(tenantDomain, filterNodes, limit + 1, sortOrder);
-
             if (!results.isEmpty()) {
                 boolean hasMoreItems = results.size() > limit;
-                boolean needsReverse = since != null;
-                boolean isFirstPage = (since == null && until == null) || (since != null && !hasMoreItems);
-                boolean isLastPage = !hasMoreItems && (until != null || since == null);
+                boolean isFirstPage = cursor == null || (isPreviousPage && !hasMoreItems);
+                boolean isLastPage = !hasMoreItems && !isPreviousPage;
 
                 String qs = "?limit=" + limit;
                 if (StringUtils.isNotBlank(filter)) {
                     qs += "&filter=" + URLEncoder.encode(filter);
                 }
+                if (StringUtils.isNotBlank(attributes)) {
+                    qs += "&attributes=" + URLEncoder.encode(attributes);
+                }
+                if (StringUtils.isNotBlank(excludedAttributes)) {
+                    qs += "&excludedAttributes=" + URLEncoder.encode(excludedAttributes);
+                }
 
                 if (hasMoreItems) {
                     results.remove(results.size() - 1);
                 }
-                if (needsReverse) {
+                if (isPreviousPage) {
                     Collections.reverse(results);
                 }
 
-                response.setResources(results.stream().map(new UserSessionToExternal()).collect(Collectors.toList()));
+                response.setResources(results.stream().map(new UserSessionToExternal(sessionAttributes))
+                        .collect(Collectors.toList()));
                 if (!isFirstPage) {
-                    response.setPrevious(buildURIForBody(SESSIONS_SEARCH_ENDPOINT + qs + "&since=" +
-                            results.get(0).getCreationTime()));
+                    response.setPrevious(buildURIForBody(SESSIONS_SEARCH_ENDPOINT + qs + "&before=" +
+                            SessionCursor.of(results.get(0)).encode()));
                 }
                 if (!isLastPage) {
-                    response.setNext(buildURIForBody(SESSIONS_SEARCH_ENDPOINT + qs + "&until=" +
-                            results.get(results.size() - 1).getCreationTime()));
+                    response.setNext(buildURIForBody(SESSIONS_SEARCH_ENDPOINT + qs + "&after=" +
+                            SessionCursor.of(results.get(results.size() - 1)).encode()));
                 }
             }
 
@@ -259,6 +436,111 @@ public class SessionManagementService {
         }
     }
 
+    /**
+     * Export the active sessions on the system which match the filter, as newline delimited JSON of the sessions
+     * with the requested attributes, most recent first. The filter and the attributes are validated before the
+     * response is started. The sessions are then read in batches while the response is written, so only a single
+     * batch is held in memory regardless of the number of sessions, and no page links are built.
+     *
+     * @param tenantDomain       context tenant domain
+     * @param filter             filter (optional)
+     * @param attributes         attributes to be returned (optional)
+     * @param excludedAttributes attributes not to be returned (optional)
+     * @return StreamingOutput writing the sessions
+     */
+    public StreamingOutput exportSessions(String tenantDomain, String filter, String attributes,
+                                          String excludedAttributes) {
+
+        try {
+            SessionFilter sessionFilter = SessionFilter.compile(filter);
+            SessionAttributes sessionAttributes = SessionAttributes.compile(attributes, excludedAttributes);
+            return output -> writeSessions(tenantDomain, sessionFilter, sessionAttributes, output);
+        } catch (SessionManagementException e) {
+            throw handleSessionManagementException(e);
+        }
+    }
+
+    /**
+     * Count the active sessions on the system which match the filter, grouped by the given attribute. The sessions
+     * are read in batches and counted in a single pass, without building the session DTOs. A session with many
+     * applications is counted once for each application.
+     * <p>
+     * Up to {@value #MAX_AGGREGATION_GROUPS} distinct values are counted, and the sessions of the values beyond them
+     * are counted under the {@value #OTHER_GROUP} group, so the memory does not grow with the number of sessions. The
+     * count is given up with a 503 once more than {@value #MAX_AGGREGATED_SESSIONS} sessions match the filter, or
+     * once it takes longer than {@value #AGGREGATION_TIMEOUT} seconds.
+     *
+     * @param tenantDomain context tenant domain
+     * @param filter       filter (optional)
+     * @param groupBy      appName, ipAddress or userAgent
+     * @param limit        maximum number of groups to return (optional)
+     * @return SessionAggregationDTO with the groups of the most sessions
+     */
+    public SessionAggregationDTO getSessionAggregation(String tenantDomain, String filter, String groupBy,
+                                                       Integer limit) {
+
+        try {
+            SessionFilter sessionFilter = SessionFilter.compile(filter);
+            Function<UserSession, Collection<String>> groupKeys = getSessionGroupKeys(groupBy);
+            limit = resolveLimit(limit);
+
+            Map<String, long[]> counts = new HashMap<>();
+            long totalSessions = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AGGREGATION_TIMEOUT);
+            SessionCursor cursor = null;
+            boolean hasMoreSessions = true;
+            while (hasMoreSessions) {
+                List<UserSession> sessions = getSessionsAfter(tenantDomain, sessionFilter, cursor, true,
+                        AGGREGATION_BATCH_SIZE);
+                hasMoreSessions = sessions.size() > AGGREGATION_BATCH_SIZE;
+                if (hasMoreSessions) {
+                    sessions.remove(sessions.size() - 1);
+                }
+                if (totalSessions + sessions.size() > MAX_AGGREGATED_SESSIONS) {
+                    throw buildAggregationLimitExceededError("more than " + MAX_AGGREGATED_SESSIONS +
+                            " sessions match the filter");
+                }
+                for (UserSession session : sessions) {
+                    totalSessions++;
+                    for (String key : groupKeys.apply(session)) {
+                        long[] count = counts.get(key);
+                        if (count == null) {
+                            count = counts.computeIfAbsent(counts.size() < MAX_AGGREGATION_GROUPS ? key : OTHER_GROUP,
+                                    k -> new long[1]);
+                        }
+                        count[0]++;
+                    }
+                }
+                if (hasMoreSessions) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        throw buildAggregationLimitExceededError("counting the sessions takes longer than " +
+                                AGGREGATION_TIMEOUT + " seconds");
+                    }
+                    cursor = SessionCursor.of(sessions.get(sessions.size() - 1));
+                }
+            }
+
+            SessionAggregationDTO aggregation = new SessionAggregationDTO();
+            aggregation.setGroupBy(groupBy);
+            aggregation.setTotalSessions(totalSessions);
+            aggregation.setGroups(counts.entrySet().stream()
+                    .sorted(Comparator.<Map.Entry<String, long[]>>comparingLong(entry -> entry.getValue()[0])
+                            .reversed()
+                            .thenComparing(Map.Entry::getKey))
+                    .limit(limit)
+                    .map(entry -> {
+                        SessionGroupDTO group = new SessionGroupDTO();
+                        group.setValue(entry.getKey());
+                        group.setCount(entry.getValue()[0]);
+                        return group;
+                    })
+                    .collect(Collectors.toList()));
+            return aggregation;
+        } catch (SessionManagementException e) {
+            throw handleSessionManagementException(e);
+        }
+    }
+
     /**
      * Terminate the session of the given session id.
      *
@@ -270,6 +552,7 @@ public class SessionManagementService {
         try {
             if (userId != null && sessionId != null) {
                 userSessionManagementService.terminateSessionBySessionId(userId, sessionId);
+                sessionChangeTracker.onSessionTerminated(userId, sessionId);
             } else {
                 throw handleForbiddenAction();
             }
@@ -292,15 +575,460 @@ public class SessionManagementService {
         try {
             if (userId != null) {
                 userSessionManagementService.terminateSessionsByUserId(userId);
+                sessionChangeTracker.onSessionsTerminated(userId);
             }
         } catch (SessionManagementException e) {
             throw handleSessionManagementException(e);
         }
     }
 
-    private List<SessionDTO> buildSessionDTOs(List<UserSession> userSessionList) {
+    /**
+     * Start a job to terminate either all the active sessions of the tenant which match the filter, or all the
+     * sessions of the given users. Sessions matching a filter are read in batches, most recent first, while users
+     * are validated in batches, and the terminations of a batch are run in parallel by a bounded worker pool.
+     *
+     * @param tenantDomain context tenant domain
+     * @param filter       filter (optional)
+     * @param userIds      unique ids of the users (optional)
+     * @return SessionTerminationJobDTO of the queued job
+     */
+    public SessionTerminationJobDTO startSessionTerminationJob(String tenantDomain, String filter,
+                                                               List<String> userIds) {
 
-        return userSessionList.stream().map(new UserSessionToExternal()).collect(Collectors.toList());
+        try {
+            boolean hasUserIds = userIds != null && !userIds.isEmpty();
+            if (StringUtils.isBlank(filter) == !hasUserIds) {
+                throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                        String.format(ERROR_CODE_INVALID_DATA.getDescription(),
+                                "either a filter or a list of user ids is required"));
+            }
+
+            SessionTerminationJob job;
+            SessionTerminationJobExecutor.JobTask task;
+            if (hasUserIds) {
+                List<String> distinctUserIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+                if (distinctUserIds.size() > MAX_TERMINATION_USER_IDS) {
+                    throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                            String.format(ERROR_CODE_INVALID_DATA.getDescription(),
+                                    "at most " + MAX_TERMINATION_USER_IDS + " user ids are allowed"));
+                }
+                String protectedUserId = getProtectedUserId();
+                job = new SessionTerminationJob(tenantDomain, distinctUserIds);
+                task = sessionTerminationJob -> terminateSessionsOfUsers(sessionTerminationJob, protectedUserId);
+            } else {
+                SessionFilter sessionFilter = SessionFilter.compile(filter);
+                job = new SessionTerminationJob(tenantDomain, filter);
+                task = sessionTerminationJob -> terminateSessions(sessionTerminationJob, sessionFilter);
+            }
+            if (!SessionTerminationJobExecutor.getInstance().submit(job, task)) {
+                ErrorTemplate errorTemplate = ERROR_TEMPLATES.get(ERROR_CODE_SESSION_TERMINATION_JOB_REJECTED);
+                throw new APIError(Response.Status.SERVICE_UNAVAILABLE,
+                        errorTemplate.build(log, errorTemplate.getDescription()));
+            }
+            return new SessionTerminationJobToExternal().apply(job);
+        } catch (SessionManagementException e) {
+            throw handleSessionManagementException(e);
+        }
+    }
+
+    /**
+     * Get the progress of a session termination job.
+     *
+     * @param tenantDomain context tenant domain
+     * @param jobId        id of the job
+     * @return SessionTerminationJobDTO
+     */
+    public SessionTerminationJobDTO getSessionTerminationJob(String tenantDomain, String jobId) {
+
+        SessionTerminationJob job = SessionTerminationJobExecutor.getInstance().getJob(tenantDomain, jobId);
+        if (job == null) {
+            ErrorTemplate errorTemplate = ERROR_TEMPLATES.get(ERROR_CODE_SESSION_TERMINATION_JOB_NOT_FOUND)
+                    .withDescriptionData(jobId);
+            throw errorTemplate.toClientError(Response.Status.NOT_FOUND, log, errorTemplate.getDescription());
+        }
+        return new SessionTerminationJobToExternal().apply(job);
+    }
+
+    /**
+     * Filter, sort and page the sessions of a user. Only the sessions of the requested page are transformed to DTOs.
+     *
+     * @param userSessionList sessions of the user
+     * @param sessionFilter   compiled filter
+     * @param comparator      order of the sessions (optional)
+     * @param limit           maximum number of sessions to return (optional)
+     * @param offset          number of sessions to skip (optional)
+     * @return list of session DTOs of the page
+     */
+    private List<SessionDTO> buildSessionDTOs(List<UserSession> userSessionList, SessionFilter sessionFilter,
+                                              Comparator<UserSession> comparator, Integer limit, Integer offset,
+                                              SessionAttributes sessionAttributes) {
+
+        Stream<UserSession> userSessions = userSessionList.stream();
+        if (!sessionFilter.isEmpty()) {
+            userSessions = userSessions.filter(sessionFilter.getPredicate());
+        }
+        if (comparator != null) {
+            userSessions = userSessions.sorted(comparator);
+        }
+        if (offset != null) {
+            userSessions = userSessions.skip(offset);
+        }
+        if (limit != null) {
+            userSessions = userSessions.limit(limit);
+        }
+        return userSessions.map(new UserSessionToExternal(sessionAttributes)).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the sessions strictly after the cursor in the given order, up to one more than the limit. The search can
+     * only bound the creation time, so the creation time of the cursor is read again and the sessions up to the
+     * cursor are dropped. The sessions sharing the last creation time of a full batch are not taken, as the rest
+     * of them may be in the next batch, and the search continues after the creation time of the sessions taken until
+     * the page is filled or the results end. If all the sessions of a full batch share the creation time, the batch
+     * is enlarged instead.
+     * <p>
+     * The batch is enlarged up to {@value #MAX_FETCH_SIZE} sessions. If the sessions of a creation time still fill
+     * the batch, the search cannot order them with the sessions beyond the batch, and a following page would skip
+     * some of them, hence the search fails instead of returning a partial page.
+     *
+     * @param tenantDomain  context tenant domain
+     * @param sessionFilter compiled filter
+     * @param cursor        cursor (optional)
+     * @param descending    whether the sessions are read in the descending order
+     * @param limit         limit, which must be capped by the caller
+     * @return sessions in the given order
+     * @throws SessionManagementException if an error occurs while searching the sessions
+     * @throws APIError                   if more sessions share a creation time than a batch can hold
+     */
+    private List<UserSession> getSessionsAfter(String tenantDomain, SessionFilter sessionFilter, SessionCursor cursor,
+                                               boolean descending, int limit) throws SessionManagementException {
+
+        String sortOrder = descending ? SessionMgtConstants.DESC : SessionMgtConstants.ASC;
+        Comparator<UserSession> order = descending ? SessionCursor.ORDER.reversed() : SessionCursor.ORDER;
+        // The extra session keeps the page filled when only the last session of the batch is held back.
+        int fetchSize = limit + 2;
+        int maxFetchSize = Math.max(fetchSize, MAX_FETCH_SIZE);
+        SessionCursor searchCursor = cursor;
+        List<UserSession> page = new ArrayList<>();
+        while (true) {
+            List<ExpressionNode> filterNodes = sessionFilter.toExpressionNodes();
+            if (searchCursor != null) {
+                String bound = String.valueOf(searchCursor.getCreationTimeBound(descending));
+                filterNodes.add(descending ?
+                        SessionFilter.buildExpressionNode(SessionMgtConstants.FLD_TIME_CREATED_UNTIL,
+                                PAGE_POINTER_UNTIL_OPERATION, bound) :
+                        SessionFilter.buildExpressionNode(SessionMgtConstants.FLD_TIME_CREATED_SINCE,
+                                PAGE_POINTER_SINCE_OPERATION, bound));
+            }
+            List<UserSession> results = new ArrayList<>(
+                    userSessionManagementService.getSessions(tenantDomain, filterNodes, fetchSize, sortOrder));
+            boolean isComplete = results.size() < fetchSize;
+            results.sort(order);
+
+            int certain = isComplete ? results.size() : SessionCursor.countBeforeLastCreationTime(results);
+            for (int i = 0; i < certain && page.size() <= limit; i++) {
+                if (searchCursor == null || searchCursor.isAfter(results.get(i), descending)) {
+                    page.add(results.get(i));
+                }
+            }
+            if (isComplete || page.size() > limit) {
+                return page;
+            }
+            if (certain > 0) {
+                // All the sessions up to the last creation time taken are in the page, so the search continues
+                // after that creation time.
+                searchCursor = SessionCursor.of(SessionCursor.creationTimeOf(results.get(certain - 1)));
+                continue;
+            }
+            if (fetchSize >= maxFetchSize) {
+                long creationTime = SessionCursor.creationTimeOf(results.get(results.size() - 1));
+                log.warn("Unable to read the sessions of the tenant: " + tenantDomain + " in order, as more than "
+                        + maxFetchSize + " sessions share the creation time: " + creationTime + ".");
+                ErrorTemplate errorTemplate = ERROR_TEMPLATES.get(ERROR_CODE_SESSION_SEARCH_LIMIT_EXCEEDED)
+                        .withDescriptionData(maxFetchSize, creationTime);
+                throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                        errorTemplate.build(log, errorTemplate.getDescription()));
+            }
+            fetchSize = Math.min(fetchSize * 2, maxFetchSize);
+        }
+    }
+
+    /**
+     * Write the sessions matching the filter as newline delimited JSON, batch by batch, flushing after each batch.
+     * Since the response is already started when a batch cannot be read, the export then ends with a record which
+     * holds the error under the error field, so that a client can tell a failed export from a complete one.
+     *
+     * @param tenantDomain      context tenant domain
+     * @param sessionFilter     compiled filter
+     * @param sessionAttributes attributes to be returned
+     * @param output            output stream of the response
+     * @throws IOException if an error occurs while writing the sessions
+     */
+    private void writeSessions(String tenantDomain, SessionFilter sessionFilter, SessionAttributes sessionAttributes,
+                               OutputStream output) throws IOException {
+
+        UserSessionToExternal userSessionToExternal = new UserSessionToExternal(sessionAttributes);
+        ObjectWriter sessionWriter = sessionAttributes.isProjected() ? PROJECTED_SESSION_WRITER : SESSION_WRITER;
+        try (JsonGenerator generator = sessionWriter.getFactory().createGenerator(output)) {
+            try {
+                SessionCursor cursor = null;
+                boolean hasMoreSessions = true;
+                while (hasMoreSessions) {
+                    List<UserSession> sessions = getSessionsAfter(tenantDomain, sessionFilter, cursor, true,
+                            EXPORT_BATCH_SIZE);
+                    hasMoreSessions = sessions.size() > EXPORT_BATCH_SIZE;
+                    if (hasMoreSessions) {
+                        sessions.remove(sessions.size() - 1);
+                        cursor = SessionCursor.of(sessions.get(sessions.size() - 1));
+                    }
+                    for (UserSession session : sessions) {
+                        sessionWriter.writeValue(generator, userSessionToExternal.apply(session));
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                }
+            } catch (SessionManagementException e) {
+                writeExportError(generator, handleSessionManagementException(e).getResponseEntity());
+            } catch (APIError e) {
+                writeExportError(generator, e.getResponseEntity());
+            } catch (RuntimeException e) {
+                writeExportError(generator, ERROR_CODE_SERVER_ERROR.getTemplate().build(log, e,
+                        "Error occurred while exporting the sessions of the tenant: " + tenantDomain));
+            }
+        }
+    }
+
+    private void writeExportError(JsonGenerator generator, ErrorDTO error) throws IOException {
+
+        generator.writeStartObject();
+        generator.writeFieldName(EXPORT_ERROR_FIELD);
+        ERROR_WRITER.writeValue(generator, error);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    /**
+     * Terminate the sessions matching the filter of a job, batch by batch. The next batch is read after the cursor
+     * of the last session of the batch, so the sessions that could not be terminated are not read again.
+     *
+     * @param job           session termination job
+     * @param sessionFilter compiled filter of the job
+     * @throws SessionManagementException if an error occurs while searching the sessions
+     */
+    private void terminateSessions(SessionTerminationJob job, SessionFilter sessionFilter)
+            throws SessionManagementException {
+
+        SessionCursor cursor = null;
+        boolean hasMoreSessions = true;
+        while (hasMoreSessions) {
+            List<UserSession> sessions = getSessionsAfter(job.getTenantDomain(), sessionFilter, cursor, true,
+                    TERMINATION_BATCH_SIZE);
+            hasMoreSessions = sessions.size() > TERMINATION_BATCH_SIZE;
+            if (hasMoreSessions) {
+                sessions.remove(sessions.size() - 1);
+            }
+            if (sessions.isEmpty()) {
+                return;
+            }
+            job.addMatchedSessions(sessions.size());
+            SessionTerminationJobExecutor.getInstance().terminate(job, sessions,
+                    session -> userSessionManagementService.terminateSessionBySessionId(session.getUserId(),
+                            session.getSessionId()),
+                    (session, terminated) -> {
+                        if (terminated) {
+                            sessionChangeTracker.onSessionTerminated(session.getUserId(), session.getSessionId());
+                            job.addTerminatedSession();
+                        } else {
+                            job.addFailedSession();
+                        }
+                    });
+            cursor = SessionCursor.of(sessions.get(sessions.size() - 1));
+        }
+    }
+
+    /**
+     * Terminate all the sessions of the users of a job, batch by batch. The users of a batch are validated together
+     * and the protected user is resolved once for the job, instead of once per user.
+     *
+     * @param job             session termination job
+     * @param protectedUserId id of the user whose sessions cannot be terminated by the caller (optional)
+     */
+    private void terminateSessionsOfUsers(SessionTerminationJob job, String protectedUserId) {
+
+        List<String> userIds = job.getUserIds();
+        for (int from = 0; from < userIds.size(); from += TERMINATION_BATCH_SIZE) {
+            int to = Math.min(from + TERMINATION_BATCH_SIZE, userIds.size());
+            Set<String> existingUserIds;
+            try {
+                existingUserIds = Util.getExistingUserIds(realmService, job.getTenantDomain(),
+                        userIds.subList(from, to));
+            } catch (UserSessionException | UserStoreException e) {
+                log.error("Session termination job: " + job.getId() + " failed to validate the users.", e);
+                for (int i = from; i < to; i++) {
+                    job.setUserResult(i, SessionTerminationJob.UserResult.FAILED);
+                }
+                continue;
+            }
+
+            List<Integer> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                String userId = userIds.get(i);
+                if (StringUtils.equals(userId, protectedUserId)) {
+                    job.setUserResult(i, SessionTerminationJob.UserResult.FORBIDDEN);
+                } else if (!existingUserIds.contains(userId)) {
+                    job.setUserResult(i, SessionTerminationJob.UserResult.NOT_FOUND);
+                } else {
+                    batch.add(i);
+                }
+            }
+            SessionTerminationJobExecutor.getInstance().terminate(job, batch,
+                    index -> userSessionManagementService.terminateSessionsByUserId(userIds.get(index)),
+                    (index, terminated) -> {
+                        if (terminated) {
+                            sessionChangeTracker.onSessionsTerminated(userIds.get(index));
+                        }
+                        job.setUserResult(index, terminated ?
+                                SessionTerminationJob.UserResult.TERMINATED : SessionTerminationJob.UserResult.FAILED);
+                    });
+        }
+    }
+
+    /**
+     * Get the id of the administrator of the tenant, whose sessions can only be terminated by the administrator.
+     *
+     * @return unique id of the administrator or null if the caller is the administrator
+     */
+    private String getProtectedUserId() {
+
+        CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+        try {
+            UserRealm userRealm = UserStoreManagerResolver.getInstance().getUserRealm(realmService,
+                    carbonContext.getTenantId());
+            String adminUserName = userRealm.getRealmConfiguration().getAdminUserName();
+            if (StringUtils.equals(carbonContext.getUsername(), adminUserName)) {
+                return null;
+            }
+            return ((AbstractUserStoreManager) userRealm.getUserStoreManager()).getUserIDFromUserName(adminUserName);
+        } catch (UserStoreException e) {
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR, new ErrorResponse.Builder()
+                    .withCode(ERROR_CODE_SERVER_ERROR.getCode())
+                    .withMessage(ERROR_CODE_SERVER_ERROR.getMessage())
+                    .withDescription(ERROR_CODE_SERVER_ERROR.getDescription())
+                    .build(log, e, "Error occurred while resolving the administrator of the tenant."));
+        }
+    }
+
+    /**
+     * Resolve the limit of a session search. The limit is capped by the maximum number of items per page configured
+     * in identity.xml, as it sizes the batches read from the session store.
+     *
+     * @param limit requested limit (optional)
+     * @return limit to be used
+     */
+    private int resolveLimit(Integer limit) {
+
+        if (limit == null || limit <= 0) {
+            return SESSIONS_SEARCH_DEFAULT_LIMIT;
+        }
+        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
+        if (limit > maximumItemsPerPage) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Given limit exceeds the maximum limit. Therefore the limit is set to %s.",
+                        maximumItemsPerPage));
+            }
+            return maximumItemsPerPage;
+        }
+        return limit;
+    }
+
+    private void validatePagination(Integer limit, Integer offset) throws SessionManagementClientException {
+
+        if (limit != null && limit < 0) {
+            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    String.format(ERROR_CODE_INVALID_DATA.getDescription(), "limit cannot be negative"));
+        }
+        if (offset != null && offset < 0) {
+            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    String.format(ERROR_CODE_INVALID_DATA.getDescription(), "offset cannot be negative"));
+        }
+    }
+
+    /**
+     * Get the comparator of the sessions for the given sort criteria. The sort criteria contains the loginTime or the
+     * lastAccessTime attribute, optionally followed by the asc or desc order. Ex: lastAccessTime desc
+     *
+     * @param sort sort criteria (optional)
+     * @return comparator of the sessions or null if the sort criteria is not provided
+     * @throws SessionManagementClientException if the sort criteria is invalid
+     */
+    private Comparator<UserSession> getSessionComparator(String sort) throws SessionManagementClientException {
+
+        if (StringUtils.isBlank(sort)) {
+            return null;
+        }
+        String[] sortCriteria = sort.trim().split("\\s+");
+        if (sortCriteria.length > 2 || (sortCriteria.length == 2 &&
+                !SessionMgtConstants.ASC.equalsIgnoreCase(sortCriteria[1]) &&
+                !SessionMgtConstants.DESC.equalsIgnoreCase(sortCriteria[1]))) {
+            String message = sort + " is not a valid sort criteria";
+            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
+        }
+
+        Function<UserSession, Long> sortAttribute;
+        if (SessionMgtConstants.FLD_LOGIN_TIME.equalsIgnoreCase(sortCriteria[0])) {
+            sortAttribute = session -> ExpressionNodesToSessionPredicate.toTime(session.getLoginTime());
+        } else if (SessionMgtConstants.FLD_LAST_ACCESS_TIME.equalsIgnoreCase(sortCriteria[0])) {
+            sortAttribute = session -> ExpressionNodesToSessionPredicate.toTime(session.getLastAccessTime());
+        } else {
+            String message = sortCriteria[0] + " is not a valid sort attribute name";
+            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
+        }
+
+        Comparator<UserSession> comparator = Comparator.comparing(sortAttribute,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        if (sortCriteria.length == 2 && SessionMgtConstants.DESC.equalsIgnoreCase(sortCriteria[1])) {
+            comparator = comparator.reversed();
+        }
+        return comparator;
+    }
+
+    /**
+     * Get the values of the given attribute of a session to group the session by.
+     *
+     * @param groupBy appName, ipAddress or userAgent
+     * @return function returning the distinct non null values of the attribute of a session
+     * @throws SessionManagementClientException if the attribute is not supported
+     */
+    private Function<UserSession, Collection<String>> getSessionGroupKeys(String groupBy)
+            throws SessionManagementClientException {
+
+        if (SessionMgtConstants.FLD_APPLICATION.equalsIgnoreCase(groupBy)) {
+            return session -> session.getApplications() == null ? Collections.emptySet() :
+                    session.getApplications().stream()
+                            .map(Application::getAppName)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet());
+        } else if (SessionMgtConstants.FLD_IP_ADDRESS.equalsIgnoreCase(groupBy)) {
+            return session -> session.getIp() == null ? Collections.emptySet() :
+                    Collections.singleton(session.getIp());
+        } else if (SessionMgtConstants.FLD_USER_AGENT.equalsIgnoreCase(groupBy)) {
+            return session -> session.getUserAgent() == null ? Collections.emptySet() :
+                    Collections.singleton(session.getUserAgent());
+        }
+        String message = groupBy + " is not a valid group by attribute name";
+        throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
+    }
+
+    private APIError buildAggregationLimitExceededError(String reason) {
+
+        ErrorTemplate errorTemplate = ERROR_TEMPLATES.get(ERROR_CODE_SESSION_AGGREGATION_LIMIT_EXCEEDED)
+                .withDescriptionData(reason);
+        return new APIError(Response.Status.SERVICE_UNAVAILABLE,
+                errorTemplate.build(log, errorTemplate.getDescription()));
     }
 
     private APIError handleSessionManagementException(SessionManagementException e) {
@@ -327,6 +1055,9 @@ public class SessionManagementService {
             status = Response.Status.INTERNAL_SERVER_ERROR;
         }
 
+        if (e instanceof SessionManagementClientException) {
+            return new ClientAPIError(status, errorResponse);
+        }
         return new APIError(status, errorResponse);
     }
 
@@ -338,37 +1069,10 @@ public class SessionManagementService {
                 .withDescription(error.getDescription());
     }
 
-    private ErrorResponse.Builder getErrorBuilder(SessionManagementConstants.ErrorMessage error) {
-
-        return new ErrorResponse.Builder()
-                .withCode(error.getCode())
-                .withMessage(error.getMessage())
-                .withDescription(error.getDescription());
-    }
-
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
-
-        SessionManagementConstants.ErrorMessage errorEnum = null;
-
-        if (limit != null || offset != null) {
-            errorEnum = ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
-            errorEnum = ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(log, errorEnum.getDescription());
-            throw new APIError(Response.Status.NOT_IMPLEMENTED, errorResponse);
-        }
-    }
-
     private APIError handleForbiddenAction() {
 
-        ErrorResponse errorResponse = getErrorBuilder(ERROR_CODE_SESSION_TERMINATE_FORBIDDEN).build(log,
-                ERROR_CODE_SESSION_TERMINATE_FORBIDDEN.getDescription());
-        return new APIError(Response.Status.FORBIDDEN, errorResponse);
+        ErrorTemplate errorTemplate = ERROR_TEMPLATES.get(ERROR_CODE_SESSION_TERMINATE_FORBIDDEN);
+        return errorTemplate.toClientError(Response.Status.FORBIDDEN, log, errorTemplate.getDescription());
     }
 
     private String getUserIdFromUser(User user) {
@@ -386,11 +1090,8 @@ public class SessionManagementService {
         }
         String idpName = (String) IdentityUtil.threadLocalProperties.get().get(IDP_NAME);
         try {
-            int idpId = UserSessionStore.getInstance()
-                    .getIdPId(idpName, IdentityTenantUtil.getTenantId(user.getTenantDomain()));
-            return UserSessionStore.getInstance()
-                    .getUserId(user.getUserName(), IdentityTenantUtil.getTenantId(user.getTenantDomain()),
-                            FEDERATED_USER_DOMAIN, idpId);
+            int tenantId = UserStoreManagerResolver.getInstance().getTenantId(user.getTenantDomain());
+            return FederatedUserResolver.getInstance().getUserId(user.getUserName(), tenantId, idpName);
         } catch (UserSessionException e) {
             String errorDescription =
                     String.format(ERROR_CODE_UNABLE_TO_RETRIEVE_FEDERATED_USERID.getDescription(), user.getUserName(),
@@ -410,128 +1111,9 @@ public class SessionManagementService {
                 (boolean) IdentityUtil.threadLocalProperties.get().get(IS_FEDERATED_USER);
     }
 
-    /**
-     * Get the filter nodes as a list.
-     *
-     * @param filter value of the filter (optional)
-     * @param since  pointer to previous page of results (optional)
-     * @param until  pointer to next page of results (optional)
-     * @return list of filter expressions
-     * @throws SessionManagementClientException if an error occurs while parsing the filter criteria
-     */
-    private List<ExpressionNode> getExpressionNodes(String filter, Long since, Long until)
-            throws SessionManagementClientException {
-
-        List<ExpressionNode> expressionNodes = new ArrayList<>();
-        FilterTreeBuilder filterTreeBuilder;
-        String paginatedFilter = StringUtils.isNotBlank(filter) ? filter : "";
-
-        try {
-            if (since != null) {
-                paginatedFilter += StringUtils.isNotBlank(paginatedFilter)
-                        ? " and since gt " + since
-                        : "since gt " + since;
-            } else if (until != null) {
-                paginatedFilter += StringUtils.isNotBlank(paginatedFilter)
-                        ? " and until lt " + until
-                        : "until lt " + until;
-            }
-            if (StringUtils.isNotBlank(paginatedFilter)) {
-                filterTreeBuilder = new FilterTreeBuilder(paginatedFilter);
-                Node rootNode = filterTreeBuilder.buildTree();
-                setExpressionNodeList(rootNode, expressionNodes);
-            }
-        } catch (IOException | IdentityException e) {
-            String message = "check filter parameter syntax";
-            throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
-                    String.format(ERROR_CODE_INVALID_DATA.getDescription(), message), e);
-        }
-
-        return expressionNodes;
-    }
-
-    /**
-     * Set the node values as list of expression.
-     *
-     * @param node       filter node.
-     * @param expression list of filter expressions
-     */
-    private void setExpressionNodeList(Node node, List<ExpressionNode> expression) {
-
-        if (node instanceof ExpressionNode) {
-            expression.add((ExpressionNode) node);
-        } else if (node instanceof OperationNode) {
-            setExpressionNodeList(node.getLeftNode(), expression);
-            setExpressionNodeList(node.getRightNode(), expression);
-        }
-    }
-
     public void validateSearchFilter(List<ExpressionNode> expressionNodes) throws SessionManagementClientException {
 
-        Collator collator = Collator.getInstance();
-        collator.setStrength(Collator.PRIMARY);
-
-        for (ExpressionNode expressionNode : expressionNodes) {
-            String operation = expressionNode.getOperation();
-            String value = expressionNode.getValue();
-            String attribute = expressionNode.getAttributeValue();
-
-            if (StringUtils.isBlank(attribute) || StringUtils.isBlank(operation) || StringUtils.isBlank(value)) {
-
-                String message = String.format("'%s %s %s' is not a valid filter", attribute, operation, value);
-                throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
-                        String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
-
-            } else if (!collator.equals(attribute, SessionMgtConstants.FLD_APPLICATION) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_IP_ADDRESS) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_LOGIN_ID) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_SESSION_ID) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_USER_AGENT) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_LAST_ACCESS_TIME) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_LOGIN_TIME) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_TIME_CREATED_SINCE) &&
-                    !collator.equals(attribute, SessionMgtConstants.FLD_TIME_CREATED_UNTIL)) {
-
-                String message = attribute + " is not a valid filter attribute name";
-                throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
-                        String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
-
-            } else if (collator.equals(attribute, SessionMgtConstants.FLD_LAST_ACCESS_TIME) ||
-                    collator.equals(attribute, SessionMgtConstants.FLD_LOGIN_TIME)) {
-
-                if (!collator.equals(operation, SessionMgtConstants.LE) &&
-                        !collator.equals(operation, SessionMgtConstants.GE)) {
-                    String message = operation + " is not a supported operation for " + attribute;
-                    throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
-                            String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
-                }
-                if (!StringUtils.isNumeric(value)) {
-                    String message = attribute + "'s value is not a valid number: " + value;
-                    throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
-                            String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
-                }
-
-            } else if (collator.equals(attribute, SessionMgtConstants.FLD_IP_ADDRESS) &&
-                    !collator.equals(operation, SessionMgtConstants.EQ)) {
-
-                String message = operation + " is not a supported operation for " + attribute;
-                throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
-                        String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
-
-            } else if ((collator.equals(attribute, SessionMgtConstants.FLD_APPLICATION) ||
-                    collator.equals(attribute, SessionMgtConstants.FLD_LOGIN_ID) ||
-                    collator.equals(attribute, SessionMgtConstants.FLD_SESSION_ID) ||
-                    collator.equals(attribute, SessionMgtConstants.FLD_USER_AGENT)) &&
-                    !collator.equals(operation, SessionMgtConstants.EQ) &&
-                    !collator.equals(operation, SessionMgtConstants.SW) &&
-                    !collator.equals(operation, SessionMgtConstants.EW) &&
-                    !collator.equals(operation, SessionMgtConstants.CO)) {
-
-                String message = operation + " is not a supported operation for " + attribute;
-                throw new SessionManagementClientException(ERROR_CODE_INVALID_DATA,
-                        String.format(ERROR_CODE_INVALID_DATA.getDescription(), message));
-            }
-        }
+        SessionFilter.validate(expressionNodes);
     }
 
     private boolean isOrganizationUser() {
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.wso2.carbon.identity.api.user.common.job.UserApiJob;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * State of an asynchronous session termination job, which terminates either the sessions matching a filter or all
+ * the sessions of a list of users. The counters and the results of the users are updated by the worker threads while
+ * the job runs, and are read by the status requests without locking.
+ */
+public class SessionTerminationJob extends UserApiJob {
+
+    /**
+     * Result of terminating the sessions of a user.
+     */
+    public enum UserResult {
+        TERMINATED, NOT_FOUND, FORBIDDEN, FAILED
+    }
+
+    private final String filter;
+    private final List<String> userIds;
+    private final AtomicReferenceArray<UserResult> userResults;
+    private final AtomicLong matchedSessions = new AtomicLong();
+    private final AtomicLong terminatedSessions = new AtomicLong();
+    private final AtomicLong failedSessions = new AtomicLong();
+
+    /**
+     * Create a job to terminate the sessions matching the filter.
+     *
+     * @param tenantDomain Tenant domain of the sessions.
+     * @param filter       Filter of the sessions.
+     */
+    public SessionTerminationJob(String tenantDomain, String filter) {
+
+        this(tenantDomain, filter, null);
+    }
+
+    /**
+     * Create a job to terminate all the sessions of the given users.
+     *
+     * @param tenantDomain Tenant domain of the users.
+     * @param userIds      Unique ids of the users, without duplicates.
+     */
+    public SessionTerminationJob(String tenantDomain, List<String> userIds) {
+
+        this(tenantDomain, null, Collections.unmodifiableList(userIds));
+    }
+
+    private SessionTerminationJob(String tenantDomain, String filter, List<String> userIds) {
+
+        super(tenantDomain);
+        this.filter = filter;
+        this.userIds = userIds;
+        this.userResults = userIds != null ? new AtomicReferenceArray<>(userIds.size()) : null;
+    }
+
+    public String getFilter() {
+
+        return filter;
+    }
+
+    /**
+     * Get the users whose sessions are terminated by the job.
+     *
+     * @return Unique ids of the users or null if the job terminates the sessions matching a filter.
+     */
+    public List<String> getUserIds() {
+
+        return userIds;
+    }
+
+    /**
+     * Get the result of the user at the given position of the user ids.
+     *
+     * @param index Position of the user.
+     * @return Result or null if the user is not processed yet.
+     */
+    public UserResult getUserResult(int index) {
+
+        return userResults.get(index);
+    }
+
+    public long getMatchedSessions() {
+
+        return matchedSessions.get();
+    }
+
+    public long getTerminatedSessions() {
+
+        return terminatedSessions.get();
+    }
+
+    public long getFailedSessions() {
+
+        return failedSessions.get();
+    }
+
+    void addMatchedSessions(int count) {
+
+        matchedSessions.addAndGet(count);
+    }
+
+    void addTerminatedSession() {
+
+        terminatedSessions.incrementAndGet();
+    }
+
+    void addFailedSession() {
+
+        failedSessions.incrementAndGet();
+    }
+
+    void setUserResult(int index, UserResult result) {
+
+        userResults.set(index, result);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.job.UserApiJobExecutor;
+import org.wso2.carbon.identity.api.user.common.lifecycle.UserApiLifecycle;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs the session termination jobs in the background on the {@link UserApiJobExecutor} shared by the user APIs.
+ * Each job reads the sessions to be terminated in batches, while a worker pool terminates the sessions of a batch in
+ * parallel. Hence the number of concurrent terminations stays bounded regardless of the number of jobs. The status
+ * of a job can only be read from the node which accepted it. The worker pool is shut down when the user APIs are
+ * shut down.
+ */
+public class SessionTerminationJobExecutor {
+
+    private static final int WORKER_THREADS = 8;
+    private static final Log log = LogFactory.getLog(SessionTerminationJobExecutor.class);
+
+    private static final SessionTerminationJobExecutor instance = new SessionTerminationJobExecutor();
+
+    private final ExecutorService workerPool;
+
+    private SessionTerminationJobExecutor() {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "SessionTerminationWorker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        UserApiLifecycle.getInstance().register("Session termination worker pool", workerPool::shutdownNow);
+    }
+
+    public static SessionTerminationJobExecutor getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Queue a job to be run in the tenant and on behalf of the user of the current carbon context.
+     *
+     * @param job  Job.
+     * @param task Task of the job.
+     * @return Whether the job is accepted. A job is rejected when the maximum number of pending jobs is reached.
+     */
+    public boolean submit(SessionTerminationJob job, JobTask task) {
+
+        return UserApiJobExecutor.getInstance().submit(job, task::run);
+    }
+
+    /**
+     * Get a job of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param jobId        Job id.
+     * @return Job or null if there is no such job on this node or the job has expired.
+     */
+    public SessionTerminationJob getJob(String tenantDomain, String jobId) {
+
+        return UserApiJobExecutor.getInstance().getJob(tenantDomain, jobId, SessionTerminationJob.class);
+    }
+
+    /**
+     * Apply the given termination to each item in parallel on the worker pool and wait until all of them are done.
+     * Must be called from a job task. The termination of an item fails if it throws an exception other than a client
+     * error, which means the sessions are already gone.
+     *
+     * @param job         Job.
+     * @param items       Items to be terminated.
+     * @param termination Termination of an item.
+     * @param result      Receives whether the termination of each item succeeded, on the worker thread.
+     * @param <T>         Item type.
+     */
+    public <T> void terminate(SessionTerminationJob job, List<T> items, Termination<T> termination,
+                              BiConsumer<T, Boolean> result) {
+
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[items.size()];
+        for (int i = 0; i < futures.length; i++) {
+            T item = items.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                startTenantFlow(job.getTenantDomain(), username);
+                boolean terminated = true;
+                try {
+                    termination.terminate(item);
+                } catch (SessionManagementClientException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Session termination job: " + job.getId() + " skipped an item.", e);
+                    }
+                } catch (SessionManagementException | RuntimeException e) {
+                    log.error("Session termination job: " + job.getId() + " failed to terminate an item.", e);
+                    terminated = false;
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+                result.accept(item, terminated);
+            }, workerPool);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static void startTenantFlow(String tenantDomain, String username) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(tenantDomain, true);
+        carbonContext.setUsername(username);
+    }
+
+    /**
+     * Task of a session termination job.
+     */
+    @FunctionalInterface
+    public interface JobTask {
+
+        void run(SessionTerminationJob job) throws SessionManagementException;
+    }
+
+    /**
+     * Termination of a single item of a session termination job.
+     *
+     * @param <T> Item type.
+     */
+    @FunctionalInterface
+    public interface Termination<T> {
+
+        void terminate(T item) throws SessionManagementException;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core.function;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+import org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Transform the validated filter expressions of the session search grammar to a predicate evaluated against the
+ * sessions of a user. The expressions are combined with the 'and' operator and the string comparisons are case
+ * insensitive, as in the session search.
+ */
+public class ExpressionNodesToSessionPredicate implements Function<List<ExpressionNode>, Predicate<UserSession>> {
+
+    private static final String GT = "gt";
+    private static final String LT = "lt";
+
+    @Override
+    public Predicate<UserSession> apply(List<ExpressionNode> expressionNodes) {
+
+        Predicate<UserSession> predicate = session -> true;
+        for (ExpressionNode expressionNode : expressionNodes) {
+            predicate = predicate.and(toPredicate(expressionNode));
+        }
+        return predicate;
+    }
+
+    private Predicate<UserSession> toPredicate(ExpressionNode expressionNode) {
+
+        String attribute = expressionNode.getAttributeValue();
+        String operation = expressionNode.getOperation();
+        String value = expressionNode.getValue();
+
+        if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_LOGIN_ID)) {
+            return session -> matches(session.getUserName(), operation, value);
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_SESSION_ID)) {
+            return session -> matches(session.getSessionId(), operation, value);
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_IP_ADDRESS)) {
+            return session -> matches(session.getIp(), operation, value);
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_USER_AGENT)) {
+            return session -> matches(session.getUserAgent(), operation, value);
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_APPLICATION)) {
+            return session -> session.getApplications() != null && session.getApplications().stream()
+                    .anyMatch(application -> matches(application.getAppName(), operation, value));
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_LOGIN_TIME)) {
+            return toTimePredicate(session -> toTime(session.getLoginTime()), operation, value);
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_LAST_ACCESS_TIME)) {
+            return toTimePredicate(session -> toTime(session.getLastAccessTime()), operation, value);
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_TIME_CREATED_SINCE)) {
+            return toTimePredicate(UserSession::getCreationTime, GT, value);
+        } else if (StringUtils.equalsIgnoreCase(attribute, SessionMgtConstants.FLD_TIME_CREATED_UNTIL)) {
+            return toTimePredicate(UserSession::getCreationTime, LT, value);
+        }
+        return session -> false;
+    }
+
+    private static Predicate<UserSession> toTimePredicate(Function<UserSession, Long> attribute, String operation,
+                                                          String value) {
+
+        Long time = toTime(value);
+        if (time == null) {
+            return session -> false;
+        }
+        return session -> compare(attribute.apply(session), operation, time);
+    }
+
+    private static boolean matches(String attributeValue, String operation, String value) {
+
+        if (attributeValue == null) {
+            return false;
+        }
+        String actual = attributeValue.toLowerCase(Locale.ENGLISH);
+        String expected = value.toLowerCase(Locale.ENGLISH);
+        if (SessionMgtConstants.EQ.equalsIgnoreCase(operation)) {
+            return actual.equals(expected);
+        } else if (SessionMgtConstants.SW.equalsIgnoreCase(operation)) {
+            return actual.startsWith(expected);
+        } else if (SessionMgtConstants.EW.equalsIgnoreCase(operation)) {
+            return actual.endsWith(expected);
+        } else if (SessionMgtConstants.CO.equalsIgnoreCase(operation)) {
+            return actual.contains(expected);
+        }
+        return false;
+    }
+
+    private static boolean compare(Long attributeValue, String operation, long value) {
+
+        if (attributeValue == null) {
+            return false;
+        }
+        if (SessionMgtConstants.LE.equalsIgnoreCase(operation)) {
+            return attributeValue <= value;
+        } else if (SessionMgtConstants.GE.equalsIgnoreCase(operation)) {
+            return attributeValue >= value;
+        } else if (GT.equalsIgnoreCase(operation)) {
+            return attributeValue > value;
+        } else if (LT.equalsIgnoreCase(operation)) {
+            return attributeValue < value;
+        }
+        return false;
+    }
+
+    /**
+     * Parse a login or last access time of a session, which are kept as epoch milliseconds.
+     *
+     * @param time Time as a string.
+     * @return Time in epoch milliseconds or null if the time is not a number.
+     */
+    public static Long toTime(String time) {
+
+        if (StringUtils.isBlank(time)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(time.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
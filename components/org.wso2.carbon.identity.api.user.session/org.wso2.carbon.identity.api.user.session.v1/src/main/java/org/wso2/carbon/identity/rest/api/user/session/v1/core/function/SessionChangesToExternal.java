@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core.function;
+
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.SessionChangeTracker;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionChangeDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionChangesDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Transform internal session changes object to external SessionChangesDTO.
+ */
+public class SessionChangesToExternal implements Function<SessionChangeTracker.SessionChanges, SessionChangesDTO> {
+
+    @Override
+    public SessionChangesDTO apply(SessionChangeTracker.SessionChanges sessionChanges) {
+
+        List<SessionChangeDTO> changeDTOs = new ArrayList<>();
+        for (SessionChangeTracker.SessionChange change : sessionChanges.getChanges()) {
+            SessionChangeDTO changeDTO = new SessionChangeDTO();
+            changeDTO.setType(SessionChangeDTO.TypeEnum.valueOf(change.getType().name()));
+            changeDTO.setSessionId(change.getSessionId());
+            changeDTOs.add(changeDTO);
+        }
+
+        SessionChangesDTO changesDTO = new SessionChangesDTO();
+        changesDTO.setCursor(sessionChanges.getCursor());
+        changesDTO.setReset(sessionChanges.isReset());
+        changesDTO.setChanges(changeDTOs);
+
+        return changesDTO;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core.function;
+
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.SessionTerminationJob;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionTerminationJobDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.UserSessionTerminationResultDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Transform internal session termination job object to external SessionTerminationJobDTO.
+ */
+public class SessionTerminationJobToExternal implements Function<SessionTerminationJob, SessionTerminationJobDTO> {
+
+    @Override
+    public SessionTerminationJobDTO apply(SessionTerminationJob job) {
+
+        SessionTerminationJobDTO jobDTO = new SessionTerminationJobDTO();
+        jobDTO.setId(job.getId());
+        jobDTO.setStatus(SessionTerminationJobDTO.StatusEnum.valueOf(job.getStatus().name()));
+        if (job.getUserIds() != null) {
+            jobDTO.setResults(getUserResults(job));
+        } else {
+            jobDTO.setFilter(job.getFilter());
+            jobDTO.setMatchedSessions(job.getMatchedSessions());
+            jobDTO.setTerminatedSessions(job.getTerminatedSessions());
+            jobDTO.setFailedSessions(job.getFailedSessions());
+        }
+        jobDTO.setCreatedTime(job.getCreatedTime());
+        if (job.getCompletedTime() > 0) {
+            jobDTO.setCompletedTime(job.getCompletedTime());
+        }
+
+        return jobDTO;
+    }
+
+    private List<UserSessionTerminationResultDTO> getUserResults(SessionTerminationJob job) {
+
+        List<String> userIds = job.getUserIds();
+        List<UserSessionTerminationResultDTO> results = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            SessionTerminationJob.UserResult userResult = job.getUserResult(i);
+            if (userResult != null) {
+                UserSessionTerminationResultDTO result = new UserSessionTerminationResultDTO();
+                result.setUserId(userIds.get(i));
+                result.setStatus(UserSessionTerminationResultDTO.StatusEnum.valueOf(userResult.name()));
+                results.add(result);
+            }
+        }
+        return results;
+    }
+}
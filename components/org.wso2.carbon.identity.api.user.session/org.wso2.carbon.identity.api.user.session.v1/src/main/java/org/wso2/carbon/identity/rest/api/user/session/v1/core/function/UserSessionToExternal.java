@@ -18,7 +18,10 @@
 
 package org.wso2.carbon.identity.rest.api.user.session.v1.core.function;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.SessionAttributes;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.SessionAttributes.Attribute;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.ApplicationDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionDTO;
 
@@ -27,27 +30,63 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
- * Transform internal user session object to external SessionDTO.
+ * Transform internal user session object to external SessionDTO, with only the requested attributes. The sessions of
+ * a projection omit the attributes which are not returned, while the other sessions keep the null attributes.
  */
 public class UserSessionToExternal implements Function<UserSession, SessionDTO> {
 
+    private final SessionAttributes attributes;
+
+    public UserSessionToExternal() {
+
+        this(SessionAttributes.ALL);
+    }
+
+    public UserSessionToExternal(SessionAttributes attributes) {
+
+        this.attributes = attributes;
+    }
+
     @Override
     public SessionDTO apply(UserSession userSession) {
 
-        List<ApplicationDTO> appDTOs = userSession.getApplications().stream()
-                .map(new ApplicationToExternal())
-                .collect(Collectors.toList());
-
-        SessionDTO session = new SessionDTO();
-        session.setApplications(appDTOs);
-        session.setIp(userSession.getIp());
-        session.setLastAccessTime(userSession.getLastAccessTime());
-        session.setLoginTime(userSession.getLoginTime());
-        session.setUserAgent(userSession.getUserAgent());
-        session.setUserId(userSession.getUserId());
+        SessionDTO session = attributes.isProjected() ? new ProjectedSessionDTO() : new SessionDTO();
         session.setId(userSession.getSessionId());
-        session.setIdpName(userSession.getIdpName());
+        if (attributes.contains(Attribute.APPLICATIONS)) {
+            List<ApplicationDTO> appDTOs = userSession.getApplications().stream()
+                    .map(new ApplicationToExternal())
+                    .collect(Collectors.toList());
+            session.setApplications(appDTOs);
+        } else {
+            session.setApplications(null);
+        }
+        if (attributes.contains(Attribute.IP)) {
+            session.setIp(userSession.getIp());
+        }
+        if (attributes.contains(Attribute.LAST_ACCESS_TIME)) {
+            session.setLastAccessTime(userSession.getLastAccessTime());
+        }
+        if (attributes.contains(Attribute.LOGIN_TIME)) {
+            session.setLoginTime(userSession.getLoginTime());
+        }
+        if (attributes.contains(Attribute.USER_AGENT)) {
+            session.setUserAgent(userSession.getUserAgent());
+        }
+        if (attributes.contains(Attribute.USER_ID)) {
+            session.setUserId(userSession.getUserId());
+        }
+        if (attributes.contains(Attribute.IDP_NAME)) {
+            session.setIdpName(userSession.getIdpName());
+        }
 
         return session;
     }
+
+    /**
+     * Session which is serialized without its null attributes.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ProjectedSessionDTO extends SessionDTO {
+
+    }
 }
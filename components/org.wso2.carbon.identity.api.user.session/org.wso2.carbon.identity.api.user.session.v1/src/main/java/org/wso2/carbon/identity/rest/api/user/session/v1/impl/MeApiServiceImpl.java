@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.rest.api.user.session.v1.core.SessionManagementS
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionsDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.factories.SessionManagementServiceFactory;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -45,10 +46,11 @@ public class MeApiServiceImpl extends MeApiService {
     }
 
     @Override
-    public Response getSessionsOfLoggedInUser(Integer limit, Integer offset, String filter, String sort) {
+    public Response getSessionsOfLoggedInUser(Integer limit, Integer offset, String filter, String sort,
+                                              String attributes, String excludedAttributes) {
 
         SessionsDTO sessionsOfUser = sessionManagementService.getSessionsBySessionId(getUserFromContext(), limit,
-                offset, filter, sort);
+                offset, filter, sort, attributes, excludedAttributes);
 
         if (sessionsOfUser == null || sessionsOfUser.getSessions().isEmpty()) {
             return Response.ok().entity("{}").type(MediaType.APPLICATION_JSON).build();
@@ -57,6 +59,13 @@ public class MeApiServiceImpl extends MeApiService {
         }
     }
 
+    @Override
+    public void getSessionChangesOfLoggedInUser(String cursor, Integer timeout, AsyncResponse asyncResponse) {
+
+        sessionManagementService.watchSessionsOfUser(getUserFromContext(), cursor, timeout,
+                changes -> asyncResponse.resume(Response.ok().entity(changes).build()));
+    }
+
     @Override
     public Response terminateSessionByLoggedInUser(String sessionId) {
 
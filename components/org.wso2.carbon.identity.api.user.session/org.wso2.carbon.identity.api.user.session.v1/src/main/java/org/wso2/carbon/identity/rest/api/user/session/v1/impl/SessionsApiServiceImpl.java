@@ -22,15 +22,24 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.rest.api.user.session.v1.SessionsApiService;
 import org.wso2.carbon.identity.rest.api.user.session.v1.core.SessionManagementService;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SearchResponseDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionAggregationDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionTerminationJobDTO;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionTerminationRequestDTO;
 import org.wso2.carbon.identity.rest.api.user.session.v1.factories.SessionManagementServiceFactory;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import static org.wso2.carbon.identity.api.user.common.ContextLoader.buildURIForHeader;
 
 /**
  * Implementation of SessionsApi Service.
  */
 public class SessionsApiServiceImpl extends SessionsApiService {
 
+    private static final String SESSION_TERMINATIONS_ENDPOINT = "/v1/sessions/terminations/";
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final SessionManagementService sessionManagementService;
 
     public SessionsApiServiceImpl() {
@@ -43,11 +52,51 @@ public class SessionsApiServiceImpl extends SessionsApiService {
     }
 
     @Override
-    public Response getSessions(String filter, Integer limit, Long since, Long until) {
+    public Response getSessions(String filter, Integer limit, Long since, Long until, String before, String after,
+                                String attributes, String excludedAttributes) {
 
         SearchResponseDTO responseDTO = sessionManagementService.getSessions(IdentityTenantUtil.resolveTenantDomain(),
-                filter, limit, since, until);
+                filter, limit, since, until, before, after, attributes, excludedAttributes);
 
         return Response.ok().entity(responseDTO).build();
     }
+
+    @Override
+    public Response exportSessions(String filter, String attributes, String excludedAttributes) {
+
+        StreamingOutput sessions = sessionManagementService.exportSessions(IdentityTenantUtil.resolveTenantDomain(),
+                filter, attributes, excludedAttributes);
+
+        return Response.ok(sessions, NDJSON_MEDIA_TYPE).build();
+    }
+
+    @Override
+    public Response getSessionAggregation(String groupBy, String filter, Integer limit) {
+
+        SessionAggregationDTO aggregationDTO = sessionManagementService.getSessionAggregation(
+                IdentityTenantUtil.resolveTenantDomain(), filter, groupBy, limit);
+
+        return Response.ok().entity(aggregationDTO).build();
+    }
+
+    @Override
+    public Response createSessionTerminationJob(SessionTerminationRequestDTO body) {
+
+        // A missing body is rejected by the service, as it has neither a filter nor user ids.
+        SessionTerminationJobDTO jobDTO = sessionManagementService.startSessionTerminationJob(
+                IdentityTenantUtil.resolveTenantDomain(), body != null ? body.getFilter() : null,
+                body != null ? body.getUserIds() : null);
+
+        return Response.accepted().entity(jobDTO)
+                .location(buildURIForHeader(SESSION_TERMINATIONS_ENDPOINT + jobDTO.getId())).build();
+    }
+
+    @Override
+    public Response getSessionTerminationJob(String jobId) {
+
+        SessionTerminationJobDTO jobDTO = sessionManagementService.getSessionTerminationJob(
+                IdentityTenantUtil.resolveTenantDomain(), jobId);
+
+        return Response.ok().entity(jobDTO).build();
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.user.common.Util;
+import org.wso2.carbon.identity.api.user.common.realm.UserStoreManagerResolver;
 import org.wso2.carbon.identity.api.user.session.common.util.SessionManagementServiceHolder;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.rest.api.user.session.v1.UserIdApiService;
@@ -71,12 +72,14 @@ public class UserIdApiServiceImpl extends UserIdApiService {
     }
 
     @Override
-    public Response getSessionsByUserId(String userId, Integer limit, Integer offset, String filter, String sort) {
+    public Response getSessionsByUserId(String userId, Integer limit, Integer offset, String filter, String sort,
+                                        String attributes, String excludedAttributes) {
 
         Util.validateUserId(SessionManagementServiceHolder.getRealmService(), userId,
                 IdentityTenantUtil.resolveTenantDomain());
 
-        SessionsDTO sessionsOfUser = sessionManagementService.getSessionsByUserId(userId, limit, offset, filter, sort);
+        SessionsDTO sessionsOfUser = sessionManagementService.getSessionsByUserId(userId, limit, offset, filter, sort,
+                attributes, excludedAttributes);
         if (sessionsOfUser == null || sessionsOfUser.getSessions().isEmpty()) {
             return Response.ok().entity("{}").type(MediaType.APPLICATION_JSON).build();
         } else {
@@ -97,7 +100,9 @@ public class UserIdApiServiceImpl extends UserIdApiService {
     public Response terminateSessionsByUserId(String userId) {
 
         try {
-            UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
+            CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+            UserRealm userRealm = UserStoreManagerResolver.getInstance().getUserRealm(
+                    SessionManagementServiceHolder.getRealmService(), carbonContext.getTenantId());
             AbstractUserStoreManager userStoreManager = (AbstractUserStoreManager) userRealm.getUserStoreManager();
 
             if (userStoreManager == null) {
@@ -107,7 +112,7 @@ public class UserIdApiServiceImpl extends UserIdApiService {
                 return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
             }
 
-            String username = CarbonContext.getThreadLocalCarbonContext().getUsername();
+            String username = carbonContext.getUsername();
             String adminUserName = userRealm.getRealmConfiguration().getAdminUserName();
             String adminUserID = userStoreManager.getUserIDFromUserName(adminUserName);
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.user.common.cache.UserApiCache;
+import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
+import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FederatedUserResolverTest {
+
+    private static final String USERNAME = "john";
+    private static final String IDP_NAME = "Google";
+    private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
+    private static final int TENANT_ID = 1;
+    private static final int IDP_ID = 2;
+    private static final int NEW_IDP_ID = 3;
+
+    private UserSessionStore userSessionStore;
+    private FederatedUserResolver federatedUserResolver;
+
+    @BeforeMethod
+    public void setUp() {
+
+        userSessionStore = mock(UserSessionStore.class);
+        federatedUserResolver = new FederatedUserResolver(userSessionStore,
+                new UserApiCache<>("FederatedUserResolverTestIdPIdCache", 10, 900),
+                new UserApiCache<>("FederatedUserResolverTestUserIdCache", 10, 60));
+    }
+
+    @Test
+    public void testGetUserIdFromCache() throws UserSessionException {
+
+        when(userSessionStore.getIdPId(IDP_NAME, TENANT_ID)).thenReturn(IDP_ID);
+        when(userSessionStore.getUserId(USERNAME, TENANT_ID, FEDERATED_USER_DOMAIN, IDP_ID)).thenReturn("user-1");
+
+        Assert.assertEquals(federatedUserResolver.getUserId(USERNAME, TENANT_ID, IDP_NAME), "user-1");
+        Assert.assertEquals(federatedUserResolver.getUserId(USERNAME, TENANT_ID, IDP_NAME), "user-1");
+
+        verify(userSessionStore, times(1)).getIdPId(IDP_NAME, TENANT_ID);
+        verify(userSessionStore, times(1)).getUserId(USERNAME, TENANT_ID, FEDERATED_USER_DOMAIN, IDP_ID);
+    }
+
+    @Test
+    public void testGetUserIdOfReAddedIdP() throws UserSessionException {
+
+        when(userSessionStore.getIdPId(IDP_NAME, TENANT_ID)).thenReturn(IDP_ID);
+        when(userSessionStore.getUserId("jane", TENANT_ID, FEDERATED_USER_DOMAIN, IDP_ID)).thenReturn("user-2");
+        Assert.assertEquals(federatedUserResolver.getUserId("jane", TENANT_ID, IDP_NAME), "user-2");
+
+        // The identity provider is deleted and added again, so the cached id no longer finds the user.
+        when(userSessionStore.getIdPId(IDP_NAME, TENANT_ID)).thenReturn(NEW_IDP_ID);
+        when(userSessionStore.getUserId(USERNAME, TENANT_ID, FEDERATED_USER_DOMAIN, NEW_IDP_ID))
+                .thenReturn("user-1");
+
+        Assert.assertEquals(federatedUserResolver.getUserId(USERNAME, TENANT_ID, IDP_NAME), "user-1");
+        Assert.assertEquals(federatedUserResolver.getUserId(USERNAME, TENANT_ID, IDP_NAME), "user-1");
+
+        verify(userSessionStore, times(2)).getIdPId(IDP_NAME, TENANT_ID);
+        verify(userSessionStore, times(1)).getUserId(USERNAME, TENANT_ID, FEDERATED_USER_DOMAIN, IDP_ID);
+        verify(userSessionStore, times(1)).getUserId(USERNAME, TENANT_ID, FEDERATED_USER_DOMAIN, NEW_IDP_ID);
+    }
+
+    @Test
+    public void testGetUserIdOfUnknownUser() throws UserSessionException {
+
+        when(userSessionStore.getIdPId(IDP_NAME, TENANT_ID)).thenReturn(IDP_ID);
+        when(userSessionStore.getUserId("jane", TENANT_ID, FEDERATED_USER_DOMAIN, IDP_ID)).thenReturn("user-2");
+        Assert.assertEquals(federatedUserResolver.getUserId("jane", TENANT_ID, IDP_NAME), "user-2");
+
+        // The identity provider id is resolved again, but the user is not looked up again with the same id.
+        Assert.assertNull(federatedUserResolver.getUserId(USERNAME, TENANT_ID, IDP_NAME));
+
+        verify(userSessionStore, times(2)).getIdPId(IDP_NAME, TENANT_ID);
+        verify(userSessionStore, times(1)).getUserId(USERNAME, TENANT_ID, FEDERATED_USER_DOMAIN, IDP_ID);
+    }
+
+    @Test
+    public void testGetUserIdWithoutCachedIdP() throws UserSessionException {
+
+        when(userSessionStore.getIdPId(IDP_NAME, TENANT_ID)).thenReturn(IDP_ID);
+
+        Assert.assertNull(federatedUserResolver.getUserId(USERNAME, TENANT_ID, IDP_NAME));
+
+        verify(userSessionStore, times(1)).getIdPId(IDP_NAME, TENANT_ID);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+public class SessionChangeTrackerTest {
+
+    private static final String USER_ID = "user-1";
+    private static final int TIMEOUT = 30;
+
+    private SessionChangeTracker sessionChangeTracker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        sessionChangeTracker = new SessionChangeTracker();
+    }
+
+    @Test
+    public void testGetChangesAfterCursor() throws SessionManagementClientException {
+
+        String cursor = watch(null).getCursor();
+        sessionChangeTracker.onSessionTerminated(USER_ID, "session-1");
+        sessionChangeTracker.onSessionTerminated(USER_ID, "session-2");
+
+        SessionChangeTracker.SessionChanges changes = watch(cursor);
+
+        Assert.assertFalse(changes.isReset());
+        Assert.assertEquals(getSessionIds(changes), Arrays.asList("session-1", "session-2"));
+        Assert.assertEquals(changes.getChanges().get(0).getType(),
+                SessionChangeTracker.ChangeType.SESSION_TERMINATED);
+        Assert.assertNotEquals(changes.getCursor(), cursor);
+    }
+
+    @Test
+    public void testWaitForChanges() throws SessionManagementClientException {
+
+        String cursor = watch(null).getCursor();
+        AtomicReference<SessionChangeTracker.SessionChanges> result = new AtomicReference<>();
+
+        Assert.assertTrue(sessionChangeTracker.watch(USER_ID, cursor, TIMEOUT, result::set));
+        Assert.assertNull(result.get());
+
+        sessionChangeTracker.onSessionTerminated("user-2", "session-2");
+        Assert.assertNull(result.get());
+
+        sessionChangeTracker.onSessionTerminated(USER_ID, "session-1");
+        Assert.assertNotNull(result.get());
+        Assert.assertFalse(result.get().isReset());
+        Assert.assertEquals(getSessionIds(result.get()), Collections.singletonList("session-1"));
+    }
+
+    @Test
+    public void testWaitTimeout() throws SessionManagementClientException, InterruptedException {
+
+        String cursor = watch(null).getCursor();
+        AtomicReference<SessionChangeTracker.SessionChanges> result = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Assert.assertTrue(sessionChangeTracker.watch(USER_ID, cursor, 0, changes -> {
+            result.set(changes);
+            latch.countDown();
+        }));
+
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertFalse(result.get().isReset());
+        Assert.assertTrue(result.get().getChanges().isEmpty());
+        Assert.assertEquals(result.get().getCursor(), cursor);
+    }
+
+    @Test
+    public void testBufferOverflowResets() throws SessionManagementClientException {
+
+        String cursor = watch(null).getCursor();
+        sessionChangeTracker.onSessionTerminated(USER_ID, "session-0");
+        String coveredCursor = watch(cursor).getCursor();
+        for (int i = 1; i <= 64; i++) {
+            sessionChangeTracker.onSessionTerminated(USER_ID, "session-" + i);
+        }
+
+        SessionChangeTracker.SessionChanges changes = watch(cursor);
+        Assert.assertTrue(changes.isReset());
+        Assert.assertTrue(changes.getChanges().isEmpty());
+
+        changes = watch(coveredCursor);
+        Assert.assertFalse(changes.isReset());
+        Assert.assertEquals(changes.getChanges().size(), 64);
+        Assert.assertEquals(changes.getChanges().get(0).getSessionId(), "session-1");
+    }
+
+    @Test
+    public void testEpochMismatchResets() throws SessionManagementClientException {
+
+        String cursor = watch(null).getCursor();
+        sessionChangeTracker.onSessionTerminated(USER_ID, "session-1");
+
+        // The changes of the user are tracked afresh, as by another node or after the tracking expired.
+        sessionChangeTracker = new SessionChangeTracker();
+        SessionChangeTracker.SessionChanges changes = watch(cursor);
+
+        Assert.assertTrue(changes.isReset());
+        Assert.assertTrue(changes.getChanges().isEmpty());
+        Assert.assertNotEquals(changes.getCursor(), cursor);
+    }
+
+    @Test
+    public void testTerminationOfAllSessionsResets() throws SessionManagementClientException {
+
+        String cursor = watch(null).getCursor();
+        AtomicReference<SessionChangeTracker.SessionChanges> result = new AtomicReference<>();
+        Assert.assertTrue(sessionChangeTracker.watch(USER_ID, cursor, TIMEOUT, result::set));
+
+        sessionChangeTracker.onSessionsTerminated(USER_ID);
+
+        Assert.assertNotNull(result.get());
+        Assert.assertTrue(result.get().isReset());
+        sessionChangeTracker.onSessionTerminated(USER_ID, "session-1");
+        Assert.assertEquals(getSessionIds(watch(result.get().getCursor())),
+                Collections.singletonList("session-1"));
+    }
+
+    @Test(expectedExceptions = SessionManagementClientException.class)
+    public void testInvalidCursor() throws SessionManagementClientException {
+
+        sessionChangeTracker.watch(USER_ID, "not a cursor", TIMEOUT, changes -> {
+        });
+    }
+
+    private SessionChangeTracker.SessionChanges watch(String cursor) throws SessionManagementClientException {
+
+        AtomicReference<SessionChangeTracker.SessionChanges> result = new AtomicReference<>();
+        Assert.assertTrue(sessionChangeTracker.watch(USER_ID, cursor, TIMEOUT, result::set));
+        Assert.assertNotNull(result.get(), "The changes are not returned at once.");
+        return result.get();
+    }
+
+    private List<String> getSessionIds(SessionChangeTracker.SessionChanges changes) {
+
+        return changes.getChanges().stream().map(SessionChangeTracker.SessionChange::getSessionId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SessionCursorTest {
+
+    private static final String HEX_SESSION_ID = "ca9c30abf30ea3755009dd19d54d1d28ebb7b4d2ef0b41bd81c1a9a735404451";
+    private static final long CREATION_TIME = 1620318745450802700L;
+
+    @Test
+    public void testEncodeAndDecodeHexSessionId() throws SessionManagementClientException {
+
+        SessionCursor cursor = SessionCursor.decode(SessionCursor.of(buildSession(HEX_SESSION_ID, CREATION_TIME))
+                .encode());
+
+        Assert.assertEquals(cursor.getCreationTime(), CREATION_TIME);
+        Assert.assertFalse(cursor.isAfter(buildSession(HEX_SESSION_ID, CREATION_TIME), false));
+        Assert.assertTrue(cursor.isAfter(buildSession(HEX_SESSION_ID + "00", CREATION_TIME), false));
+    }
+
+    @Test
+    public void testEncodeAndDecodeTextSessionId() throws SessionManagementClientException {
+
+        String sessionId = "B3F1-session";
+        SessionCursor cursor = SessionCursor.decode(SessionCursor.of(buildSession(sessionId, CREATION_TIME))
+                .encode());
+
+        Assert.assertEquals(cursor.getCreationTime(), CREATION_TIME);
+        Assert.assertFalse(cursor.isAfter(buildSession(sessionId, CREATION_TIME), false));
+        Assert.assertTrue(cursor.isAfter(buildSession(sessionId + "-1", CREATION_TIME), false));
+    }
+
+    @Test(expectedExceptions = SessionManagementClientException.class)
+    public void testDecodeInvalidCursor() throws SessionManagementClientException {
+
+        SessionCursor.decode("not a cursor");
+    }
+
+    @Test(expectedExceptions = SessionManagementClientException.class)
+    public void testDecodeTruncatedCursor() throws SessionManagementClientException {
+
+        SessionCursor.decode("AQAA");
+    }
+
+    @Test
+    public void testIsAfter() {
+
+        SessionCursor cursor = SessionCursor.of(buildSession("b", CREATION_TIME));
+
+        Assert.assertTrue(cursor.isAfter(buildSession("a", CREATION_TIME + 1), false));
+        Assert.assertFalse(cursor.isAfter(buildSession("c", CREATION_TIME - 1), false));
+        Assert.assertTrue(cursor.isAfter(buildSession("c", CREATION_TIME), false));
+        Assert.assertFalse(cursor.isAfter(buildSession("a", CREATION_TIME), false));
+
+        Assert.assertTrue(cursor.isAfter(buildSession("c", CREATION_TIME - 1), true));
+        Assert.assertFalse(cursor.isAfter(buildSession("a", CREATION_TIME + 1), true));
+        Assert.assertTrue(cursor.isAfter(buildSession("a", CREATION_TIME), true));
+        Assert.assertFalse(cursor.isAfter(buildSession("c", CREATION_TIME), true));
+    }
+
+    @Test
+    public void testIsAfterCreationTimeBoundary() {
+
+        SessionCursor cursor = SessionCursor.of(CREATION_TIME);
+
+        Assert.assertFalse(cursor.isAfter(buildSession("a", CREATION_TIME), false));
+        Assert.assertFalse(cursor.isAfter(buildSession("a", CREATION_TIME), true));
+        Assert.assertTrue(cursor.isAfter(buildSession("a", CREATION_TIME + 1), false));
+        Assert.assertTrue(cursor.isAfter(buildSession("a", CREATION_TIME - 1), true));
+        Assert.assertEquals(cursor.getCreationTimeBound(false), CREATION_TIME);
+        Assert.assertEquals(SessionCursor.of(buildSession("a", CREATION_TIME)).getCreationTimeBound(false),
+                CREATION_TIME - 1);
+    }
+
+    @Test
+    public void testCountBeforeLastCreationTime() {
+
+        Assert.assertEquals(SessionCursor.countBeforeLastCreationTime(Collections.emptyList()), 0);
+        Assert.assertEquals(SessionCursor.countBeforeLastCreationTime(Arrays.asList(
+                buildSession("a", 1L), buildSession("b", 2L), buildSession("c", 3L), buildSession("d", 3L))), 2);
+        Assert.assertEquals(SessionCursor.countBeforeLastCreationTime(Arrays.asList(
+                buildSession("a", 3L), buildSession("b", 3L))), 0);
+    }
+
+    private UserSession buildSession(String sessionId, long creationTime) {
+
+        UserSession userSession = new UserSession();
+        userSession.setSessionId(sessionId);
+        userSession.setCreationTime(creationTime);
+        return userSession;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.session.v1.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.user.common.error.APIError;
+import org.wso2.carbon.identity.application.authentication.framework.UserSessionManagementService;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementException;
+import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+import org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionAggregationDTO;
+import org.wso2.carbon.user.core.service.RealmService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SessionManagementServiceTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final long CREATION_TIME = 1620318745450802700L;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private List<UserSession> storedSessions;
+    private SessionManagementService sessionManagementService;
+
+    @BeforeMethod
+    public void setUp() throws SessionManagementException {
+
+        storedSessions = new ArrayList<>();
+        UserSessionManagementService userSessionManagementService = mock(UserSessionManagementService.class);
+        when(userSessionManagementService.getSessions(anyString(), anyList(), any(), anyString()))
+                .thenAnswer(invocation -> search(invocation.getArgument(1), invocation.getArgument(2),
+                        invocation.getArgument(3)));
+        sessionManagementService = new SessionManagementService(userSessionManagementService,
+                mock(RealmService.class));
+    }
+
+    @Test
+    public void testExportSessionsSharingCreationTime() throws IOException {
+
+        // More sessions share the creation time than eight times the export batch, which used to be the largest
+        // batch read before the sessions of the last creation time were skipped.
+        addSessions("before", CREATION_TIME + 1, 5);
+        addSessions("tied", CREATION_TIME, 8 * 1002 + 500);
+        addSessions("after", CREATION_TIME - 1, 1500);
+
+        List<JsonNode> records = export();
+
+        Set<String> exportedIds = new HashSet<>();
+        for (JsonNode record : records) {
+            Assert.assertFalse(record.has("error"), record.toString());
+            Assert.assertTrue(exportedIds.add(record.get("id").asText()), "Session exported twice: " + record);
+        }
+        Assert.assertEquals(exportedIds, storedSessions.stream().map(UserSession::getSessionId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testExportSessionsSharingCreationTimeBeyondSearchLimit() throws IOException {
+
+        addSessions("tied", CREATION_TIME, 10001);
+
+        List<JsonNode> records = export();
+
+        Assert.assertFalse(records.isEmpty());
+        JsonNode lastRecord = records.get(records.size() - 1);
+        Assert.assertTrue(lastRecord.has("error"), lastRecord.toString());
+        Assert.assertTrue(lastRecord.get("error").get("code").asText().endsWith("10015"), lastRecord.toString());
+    }
+
+    @Test
+    public void testAggregateSessionsBeyondMaximumGroups() {
+
+        for (int i = 0; i < 1500; i++) {
+            addSession("session-" + i, CREATION_TIME - i, String.format("10.0.%d.%d", i / 256, i % 256));
+        }
+
+        SessionAggregationDTO aggregation = sessionManagementService.getSessionAggregation(TENANT_DOMAIN, null,
+                SessionMgtConstants.FLD_IP_ADDRESS, null);
+
+        Assert.assertEquals(aggregation.getTotalSessions().longValue(), 1500);
+        Assert.assertEquals(aggregation.getGroups().size(), 20);
+        Assert.assertEquals(aggregation.getGroups().get(0).getValue(), "OTHER");
+        Assert.assertEquals(aggregation.getGroups().get(0).getCount().longValue(), 500);
+        Assert.assertEquals(aggregation.getGroups().get(1).getCount().longValue(), 1);
+    }
+
+    @Test
+    public void testAggregateSessionsBeyondMaximumSessions() {
+
+        for (int i = 0; i <= 100000; i++) {
+            addSession("session-" + i, CREATION_TIME - i, "10.0.0.1");
+        }
+
+        try {
+            sessionManagementService.getSessionAggregation(TENANT_DOMAIN, null, SessionMgtConstants.FLD_IP_ADDRESS,
+                    null);
+            Assert.fail("The sessions are counted beyond the maximum number of sessions.");
+        } catch (APIError e) {
+            Assert.assertEquals(e.getStatus(), Response.Status.SERVICE_UNAVAILABLE);
+            Assert.assertTrue(e.getCode().endsWith("10016"), e.getCode());
+        }
+    }
+
+    private List<JsonNode> export() throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        sessionManagementService.exportSessions(TENANT_DOMAIN, null, "id", null).write(output);
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                records.add(OBJECT_MAPPER.readTree(line));
+            }
+        }
+        return records;
+    }
+
+    private void addSessions(String prefix, long creationTime, int count) {
+
+        for (int i = 0; i < count; i++) {
+            addSession(prefix + "-" + i, creationTime, null);
+        }
+    }
+
+    private void addSession(String sessionId, long creationTime, String ip) {
+
+        UserSession userSession = new UserSession();
+        userSession.setSessionId(sessionId);
+        userSession.setCreationTime(creationTime);
+        userSession.setIp(ip);
+        storedSessions.add(userSession);
+    }
+
+    /**
+     * Search the stored sessions as the session store does, bounding only the creation time and ordering only by
+     * the creation time, so the order of the sessions sharing a creation time differs from search to search.
+     */
+    private List<UserSession> search(List<ExpressionNode> filterNodes, Integer limit, String sortOrder) {
+
+        List<UserSession> results = new ArrayList<>(storedSessions);
+        for (ExpressionNode node : filterNodes) {
+            long bound = Long.parseLong(node.getValue());
+            if (SessionMgtConstants.FLD_TIME_CREATED_UNTIL.equals(node.getAttributeValue())) {
+                results.removeIf(session -> session.getCreationTime() >= bound);
+            } else if (SessionMgtConstants.FLD_TIME_CREATED_SINCE.equals(node.getAttributeValue())) {
+                results.removeIf(session -> session.getCreationTime() <= bound);
+            }
+        }
+        Collections.shuffle(results);
+        Comparator<UserSession> order = Comparator.comparingLong(UserSession::getCreationTime);
+        results.sort(SessionMgtConstants.DESC.equals(sortOrder) ? order.reversed() : order);
+        return new ArrayList<>(results.subList(0, Math.min(limit, results.size())));
+    }
+}
@@ -20,6 +20,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.application.authentication.framework.model.Application;
 import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+import org.wso2.carbon.identity.rest.api.user.session.v1.core.SessionAttributes;
 import org.wso2.carbon.identity.rest.api.user.session.v1.dto.SessionDTO;
 
 import java.util.Arrays;
@@ -50,5 +51,37 @@ public class UserSessionToExternalTest {
         Assert.assertEquals(sessionDTO.getLastAccessTime(), userSession.getLastAccessTime());
         Assert.assertEquals(sessionDTO.getUserAgent(), userSession.getUserAgent());
         Assert.assertEquals(sessionDTO.getApplications().size(), userSession.getApplications().size());
+        Assert.assertEquals(sessionDTO.getClass(), SessionDTO.class);
+    }
+
+    @Test
+    public void testApplyWithAttributes() throws Exception {
+
+        UserSession userSession = new UserSession();
+        userSession.setSessionId("ca9c30abf30ea3755009dd19d54d1d28ebb7b4d2ef0b41bd81c1a9a735404451");
+        userSession.setUserId("00fe873d-dd7a-4157-930c-65bfcbc3f35e");
+        userSession.setLoginTime("1620318746646");
+        userSession.setLastAccessTime("1620318746646");
+        userSession.setUserAgent("Apache-HttpClient/4.5.12 (Java/1.8.0)");
+        userSession.setApplications(Arrays.asList(
+                new Application("john@carbon.super", "User Portal", "1"),
+                new Application("john", "pickup-dispatch", "2")));
+
+        SessionDTO sessionDTO = new UserSessionToExternal(
+                SessionAttributes.compile("loginTime, lastAccessTime", null)).apply(userSession);
+
+        Assert.assertEquals(sessionDTO.getId(), userSession.getSessionId());
+        Assert.assertEquals(sessionDTO.getLoginTime(), userSession.getLoginTime());
+        Assert.assertEquals(sessionDTO.getLastAccessTime(), userSession.getLastAccessTime());
+        Assert.assertNull(sessionDTO.getUserId());
+        Assert.assertNull(sessionDTO.getUserAgent());
+        Assert.assertNull(sessionDTO.getApplications());
+        Assert.assertTrue(sessionDTO instanceof UserSessionToExternal.ProjectedSessionDTO);
+
+        sessionDTO = new UserSessionToExternal(SessionAttributes.compile(null, "applications")).apply(userSession);
+
+        Assert.assertEquals(sessionDTO.getUserId(), userSession.getUserId());
+        Assert.assertEquals(sessionDTO.getUserAgent(), userSession.getUserAgent());
+        Assert.assertNull(sessionDTO.getApplications());
     }
 }